@@ -14,6 +14,12 @@ plugins {
     id("com.github.johnrengelman.shadow") version "8.1.1"
     id("org.danilopianini.gradle-java-qa") version "1.96.0"
     id("com.github.spotbugs") version "6.0.7"
+
+    /*
+     * Adds the "jmh" source set (src/jmh/java) with the micro-benchmarks of the hot paths.
+     * Launch them with the "jmh" task; results are written in build/results/jmh.
+     */
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories { // Where to search for dependencies
@@ -51,6 +57,22 @@ application {
     mainClass.set("com.thelegendofbald.Main")
 }
 
+/*
+ * Micro-benchmarks: ./gradlew jmh
+ * A subset can be selected with -Pbench=<regex>, e.g. -Pbench=CombatBenchmark.
+ * The GC profiler reports the bytes allocated per operation next to the timings.
+ */
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+    jvmArgs.add("-Djava.awt.headless=true")
+    resultFormat.set("JSON")
+    project.findProperty("bench")?.let { includes.add(it.toString()) }
+}
+
 tasks.test {
     useJUnitPlatform()
     testLogging {
@@ -58,3 +80,32 @@ tasks.test {
         showStandardStreams = true
     }
 }
+
+/*
+ * With -Pjfr the game runs with its Flight Recorder events enabled and records them,
+ * together with the JVM events, in build/bald.jfr: ./gradlew run -Pjfr
+ */
+tasks.withType<JavaExec>().configureEach {
+    if (project.hasProperty("jfr")) {
+        jvmArgs(
+            "-Dbald.jfr=true",
+            "-XX:StartFlightRecording=settings=profile,dumponexit=true,filename=${layout.buildDirectory.get()}/bald.jfr",
+        )
+    }
+}
+
+/*
+ * Runs the simulation without a display, as fast as possible, and reports the ticks per second.
+ * Usage: ./gradlew runHeadless -Pticks=20000 -Pscript=path/to/input.txt
+ */
+tasks.register<JavaExec>("runHeadless") {
+    group = "application"
+    description = "Runs the game simulation headless with scripted input."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.thelegendofbald.HeadlessSimulation")
+    jvmArgs("-Djava.awt.headless=true")
+    args(listOfNotNull(
+        project.findProperty("ticks")?.toString() ?: "10000",
+        project.findProperty("script")?.toString(),
+    ))
+}
@@ -0,0 +1,47 @@
+package com.thelegendofbald.benchmark;
+
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Synthetic maps shared by the benchmarks, so that their size can be chosen
+ * freely instead of being bound to the four maps of the game.
+ * <p>
+ * A map is a floor surrounded by walls, with a pillar every
+ * {@value #PILLAR_SPACING} tiles, so that collision checks meet walls
+ * regularly wherever the entities are.
+ * </p>
+ * This is a utility class and cannot be instantiated.
+ */
+final class BenchmarkMaps {
+
+    /** Size of a tile in pixels, the same as the game. */
+    static final int TILE_SIZE = 32;
+
+    private static final int ID_FLOOR = 1;
+    private static final int ID_WALL = 2;
+    private static final int PILLAR_SPACING = 8;
+
+    private BenchmarkMaps() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Creates a square map.
+     *
+     * @param tiles the number of tiles on each side
+     * @return the map, already filled
+     */
+    static TileMap create(final int tiles) {
+        final TileMap map = new TileMap(tiles * TILE_SIZE, tiles * TILE_SIZE, TILE_SIZE);
+        final int[][] data = new int[tiles][tiles];
+        for (int row = 0; row < tiles; row++) {
+            for (int col = 0; col < tiles; col++) {
+                final boolean border = row == 0 || col == 0 || row == tiles - 1 || col == tiles - 1;
+                final boolean pillar = row % PILLAR_SPACING == 0 && col % PILLAR_SPACING == 0;
+                data[row][col] = border || pillar ? ID_WALL : ID_FLOOR;
+            }
+        }
+        map.loadMapData(data);
+        return map;
+    }
+}
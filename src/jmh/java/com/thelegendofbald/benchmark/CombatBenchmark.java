@@ -0,0 +1,147 @@
+package com.thelegendofbald.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.entity.DummyEnemy;
+import com.thelegendofbald.model.item.weapons.MeleeWeapon;
+import com.thelegendofbald.model.item.weapons.Sword;
+import com.thelegendofbald.model.system.CombatManager;
+import com.thelegendofbald.model.system.GameClock;
+import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Collisions of the combat: projectiles against enemies, enemies against Bald
+ * and the melee attack of Bald, with growing numbers of enemies and projectiles.
+ * <p>
+ * Enemies are spread on a grid all over the map and Bald stands in the middle;
+ * everybody has plenty of health, so that nobody dies while measuring.
+ * The log is silenced, since every hit is logged and writing the log file
+ * would be measured instead of the collisions.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CombatBenchmark {
+
+    private static final int MAP_SIZE = 128;
+    private static final int HEALTH = Integer.MAX_VALUE;
+    private static final int ATTACK = 1;
+    private static final int WEAPON_ICON = 50;
+    private static final int PROJECTILE_SPEED = 8;
+    /** Game time elapsed between two checks of the enemy attacks, longer than their cooldown. */
+    private static final long ATTACK_INTERVAL_NANOS = 1_000_000_000L;
+    /** Kept here so that the level set on the logger is not lost with it. */
+    private static final Logger LOG = Logger.getLogger(LoggerUtils.class.getName());
+
+    /** Number of enemies and of projectiles in flight. */
+    @Param({"10", "100", "1000"})
+    private int count;
+
+    private Bald bald;
+    private CombatManager combatManager;
+    private MeleeWeapon sword;
+    private List<DummyEnemy> enemies;
+    private int[] projectileX;
+    private int[] projectileY;
+    private Level logLevel;
+
+    /**
+     * Spreads the enemies, indexes them and chooses where the projectiles are fired from.
+     */
+    @Setup
+    public void setUp() {
+        logLevel = LOG.getLevel();
+        LOG.setLevel(Level.OFF);
+        final TileMap map = BenchmarkMaps.create(MAP_SIZE);
+        final int side = (MAP_SIZE - 2) * BenchmarkMaps.TILE_SIZE;
+        final int middle = MAP_SIZE * BenchmarkMaps.TILE_SIZE / 2;
+        bald = new Bald(middle, middle, HEALTH, "Bald", ATTACK);
+
+        enemies = new ArrayList<>();
+        combatManager = new CombatManager(bald, enemies, BenchmarkMaps.TILE_SIZE);
+        final int perRow = (int) Math.ceil(Math.sqrt(count));
+        final int step = side / perRow;
+        for (int i = 0; i < count; i++) {
+            enemies.add(new DummyEnemy(BenchmarkMaps.TILE_SIZE + i % perRow * step,
+                    BenchmarkMaps.TILE_SIZE + i / perRow * step, HEALTH, "enemy" + i, ATTACK, map));
+        }
+        combatManager.resetEnemies();
+
+        sword = new Sword(0, 0, WEAPON_ICON, WEAPON_ICON, combatManager);
+        bald.setWeapon(sword);
+
+        projectileX = new int[count];
+        projectileY = new int[count];
+        for (int i = 0; i < count; i++) {
+            final DummyEnemy target = enemies.get(i);
+            projectileX[i] = (target.getMinX() + target.getMaxX()) / 2 - PROJECTILE_SPEED;
+            projectileY[i] = (target.getMinY() + target.getMaxY()) / 2;
+        }
+    }
+
+    /**
+     * Restores the log.
+     */
+    @TearDown
+    public void tearDown() {
+        LOG.setLevel(logLevel);
+    }
+
+    /**
+     * Fires a projectile at each enemy and checks them all. The projectiles that hit
+     * are removed, so they are fired again on every invocation; firing is a write into
+     * the pool and weighs little next to the check.
+     *
+     * @return the projectiles left in flight
+     */
+    @Benchmark
+    public int checkProjectiles() {
+        combatManager.getProjectiles().clear();
+        for (int i = 0; i < count; i++) {
+            combatManager.spawnProjectile(projectileX[i], projectileY[i], 0, PROJECTILE_SPEED, ATTACK);
+        }
+        combatManager.checkProjectiles();
+        return combatManager.getProjectiles().size();
+    }
+
+    /**
+     * Checks which enemies touch Bald. The game time is moved past the attack
+     * cooldown first, so that every enemy touching Bald hits him.
+     *
+     * @return Bald, so that the work is not discarded
+     */
+    @Benchmark
+    public Bald checkEnemyAttacks() {
+        GameClock.advance(ATTACK_INTERVAL_NANOS);
+        combatManager.checkEnemyAttacks();
+        return bald;
+    }
+
+    /**
+     * Swings the sword of Bald against the enemies.
+     *
+     * @return the weapon, so that the work is not discarded
+     */
+    @Benchmark
+    public MeleeWeapon performAttack() {
+        sword.performAttack(bald, enemies, null);
+        return sword;
+    }
+}
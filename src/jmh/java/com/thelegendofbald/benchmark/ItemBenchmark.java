@@ -0,0 +1,81 @@
+package com.thelegendofbald.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.item.GameItem;
+import com.thelegendofbald.model.item.ItemGenerator;
+import com.thelegendofbald.model.item.ItemManager;
+import com.thelegendofbald.model.item.loot.LootGenerator;
+import com.thelegendofbald.model.item.map.MapItemLoader;
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Item pickup with many items on the map, {@link ItemManager#handleItemCollection}.
+ * <p>
+ * The items are plain {@link GameItem}s, which Bald touches without consuming,
+ * so that the set of items stays the same across invocations and only the
+ * lookup of the touched items is measured.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemBenchmark {
+
+    private static final int MAP_SIZE = 256;
+    private static final int ITEM_SIZE = 16;
+    private static final int HEALTH = 100;
+    private static final int ATTACK = 10;
+
+    /** Number of items on the map. */
+    @Param({"100", "10000", "100000"})
+    private int itemCount;
+
+    private Bald bald;
+    private ItemManager itemManager;
+
+    /**
+     * Scatters the items evenly on the map, with Bald in the middle.
+     */
+    @Setup
+    public void setUp() {
+        final TileMap map = BenchmarkMaps.create(MAP_SIZE);
+        final ItemGenerator generator = new ItemGenerator();
+        itemManager = new ItemManager(map, generator, new MapItemLoader(),
+                new LootGenerator(generator, List.of()));
+
+        final int side = MAP_SIZE * BenchmarkMaps.TILE_SIZE;
+        final int perRow = (int) Math.ceil(Math.sqrt(itemCount));
+        final int step = Math.max(1, side / perRow);
+        final List<GameItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new GameItem(i % perRow * step, i / perRow * step, ITEM_SIZE, ITEM_SIZE, "item" + i));
+        }
+        itemManager.setItems(items);
+
+        bald = new Bald(side / 2, side / 2, HEALTH, "Bald", ATTACK);
+    }
+
+    /**
+     * Lets Bald pick up whatever it touches.
+     *
+     * @return the item manager, so that the work is not discarded
+     */
+    @Benchmark
+    public ItemManager handleItemCollection() {
+        itemManager.handleItemCollection(bald);
+        return itemManager;
+    }
+}
@@ -0,0 +1,82 @@
+package com.thelegendofbald.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.thelegendofbald.model.system.DataManager;
+import com.thelegendofbald.model.system.GameRun;
+
+/**
+ * Reading of the leaderboard, {@link DataManager#loadGameRuns}, from a
+ * temporary file holding the requested number of runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LeaderboardBenchmark {
+
+    private static final int SECONDS_IN_MINUTE = 60;
+    private static final int MINUTES_IN_HOUR = 60;
+
+    /** Number of runs in the leaderboard. */
+    @Param({"100", "1000", "10000"})
+    private int runs;
+
+    private DataManager dataManager;
+    private Path leaderboard;
+
+    /**
+     * Writes the leaderboard in the same layout as {@link DataManager#saveGameRun}.
+     * The file is written at once, since saving the runs one by one rewrites it every time.
+     *
+     * @throws IOException if the leaderboard cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final StringBuilder yaml = new StringBuilder();
+        for (int i = 0; i < runs; i++) {
+            yaml.append("- name: player").append(i).append('\n')
+                    .append("  timedata:\n")
+                    .append("    hours: ").append(i / (SECONDS_IN_MINUTE * MINUTES_IN_HOUR)).append('\n')
+                    .append("    minutes: ").append(i / SECONDS_IN_MINUTE % MINUTES_IN_HOUR).append('\n')
+                    .append("    seconds: ").append(i % SECONDS_IN_MINUTE).append('\n');
+        }
+        leaderboard = Files.createTempFile("leaderboard", ".yml");
+        Files.writeString(leaderboard, yaml, StandardCharsets.UTF_8);
+        dataManager = new DataManager(leaderboard.toString());
+    }
+
+    /**
+     * Deletes the leaderboard.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(leaderboard);
+    }
+
+    /**
+     * Reads the whole leaderboard.
+     *
+     * @return the runs read
+     */
+    @Benchmark
+    public List<GameRun> loadGameRuns() {
+        return dataManager.loadGameRuns();
+    }
+}
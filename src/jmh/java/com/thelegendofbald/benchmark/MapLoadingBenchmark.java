@@ -0,0 +1,52 @@
+package com.thelegendofbald.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Map changes, {@link TileMap#changeMap}: the map file is read from the
+ * resources and its tiles replace the current ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapLoadingBenchmark {
+
+    private static final int MAP_WIDTH = 1280;
+    private static final int MAP_HEIGHT = 704;
+
+    /** Map of the game to load. */
+    @Param({"map_1", "map_2", "map_3", "map_4"})
+    private String mapName;
+
+    private TileMap tileMap;
+
+    /**
+     * Creates the tile map, loading the tile images once.
+     */
+    @Setup
+    public void setUp() {
+        tileMap = new TileMap(MAP_WIDTH, MAP_HEIGHT, BenchmarkMaps.TILE_SIZE);
+    }
+
+    /**
+     * Loads the map.
+     *
+     * @return the tile map, so that the work is not discarded
+     */
+    @Benchmark
+    public TileMap changeMap() {
+        tileMap.changeMap(mapName);
+        return tileMap;
+    }
+}
@@ -0,0 +1,96 @@
+package com.thelegendofbald.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.entity.DummyEnemy;
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Movement against the tiles of the map: Bald's {@link Bald#move} and the
+ * collision check of the enemies, reached through {@link DummyEnemy#followPlayer(Bald)}
+ * since it is private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MovementBenchmark {
+
+    private static final double DELTA_TIME = 1.0 / 60.0;
+    private static final double SPEED = 200.0;
+    private static final int HEALTH = 100;
+    private static final int ATTACK = 10;
+    private static final int ENEMIES = 100;
+
+    /** Side of the map in tiles. */
+    @Param({"32", "128", "512"})
+    private int mapSize;
+
+    private TileMap map;
+    private Bald bald;
+    private DummyEnemy[] enemies;
+    private int[] spawnX;
+    private int[] spawnY;
+
+    /**
+     * Builds the map, places Bald in the middle and spreads the enemies on the diagonal.
+     */
+    @Setup
+    public void setUp() {
+        map = BenchmarkMaps.create(mapSize);
+        final int middle = mapSize * BenchmarkMaps.TILE_SIZE / 2;
+        bald = new Bald(middle, middle, HEALTH, "Bald", ATTACK);
+        bald.setTileMap(map);
+
+        enemies = new DummyEnemy[ENEMIES];
+        spawnX = new int[ENEMIES];
+        spawnY = new int[ENEMIES];
+        final int step = (mapSize - 2) * BenchmarkMaps.TILE_SIZE / ENEMIES;
+        for (int i = 0; i < ENEMIES; i++) {
+            spawnX[i] = BenchmarkMaps.TILE_SIZE + i * step;
+            spawnY[i] = BenchmarkMaps.TILE_SIZE + (ENEMIES - 1 - i) * step;
+            enemies[i] = new DummyEnemy(spawnX[i], spawnY[i], HEALTH, "enemy" + i, ATTACK, map);
+        }
+    }
+
+    /**
+     * Moves Bald diagonally forth and back, so that it stays around the same tiles.
+     *
+     * @return Bald, so that the work is not discarded
+     */
+    @Benchmark
+    public Bald baldMove() {
+        bald.setSpeedX(SPEED);
+        bald.setSpeedY(SPEED);
+        bald.move(map, DELTA_TIME);
+        bald.setSpeedX(-SPEED);
+        bald.setSpeedY(-SPEED);
+        bald.move(map, DELTA_TIME);
+        return bald;
+    }
+
+    /**
+     * Moves every enemy one step towards Bald, checking its collisions with the tiles.
+     * The enemies are put back on their spawn first, so that they never gather on Bald.
+     *
+     * @return the enemies, so that the work is not discarded
+     */
+    @Benchmark
+    public DummyEnemy[] enemyFollowPlayer() {
+        for (int i = 0; i < enemies.length; i++) {
+            enemies[i].setX(spawnX[i]);
+            enemies[i].setY(spawnY[i]);
+            enemies[i].followPlayer(bald);
+        }
+        return enemies;
+    }
+}
@@ -0,0 +1,189 @@
+package com.thelegendofbald;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import com.thelegendofbald.controller.GameEngine;
+import com.thelegendofbald.controller.GameEngineMetrics;
+import com.thelegendofbald.controller.input.InputController;
+import com.thelegendofbald.controller.input.InputSource;
+import com.thelegendofbald.controller.input.ScriptedInputSource;
+import com.thelegendofbald.controller.level.LevelManager;
+import com.thelegendofbald.controller.replay.RecordingInputSource;
+import com.thelegendofbald.controller.replay.ReplayInputSource;
+import com.thelegendofbald.controller.replay.SessionLog;
+import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.entity.DummyEnemy;
+import com.thelegendofbald.model.item.weapons.Sword;
+import com.thelegendofbald.model.system.CombatManager;
+import com.thelegendofbald.model.system.Timer;
+import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.view.render.NullRenderSink;
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Entry point running the game simulation without a display.
+ * <p>
+ * The same levels, combat and items as the game are wired to a
+ * {@link NullRenderSink} and to a scripted input, and fixed ticks are run back
+ * to back as fast as possible, reporting the raw ticks per second. This allows
+ * measuring and profiling the simulation apart from Swing, also on machines
+ * without a display ({@code -Djava.awt.headless=true}).
+ * </p>
+ * Usage:
+ * <ul>
+ * <li>{@code HeadlessSimulation <ticks> [script] [--record <log>]} runs a script, see
+ * {@link ScriptedInputSource} for its format, optionally recording the session in a
+ * {@link SessionLog}. Without a script Bald stands still.</li>
+ * <li>{@code HeadlessSimulation --replay <log> [--realtime]} replays a recorded session,
+ * fast-forwarding through it unless {@code --realtime} paces it at the game's tick rate,
+ * and reports whether the same states were reached.</li>
+ * </ul>
+ * This is a utility class and cannot be instantiated.
+ */
+public final class HeadlessSimulation {
+
+    private static final int DEFAULT_TICKS = 10_000;
+    private static final int MAP_WIDTH = 1280;
+    private static final int MAP_HEIGHT = 704;
+    private static final int TILE_SIZE = 32;
+    private static final int BALD_X = 60;
+    private static final int BALD_Y = 60;
+    private static final int BALD_HEALTH = 100;
+    private static final int BALD_ATTACK = 50;
+    private static final int WEAPON_ICON = 50;
+    private static final double NANOS_IN_SECOND = 1e9;
+    private static final long REALTIME_TICK_NANOS = 1_000_000_000L / 60;
+    private static final String RECORD = "--record";
+    private static final String REPLAY = "--replay";
+    private static final String REALTIME = "--realtime";
+
+    private HeadlessSimulation() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @param args the number of ticks, optionally followed by the path of an input script and
+     *             by {@code --record <log>}; or {@code --replay <log>}, optionally followed by
+     *             {@code --realtime}
+     * @throws IOException if the script or the log cannot be read, or the log cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length > 1 && REPLAY.equals(args[0])) {
+            replay(SessionLog.read(Path.of(args[1])), args.length > 2 && REALTIME.equals(args[2]));
+        } else {
+            simulate(args);
+        }
+        LoggerUtils.closeLogger();
+    }
+
+    private static void simulate(final String[] args) throws IOException {
+        final List<String> positional = new ArrayList<>();
+        Path recordPath = null;
+        for (int i = 0; i < args.length; i++) {
+            if (RECORD.equals(args[i]) && i + 1 < args.length) {
+                recordPath = Path.of(args[++i]);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        final int ticks = positional.isEmpty() ? DEFAULT_TICKS : Integer.parseInt(positional.get(0));
+        final InputSource script = positional.size() > 1
+                ? ScriptedInputSource.fromFile(Path.of(positional.get(1)))
+                : new ScriptedInputSource(List.of());
+
+        final SessionLog log = recordPath != null ? SessionLog.create() : null;
+        final RecordingInputSource recorder = new RecordingInputSource(script);
+        final GameEngine engine = createEngine(recorder, log);
+        if (log != null) {
+            recorder.start(log);
+            engine.setTickListener(recorder);
+        }
+
+        final long start = System.nanoTime();
+        final int done = engine.runTicks(ticks);
+        report(engine, done, System.nanoTime() - start);
+
+        if (log != null) {
+            recorder.stop().write(recordPath);
+            LoggerUtils.info("Session recorded to " + recordPath);
+        }
+    }
+
+    private static void replay(final SessionLog log, final boolean realtime) {
+        final ReplayInputSource replay = new ReplayInputSource(log);
+        final GameEngine engine = createEngine(replay, log);
+        engine.setTickListener(replay);
+
+        final long start = System.nanoTime();
+        int done = 0;
+        if (realtime) {
+            long deadline = start;
+            while (!replay.isFinished() && engine.runTicks(1) == 1) {
+                done++;
+                deadline += REALTIME_TICK_NANOS;
+                LockSupport.parkNanos(deadline - System.nanoTime());
+            }
+        } else {
+            done = engine.runTicks(log.getTickCount());
+        }
+        report(engine, done, System.nanoTime() - start);
+
+        if (replay.getDivergentTick() == ReplayInputSource.NO_DIVERGENCE && done == log.getTickCount()) {
+            LoggerUtils.info("Replay matches the recording (" + done + " ticks)");
+        } else {
+            LoggerUtils.error(String.format("Replay differs from the recording: %d ticks of %d, first divergent tick: %d",
+                    done, log.getTickCount(), replay.getDivergentTick()));
+        }
+    }
+
+    private static void report(final GameEngine engine, final int done, final long nanos) {
+        final double seconds = nanos / NANOS_IN_SECOND;
+        LoggerUtils.info(String.format("Simulated %d ticks in %.3f s: %.0f ticks/s%s",
+                done, seconds, done / seconds,
+                engine.isGameOver() ? " (game over)" : engine.isGameWon() ? " (victory)" : ""));
+    }
+
+    /**
+     * Wires a game engine like the game panel does, without any view.
+     *
+     * @param input the source of the player's input
+     * @return an engine ready for {@link GameEngine#runTicks(int)}
+     */
+    public static GameEngine createEngine(final InputSource input) {
+        return createEngine(input, null);
+    }
+
+    /**
+     * Wires a game engine like the game panel does, without any view, starting
+     * from the initial state of a recorded session.
+     *
+     * @param input the source of the player's input
+     * @param log   the session whose initial state is restored, or null to keep the current game time
+     * @return an engine ready for {@link GameEngine#runTicks(int)}
+     */
+    public static GameEngine createEngine(final InputSource input, final SessionLog log) {
+        final Bald bald = new Bald(BALD_X, BALD_Y, BALD_HEALTH, "Bald", BALD_ATTACK);
+        final TileMap tileMap = new TileMap(MAP_WIDTH, MAP_HEIGHT, TILE_SIZE);
+        final List<DummyEnemy> enemies = new ArrayList<>();
+        final CombatManager combatManager = new CombatManager(bald, enemies, tileMap.getTileSize());
+        bald.setWeapon(new Sword(0, 0, WEAPON_ICON, WEAPON_ICON, combatManager));
+
+        final LevelManager levelManager = new LevelManager(tileMap, bald, combatManager, enemies);
+        levelManager.loadInitialMap();
+        if (log != null) {
+            log.restoreInitialState(levelManager);
+        }
+
+        final InputController inputController = new InputController(input, bald, combatManager, levelManager);
+        final GameEngine engine = new GameEngine(new NullRenderSink(), bald, levelManager, combatManager,
+                inputController, new Timer());
+        GameEngineMetrics.register(engine, levelManager, combatManager);
+        return engine;
+    }
+}
@@ -1,22 +1,22 @@
 package com.thelegendofbald.combat;
 
-import java.awt.Color;
-import java.awt.Graphics;
 import java.awt.Rectangle;
 
 import com.thelegendofbald.model.entity.Entity;
 import com.thelegendofbald.model.entity.LifeComponent;
-import com.thelegendofbald.view.render.Tile;
 import com.thelegendofbald.view.render.TileMap;
 
 /**
  * Simple projectile that moves in a straight line and deactivates on solid-tile collision.
+ * <p>
+ * The projectiles fired in game live in a {@link ProjectilePool}; this class
+ * models a single projectile as an entity and shares the pool's swept wall check.
+ * </p>
  */
 public final class Projectile extends Entity implements Combatant {
 
-    private static final int WIDTH = 6;
-    private static final int HEIGHT = 6;
-    private static final int CORNER_OFFSET = 5;
+    private static final int WIDTH = ProjectilePool.WIDTH;
+    private static final int HEIGHT = ProjectilePool.HEIGHT;
     private static final int DIR_RIGHT = 0;
     private static final int DIR_LEFT = 1;
 
@@ -58,37 +58,15 @@ public final class Projectile extends Entity implements Combatant {
             nextX = getX();
         }
 
-        final int[][] points = {
-            { nextX, nextY },
-            { nextX + CORNER_OFFSET, nextY },
-            { nextX, nextY + CORNER_OFFSET },
-            { nextX + CORNER_OFFSET, nextY + CORNER_OFFSET },
-        };
-
-        for (final int[] p : points) {
-            final int tileX = p[0] / tileMap.getTileSize();
-            final int tileY = p[1] / tileMap.getTileSize();
-            final Tile tile = tileMap.getTileAt(tileX, tileY);
-            if (tile != null && tile.isSolid()) {
-                this.active = false;
-                return;
-            }
+        if (ProjectilePool.wallContactTime(tileMap, getX(), getY(), nextX - getX(), nextY - getY()) <= 1.0) {
+            this.active = false;
+            return;
         }
 
         setX(nextX);
         setY(nextY);
     }
 
-    /**
-     * Renders the projectile as a filled circle.
-     *
-     * @param g graphics context
-     */
-    public void render(final Graphics g) {
-        g.setColor(Color.YELLOW);
-        g.fillOval(getX(), getY(), WIDTH, HEIGHT);
-    }
-
     /** {@inheritDoc} */
     @Override
     public Rectangle getBounds() {
@@ -0,0 +1,363 @@
+package com.thelegendofbald.combat;
+
+import java.awt.Color;
+
+import com.thelegendofbald.view.render.RenderState;
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Fixed-capacity pool of the projectiles in flight.
+ * <p>
+ * Projectiles are stored as parallel primitive arrays instead of objects, and
+ * the live ones always occupy the indexes {@code [0, size())}: removing one
+ * moves the last projectile into its slot. Spawning, moving and removing
+ * projectiles therefore never allocate, however many of them are alive.
+ * </p>
+ * <p>
+ * Collisions are swept: every tick the pool remembers the segment travelled by
+ * each projectile, walls are found by walking the tiles crossed by the corners
+ * of its box, and {@link #hitTime} tests the whole segment against a target box.
+ * Hits are therefore exact at any speed, and a projectile only costs the cells
+ * it actually crosses.
+ * </p>
+ * Indexes are only stable until the next removal.
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class ProjectilePool {
+
+    /** Width of a projectile in pixels. */
+    public static final int WIDTH = 6;
+    /** Height of a projectile in pixels. */
+    public static final int HEIGHT = 6;
+    /** Offset of the far corners probed for wall collisions. */
+    private static final int CORNER_OFFSET = 5;
+    private static final Color COLOR = Color.YELLOW;
+
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] previousXs;
+    private final int[] previousYs;
+    private final int[] velocitiesX;
+    private final int[] velocitiesY;
+    private final int[] damages;
+    /** False once a projectile has hit a wall or left the map; it is removed by the next hit check. */
+    private final boolean[] alive;
+    /** Position at the start of the last move. */
+    private final int[] startXs;
+    private final int[] startYs;
+    /** Fraction of the last move travelled before touching a wall, 1 if none was touched. */
+    private final float[] reaches;
+    private int size;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param capacity maximum number of projectiles in flight
+     */
+    public ProjectilePool(final int capacity) {
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+        this.previousXs = new int[capacity];
+        this.previousYs = new int[capacity];
+        this.velocitiesX = new int[capacity];
+        this.velocitiesY = new int[capacity];
+        this.damages = new int[capacity];
+        this.alive = new boolean[capacity];
+        this.startXs = new int[capacity];
+        this.startYs = new int[capacity];
+        this.reaches = new float[capacity];
+    }
+
+    /**
+     * Adds a projectile.
+     *
+     * @param x      start x in pixels
+     * @param y      start y in pixels
+     * @param vx     horizontal speed in pixels per tick
+     * @param vy     vertical speed in pixels per tick
+     * @param damage attack power of the projectile
+     * @return false if the pool is full and the projectile was dropped
+     */
+    public boolean spawn(final int x, final int y, final int vx, final int vy, final int damage) {
+        if (size == xs.length) {
+            return false;
+        }
+        final int i = size++;
+        xs[i] = x;
+        ys[i] = y;
+        previousXs[i] = x;
+        previousYs[i] = y;
+        velocitiesX[i] = vx;
+        velocitiesY[i] = vy;
+        damages[i] = damage;
+        alive[i] = true;
+        startXs[i] = x;
+        startYs[i] = y;
+        reaches[i] = 0f;
+        return true;
+    }
+
+    /**
+     * Removes a projectile, moving the last one into its index.
+     *
+     * @param i index of the projectile
+     */
+    public void remove(final int i) {
+        final int last = --size;
+        xs[i] = xs[last];
+        ys[i] = ys[last];
+        previousXs[i] = previousXs[last];
+        previousYs[i] = previousYs[last];
+        velocitiesX[i] = velocitiesX[last];
+        velocitiesY[i] = velocitiesY[last];
+        damages[i] = damages[last];
+        alive[i] = alive[last];
+        startXs[i] = startXs[last];
+        startYs[i] = startYs[last];
+        reaches[i] = reaches[last];
+    }
+
+    /**
+     * Removes every projectile.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return the number of projectiles in flight
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Stores the current positions as the previous ones, for render interpolation.
+     */
+    public void storePreviousPositions() {
+        System.arraycopy(xs, 0, previousXs, 0, size);
+        System.arraycopy(ys, 0, previousYs, 0, size);
+    }
+
+    /**
+     * Advances every projectile, deactivating those whose path touches a solid
+     * tile and those that end up outside the map, e.g. through a gap in the
+     * walls, where no tile would ever stop them.
+     * Deactivated projectiles stay where they are until they are removed, but
+     * can still hit targets along the part of the path before the wall.
+     *
+     * @param tileMap current map used for collision checks
+     */
+    public void move(final TileMap tileMap) {
+        final int mapWidth = tileMap.getMapWidthInTiles() * tileMap.getTileSize();
+        final int mapHeight = tileMap.getMapHeightInTiles() * tileMap.getTileSize();
+        for (int i = 0; i < size; i++) {
+            if (alive[i]) {
+                startXs[i] = xs[i];
+                startYs[i] = ys[i];
+                final double contact = wallContactTime(tileMap, xs[i], ys[i], velocitiesX[i], velocitiesY[i]);
+                if (contact <= 1.0) {
+                    alive[i] = false;
+                    reaches[i] = (float) contact;
+                } else {
+                    xs[i] += velocitiesX[i];
+                    ys[i] += velocitiesY[i];
+                    reaches[i] = 1f;
+                    alive[i] = xs[i] + WIDTH > 0 && xs[i] < mapWidth && ys[i] + HEIGHT > 0 && ys[i] < mapHeight;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds when a projectile moving by {@code (vx, vy)} first touches a solid
+     * tile. Since a projectile is smaller than a tile, it can only overlap a tile
+     * if one of its corners is inside it, so the tiles crossed by the four
+     * corners are walked with a grid traversal.
+     *
+     * @param tileMap current map
+     * @param x       x of the projectile at the start of the move
+     * @param y       y of the projectile at the start of the move
+     * @param vx      horizontal displacement
+     * @param vy      vertical displacement
+     * @return the fraction of the move at which a solid tile is first touched,
+     *         0 if it already overlaps one, or {@link Double#POSITIVE_INFINITY} if none
+     */
+    static double wallContactTime(final TileMap tileMap, final int x, final int y, final int vx, final int vy) {
+        double contact = Double.POSITIVE_INFINITY;
+        for (int corner = 0; corner < 4; corner++) {
+            final int cx = x + ((corner & 1) == 0 ? 0 : CORNER_OFFSET);
+            final int cy = y + ((corner & 2) == 0 ? 0 : CORNER_OFFSET);
+            contact = Math.min(contact, traverse(tileMap, cx, cy, vx, vy, contact));
+        }
+        return contact;
+    }
+
+    /**
+     * Walks the tiles crossed by a point moving by {@code (vx, vy)}, in order,
+     * and returns when it enters the first solid one (Amanatides-Woo traversal).
+     * Positions are whole pixels, so a point leaves its tile towards the left
+     * when it reaches the last pixel of the previous tile.
+     */
+    private static double traverse(final TileMap tileMap, final int px, final int py, final int vx, final int vy,
+            final double limit) {
+        final int ts = tileMap.getTileSize();
+        int cellX = Math.floorDiv(px, ts);
+        int cellY = Math.floorDiv(py, ts);
+        if (tileMap.isSolidAt(cellX, cellY)) {
+            return 0.0;
+        }
+        final int stepX = Integer.signum(vx);
+        final int stepY = Integer.signum(vy);
+        final double deltaX = stepX == 0 ? Double.POSITIVE_INFINITY : ts / (double) Math.abs(vx);
+        final double deltaY = stepY == 0 ? Double.POSITIVE_INFINITY : ts / (double) Math.abs(vy);
+        double nextX = stepX == 0 ? Double.POSITIVE_INFINITY
+                : (stepX > 0 ? (cellX + 1) * ts - px : px - (cellX * ts - 1)) / (double) Math.abs(vx);
+        double nextY = stepY == 0 ? Double.POSITIVE_INFINITY
+                : (stepY > 0 ? (cellY + 1) * ts - py : py - (cellY * ts - 1)) / (double) Math.abs(vy);
+
+        final double end = Math.min(1.0, limit);
+        while (true) {
+            final double t;
+            if (nextX < nextY) {
+                t = nextX;
+                cellX += stepX;
+                nextX += deltaX;
+            } else {
+                t = nextY;
+                cellY += stepY;
+                nextY += deltaY;
+            }
+            if (t > end) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (tileMap.isSolidAt(cellX, cellY)) {
+                return t;
+            }
+        }
+    }
+
+    /**
+     * Finds when the last move of a projectile first overlaps a box, treating the
+     * projectile as a box sweeping along its path up to the wall it touched.
+     *
+     * @param i    index of the projectile
+     * @param minX left edge of the box (inclusive)
+     * @param minY top edge of the box (inclusive)
+     * @param maxX right edge of the box (exclusive)
+     * @param maxY bottom edge of the box (exclusive)
+     * @return the fraction of the move at which the boxes first overlap,
+     *         or {@link Double#POSITIVE_INFINITY} if they never do
+     */
+    public double hitTime(final int i, final int minX, final int minY, final int maxX, final int maxY) {
+        if (minX >= maxX || minY >= maxY) {
+            return Double.POSITIVE_INFINITY;
+        }
+        final int vx = velocitiesX[i];
+        final int vy = velocitiesY[i];
+        final double enterX = axisEnter(startXs[i], WIDTH, vx, minX, maxX);
+        final double exitX = axisExit(startXs[i], WIDTH, vx, minX, maxX);
+        final double enterY = axisEnter(startYs[i], HEIGHT, vy, minY, maxY);
+        final double exitY = axisExit(startYs[i], HEIGHT, vy, minY, maxY);
+        final double enter = Math.max(enterX, enterY);
+        final double exit = Math.min(exitX, exitY);
+        // The boxes overlap for every t in (enter, exit): it must meet [0, reach].
+        if (enter < exit && enter < reaches[i] && exit > 0) {
+            return Math.max(0.0, enter);
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /** Start of the open interval of times during which the projectile overlaps {@code [min, max)} on one axis. */
+    private static double axisEnter(final int start, final int length, final int velocity, final int min,
+            final int max) {
+        if (velocity == 0) {
+            return start < max && start + length > min ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        return velocity > 0 ? (min - length - start) / (double) velocity : (max - start) / (double) velocity;
+    }
+
+    /** End of the open interval of times during which the projectile overlaps {@code [min, max)} on one axis. */
+    private static double axisExit(final int start, final int length, final int velocity, final int min,
+            final int max) {
+        if (velocity == 0) {
+            return start < max && start + length > min ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return velocity > 0 ? (max - start) / (double) velocity : (min - length - start) / (double) velocity;
+    }
+
+    /**
+     * Writes every projectile as a filled circle to a render state.
+     *
+     * @param state the render state of the frame being built
+     */
+    public void writeRenderState(final RenderState state) {
+        for (int i = 0; i < size; i++) {
+            state.addOval(COLOR, xs[i], ys[i], previousXs[i], previousYs[i], WIDTH, HEIGHT);
+        }
+    }
+
+    /**
+     * @param i index of the projectile
+     * @return x of the projectile in pixels
+     */
+    public int getX(final int i) {
+        return xs[i];
+    }
+
+    /**
+     * @param i index of the projectile
+     * @return y of the projectile in pixels
+     */
+    public int getY(final int i) {
+        return ys[i];
+    }
+
+    /**
+     * @param i index of the projectile
+     * @return attack power of the projectile
+     */
+    public int getDamage(final int i) {
+        return damages[i];
+    }
+
+    /**
+     * @param i index of the projectile
+     * @return x of the projectile at the start of its last move
+     */
+    public int getStartX(final int i) {
+        return startXs[i];
+    }
+
+    /**
+     * @param i index of the projectile
+     * @return y of the projectile at the start of its last move
+     */
+    public int getStartY(final int i) {
+        return startYs[i];
+    }
+
+    /**
+     * @param i index of the projectile
+     * @return horizontal speed in pixels per tick
+     */
+    public int getVelocityX(final int i) {
+        return velocitiesX[i];
+    }
+
+    /**
+     * @param i index of the projectile
+     * @return vertical speed in pixels per tick
+     */
+    public int getVelocityY(final int i) {
+        return velocitiesY[i];
+    }
+
+    /**
+     * @param i index of the projectile
+     * @return false if the projectile has hit a wall
+     */
+    public boolean isAlive(final int i) {
+        return alive[i];
+    }
+}
@@ -1,6 +1,8 @@
 package com.thelegendofbald.combat.effect;
 
 import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.system.GameClock;
+import com.thelegendofbald.model.system.TimerWheel;
 import com.thelegendofbald.utils.LoggerUtils;
 
 /**
@@ -10,7 +12,7 @@ import com.thelegendofbald.utils.LoggerUtils;
 public class PoisonDebuff extends StatusEffect {
     private final int damagePerTick;
     private final long tickIntervalMs;
-    private long lastTickTime;
+    private TimerWheel.Timeout nextTick;
 
     /**
      * Constructs a PoisonBuff {@code poisonBuff} with the specified duration, damage per tick, and tick interval.
@@ -22,11 +24,10 @@ public class PoisonDebuff extends StatusEffect {
         super("Poison", durationMs);
         this.damagePerTick = damagePerTick;
         this.tickIntervalMs = tickIntervalMs;
-        this.lastTickTime = System.currentTimeMillis();
     }
 
     /**
-     * Applies the poison effect to the player.
+     * Applies the poison effect to the player and starts dealing damage every interval.
      * This method is called when the buff is applied to the player.
      * @param player the Bald {@code Bald} character to which the poison effect is applied
      */
@@ -36,6 +37,7 @@ public class PoisonDebuff extends StatusEffect {
         + damagePerTick 
         + " damage every " 
         + (tickIntervalMs / 1000) + " seconds.");
+        scheduleTick(player);
     }
 
     /**
@@ -45,6 +47,9 @@ public class PoisonDebuff extends StatusEffect {
      */
     @Override
     public void remove(final Bald player) {
+        if (nextTick != null) {
+            nextTick.cancel();
+        }
         LoggerUtils.info("Poison effect worn off! Life Remaining: " + player.getLifeComponent().getCurrentHealth());
     }
 
@@ -59,17 +64,16 @@ public class PoisonDebuff extends StatusEffect {
     }
 
     /**
-     * Updates the poison effect on the player.
-     * This method is called periodically to check if it's time to apply damage.
-     * 
+     * Schedules the next damage, which is dealt only if the poison is still active.
+     *
      * @param player the Bald {@code Bald} character to which the poison effect is applied
      */
-    @Override
-    public void update(final Bald player) {
-        final long now = System.currentTimeMillis();
-        if (now - lastTickTime >= tickIntervalMs) {
-            onTick(player);
-            lastTickTime = now;
-        }
+    private void scheduleTick(final Bald player) {
+        nextTick = GameClock.timers().schedule(tickIntervalMs, () -> {
+            if (isActive()) {
+                onTick(player);
+                scheduleTick(player);
+            }
+        });
     }
 }
@@ -0,0 +1,28 @@
+package com.thelegendofbald.combat.effect;
+
+/**
+ * Stats of a character that status effects, items and weapons can modify
+ * through a {@link StatSheet}.
+ */
+public enum StatKey {
+
+    /** Damage dealt by the character's attacks. */
+    ATTACK_POWER(0),
+    /** Factor applied to the movement speed of the character. */
+    SPEED(1),
+    /** Damage absorbed from every hit taken by the character. */
+    DEFENSE(0);
+
+    private final double defaultValue;
+
+    StatKey(final double defaultValue) {
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * @return the base value of the stat when none is set
+     */
+    public double getDefaultValue() {
+        return defaultValue;
+    }
+}
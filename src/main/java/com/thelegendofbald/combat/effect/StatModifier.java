@@ -0,0 +1,48 @@
+package com.thelegendofbald.combat.effect;
+
+import java.util.Objects;
+
+/**
+ * Change of a stat contributed by a status effect, an item or a weapon.
+ * The additive amounts of all the modifiers of a stat are summed to its base
+ * value, then the result is multiplied by all their factors.
+ *
+ * @param key        the modified stat
+ * @param amount     the amount added to the base value
+ * @param multiplier the factor the stat is multiplied by
+ */
+public record StatModifier(StatKey key, double amount, double multiplier) {
+
+    /**
+     * Creates a modifier.
+     *
+     * @param key        the modified stat
+     * @param amount     the amount added to the base value
+     * @param multiplier the factor the stat is multiplied by
+     */
+    public StatModifier {
+        Objects.requireNonNull(key, "key");
+    }
+
+    /**
+     * Creates a modifier adding an amount to a stat.
+     *
+     * @param key    the modified stat
+     * @param amount the amount added, negative to reduce the stat
+     * @return the modifier
+     */
+    public static StatModifier add(final StatKey key, final double amount) {
+        return new StatModifier(key, amount, 1);
+    }
+
+    /**
+     * Creates a modifier multiplying a stat.
+     *
+     * @param key    the modified stat
+     * @param factor the factor, e.g. 1.5 for +50%
+     * @return the modifier
+     */
+    public static StatModifier multiply(final StatKey key, final double factor) {
+        return new StatModifier(key, 0, factor);
+    }
+}
@@ -0,0 +1,142 @@
+package com.thelegendofbald.combat.effect;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stats of a character: a base value for every {@link StatKey} and the stack
+ * of {@link StatModifier}s currently applied to it.
+ * <p>
+ * The final value of every stat, i.e. {@code (base + amounts) * multipliers},
+ * is cached and recomputed only when a base value or the modifiers change, so
+ * reading a stat in combat costs a single array access however many effects
+ * are active.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class StatSheet {
+
+    private static final StatKey[] KEYS = StatKey.values();
+
+    private final double[] base = new double[KEYS.length];
+    private final double[] amounts = new double[KEYS.length];
+    private final double[] multipliers = new double[KEYS.length];
+    private final double[] values = new double[KEYS.length];
+    private final List<StatModifier> modifiers = new ArrayList<>();
+
+    /**
+     * Creates a sheet with the default value of every stat and no modifiers.
+     */
+    public StatSheet() {
+        for (final StatKey key : KEYS) {
+            base[key.ordinal()] = key.getDefaultValue();
+            recompute(key);
+        }
+    }
+
+    /**
+     * @param key the stat
+     * @return the final value of the stat, with every modifier applied
+     */
+    public double get(final StatKey key) {
+        return values[key.ordinal()];
+    }
+
+    /**
+     * @param key the stat
+     * @return the final value of the stat rounded to the nearest integer
+     */
+    public int getInt(final StatKey key) {
+        return (int) Math.round(get(key));
+    }
+
+    /**
+     * @param key the stat
+     * @return the base value of the stat, without modifiers
+     */
+    public double getBase(final StatKey key) {
+        return base[key.ordinal()];
+    }
+
+    /**
+     * Sets the base value of a stat.
+     *
+     * @param key   the stat
+     * @param value the new base value
+     */
+    public void setBase(final StatKey key, final double value) {
+        base[key.ordinal()] = value;
+        updateValue(key);
+    }
+
+    /**
+     * Applies the current modifiers of a stat to a value other than its base.
+     *
+     * @param key   the stat
+     * @param value the value to modify
+     * @return the modified value
+     */
+    public double apply(final StatKey key, final double value) {
+        final int i = key.ordinal();
+        return (value + amounts[i]) * multipliers[i];
+    }
+
+    /**
+     * Adds modifiers to the sheet.
+     *
+     * @param added the modifiers to add
+     */
+    public void addModifiers(final Collection<StatModifier> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        modifiers.addAll(added);
+        for (final StatModifier modifier : added) {
+            recompute(modifier.key());
+        }
+    }
+
+    /**
+     * Removes modifiers previously added to the sheet.
+     *
+     * @param removed the modifiers to remove
+     */
+    public void removeModifiers(final Collection<StatModifier> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        for (final StatModifier modifier : removed) {
+            modifiers.remove(modifier);
+        }
+        for (final StatModifier modifier : removed) {
+            recompute(modifier.key());
+        }
+    }
+
+    /**
+     * @return the number of modifiers applied to the sheet
+     */
+    public int getModifierCount() {
+        return modifiers.size();
+    }
+
+    private void recompute(final StatKey key) {
+        double amount = 0;
+        double multiplier = 1;
+        for (final StatModifier modifier : modifiers) {
+            if (modifier.key() == key) {
+                amount += modifier.amount();
+                multiplier *= modifier.multiplier();
+            }
+        }
+        amounts[key.ordinal()] = amount;
+        multipliers[key.ordinal()] = multiplier;
+        updateValue(key);
+    }
+
+    private void updateValue(final StatKey key) {
+        final int i = key.ordinal();
+        values[i] = (base[i] + amounts[i]) * multipliers[i];
+    }
+}
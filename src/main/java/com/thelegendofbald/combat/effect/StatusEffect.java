@@ -1,11 +1,15 @@
 package com.thelegendofbald.combat.effect;
 
+import java.util.List;
+
 import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.system.GameClock;
 
 /**
  * Abstract class {@code status effect} representing a status effect that can be applied to a Bald character.
  * status effects have a name, duration, and can be activated or deactivated.
- * They can modify player attributes and have an expiration mechanism.
+ * They can modify player attributes, through the {@link StatModifier}s they declare,
+ * and have an expiration mechanism.
  * Every subclass must implement the {@code apply} and {@code remove} methods
  */
 public abstract class StatusEffect {
@@ -27,10 +31,10 @@ public abstract class StatusEffect {
     }
 
     /**
-     * Activates the status effect, setting the start time to the current system time.
+     * Activates the status effect, setting the start time to the current game time.
      */
     public void activate() {
-        this.startTime = System.currentTimeMillis();
+        this.startTime = GameClock.now();
         this.isActive = true;
     }
 
@@ -47,7 +51,16 @@ public abstract class StatusEffect {
      * @return {@code true} if the status effect is expired, {@code false} otherwise
      */
     public boolean isExpired() {
-        return !isActive || System.currentTimeMillis() - startTime >= durationMs;
+        return !isActive || GameClock.now() - startTime >= durationMs;
+    }
+
+    /**
+     * Returns the duration of the status effect.
+     *
+     * @return the duration in milliseconds
+     */
+    public long getDurationMs() {
+        return durationMs;
     }
 
     /**
@@ -77,7 +90,7 @@ public abstract class StatusEffect {
         if (!isActive) {
             return 0;
         }
-        final long elapsed = System.currentTimeMillis() - startTime;
+        final long elapsed = GameClock.now() - startTime;
         return Math.max(0, (durationMs - elapsed) / 1000);
     }
 
@@ -98,27 +111,22 @@ public abstract class StatusEffect {
     public abstract void remove(Bald player);
 
     /**
-     * Updates the status effect on the specified Bald player.
-     * @param player the Bald {@code Bald} character whose status effect is updated
-     */
-    public void update(final Bald player) {
-    }
-
-    /**
-     * Modifies the attack power of the Bald player based on the status effect.
+     * Returns the stat modifiers the status effect contributes while it is active.
+     * They are added to the stats of the player when the effect is applied and
+     * removed when it ends, so they must not change in the meantime.
      * This method can be overridden by subclasses to provide specific modifications.
-     * @param player the Bald {@code Bald} character whose attack power is modified
-     * @param basePower base attack of the Bald player
-     * @return the modified attack power
+     *
+     * @return the modifiers of the status effect, empty by default
      */
-    public int modifyAttackPower(final Bald player, final int basePower) {
-        return basePower;
+    public List<StatModifier> getModifiers() {
+        return List.of();
     }
 
     /**
-     * Execute an action on each tick of the game loop.
-     * This method can be overridden by subclasses to define specific actions that should occur each tick
-     * such as Damage over Time (DoT) effects , healing over time(HoT) , etc.
+     * Execute a periodic action of the status effect.
+     * This method can be overridden by subclasses to define specific actions that should occur periodically
+     * such as Damage over Time (DoT) effects , healing over time(HoT) , etc.,
+     * scheduling them on the timer wheel of the {@link GameClock}.
      * @param player the Bald {@code Bald} character on which the action is executed
      */
     public void onTick(final Bald player) { }
@@ -1,9 +1,15 @@
 package com.thelegendofbald.combat.effect;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.system.GameClock;
+import com.thelegendofbald.model.system.TimerWheel;
 import com.thelegendofbald.utils.LoggerUtils;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -18,10 +24,21 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * This class encapsulates the logic for managing status effects,
  * ensuring that effects are applied, updated, and removed correctly
  * while maintaining a clean separation of concerns.
+ * Expirations are scheduled on the timer wheel of the {@link GameClock}, so
+ * effects are not polled while they last, and the modifiers of the active
+ * effects are kept in a {@link StatSheet} whose values are cached between
+ * changes.
  */
 public class StatusEffectManager {
     private final Bald player;
     private final List<StatusEffect> activeEffects = new ArrayList<>();
+    /** Active effect for every name, since an effect replaces the one with its name. */
+    private final Map<String, StatusEffect> effectsByName = new HashMap<>();
+    private final StatSheet stats = new StatSheet();
+    /** Pending expiration of every active effect. */
+    private final Map<StatusEffect, TimerWheel.Timeout> expirations = new IdentityHashMap<>();
+    /** Effects whose duration has elapsed, removed by the next update. */
+    private final List<StatusEffect> expired = new ArrayList<>();
 
     /**
      * Constructs a StatusEffectManager for the specified Bald character.
@@ -43,63 +60,108 @@ public class StatusEffectManager {
      * Applies a new effect to the Bald character.
      * This method first checks if the effect is already active,
      * removes it if it is, and then activates the new effect.
-     * It also applies the effect to the character
-     * and adds it to the list of active effects.
+     * It also applies the effect to the character,
+     * adds it to the list of active effects and schedules its expiration.
      * 
      * @param effect the StatusEffect {@codec StatusEffetc} effetc to apply
      */
     public void applyEffect(final StatusEffect effect) {
-        activeEffects.removeIf(b -> b.getName().equals(effect.getName()));
+        final StatusEffect replaced = effectsByName.put(effect.getName(), effect);
+        if (replaced != null) {
+            replaced.deactivate();
+            final TimerWheel.Timeout expiration = expirations.remove(replaced);
+            if (expiration != null) {
+                expiration.cancel();
+            }
+            activeEffects.remove(replaced);
+            stats.removeModifiers(replaced.getModifiers());
+        }
         effect.activate();
         activeEffects.add(effect);
+        stats.addModifiers(effect.getModifiers());
         effect.apply(player); 
+        if (effect.getDurationMs() <= 0) {
+            expired.add(effect);
+        } else {
+            expirations.put(effect, GameClock.timers().schedule(effect.getDurationMs(), () -> {
+                expirations.remove(effect);
+                expired.add(effect);
+            }));
+        }
         LoggerUtils.info("effect di " + effect.getName() + " attivato!");
     }
 
     /**
-     * Updates all active effects for the Bald character.
-     * This method iterates through the list of active effects,
-     * calls their onTick and update methods, and checks for expiration.
-     * If an effect is expired, it is removed from the character
-     * and deactivated.
+     * Updates the active effects for the Bald character, once per tick.
+     * Effects whose duration has elapsed since the last update are removed
+     * from the character and deactivated; when none has, nothing is done.
      */
     public void update() {
-        final List<StatusEffect> expired = new ArrayList<>();
-        for (final StatusEffect effect : activeEffects) {
-            effect.update(player);
-            if (effect.isExpired()) {
+        if (expired.isEmpty()) {
+            return;
+        }
+        for (final StatusEffect effect : expired) {
+            if (effectsByName.remove(effect.getName(), effect)) {
+                activeEffects.remove(effect);
+                stats.removeModifiers(effect.getModifiers());
                 effect.remove(player);
-                expired.add(effect);
+                effect.deactivate();
             }
         }
-        if (!expired.isEmpty()) {
-            activeEffects.removeAll(expired);
+        expired.clear();
+    }
+
+    /**
+     * Removes every active effect from the Bald character right away,
+     * cancelling their expirations, e.g. when a new game starts.
+     */
+    public void clearEffects() {
+        for (final StatusEffect effect : activeEffects) {
+            stats.removeModifiers(effect.getModifiers());
+            effect.remove(player);
+            effect.deactivate();
+        }
+        for (final TimerWheel.Timeout expiration : expirations.values()) {
+            expiration.cancel();
         }
+        activeEffects.clear();
+        effectsByName.clear();
+        expirations.clear();
+        expired.clear();
     }
 
     /**
      * Modifies the attack power of the Bald character based on active effects.
-     * This method iterates through all active effects and applies their modifications
-     * to the base attack power.
+     * The modifiers of the active effects are already combined in the stat sheet,
+     * so this method does not depend on the number of effects.
      *
      * @param basePower the base attack power before applying any effects
      * @return the modified attack power after applying all active effects
      */
     public int modifyAttackPower(final int basePower) {
-        int power = basePower;
-        for (final StatusEffect effect : activeEffects) {
-            power = effect.modifyAttackPower(player, power);
-        }
-        return power;
+        return (int) Math.round(stats.apply(StatKey.ATTACK_POWER, basePower));
+    }
+
+    /**
+     * Returns the stats of the Bald character, with the modifiers of the active effects applied.
+     *
+     * @return the stat sheet of the Bald character
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The sheet is shared on purpose: Bald sets its base values and reads the final ones."
+    )
+    public StatSheet getStats() {
+        return stats;
     }
 
     /**
      * Returns a list of all active effects currently applied to the Bald character.
      *
-     * @return an unmodifiable list of active StatusEffect objects
+     * @return an unmodifiable view of the active StatusEffect objects
      */
     public List<StatusEffect> getactiveEffects() {
-        return List.copyOf(activeEffects);
+        return Collections.unmodifiableList(activeEffects);
     }
 
 }
@@ -1,5 +1,7 @@
 package com.thelegendofbald.combat.effect;
 
+import java.util.List;
+
 import com.thelegendofbald.model.entity.Bald;
 import com.thelegendofbald.utils.LoggerUtils;
 
@@ -10,6 +12,7 @@ import com.thelegendofbald.utils.LoggerUtils;
  */
 public class StrengthBuff extends StatusEffect {
     private final int bonusAmount;
+    private final List<StatModifier> modifiers;
 
     /**
      * Constructs a StrengthBuff with the specified duration and bonus amount.
@@ -20,6 +23,7 @@ public class StrengthBuff extends StatusEffect {
     public StrengthBuff(final long durationMs, final int bonusAmount) {
         super("Strength Buff", durationMs);
         this.bonusAmount = bonusAmount;
+        this.modifiers = List.of(StatModifier.add(StatKey.ATTACK_POWER, bonusAmount));
     }
 
     /**
@@ -52,15 +56,13 @@ public class StrengthBuff extends StatusEffect {
     }
 
     /**
-     * Modifies the attack power of the player by adding the bonus amount.
+     * Returns the modifier adding the bonus amount to the attack power of the player.
      *
-     * @param player the Bald character whose attack power is modified
-     * @param basePower the base attack power before applying the buff
-     * @return the modified attack power after applying the buff
+     * @return the modifiers of the buff
      */
     @Override
-    public int modifyAttackPower(final Bald player, final int basePower) {
-        return basePower + bonusAmount;
+    public List<StatModifier> getModifiers() {
+        return modifiers;
     }
 
 }
@@ -2,15 +2,24 @@ package com.thelegendofbald.controller;
 
 import java.util.concurrent.locks.LockSupport;
 
-import javax.swing.SwingUtilities;
-
 import com.thelegendofbald.controller.input.InputController;
 import com.thelegendofbald.controller.level.LevelManager;
+import com.thelegendofbald.controller.level.TriggerZones;
+import com.thelegendofbald.controller.replay.StateChecksum;
 import com.thelegendofbald.model.entity.Bald;
-import com.thelegendofbald.model.entity.DummyEnemy;
 import com.thelegendofbald.model.system.CombatManager;
+import com.thelegendofbald.model.system.Cooldown;
+import com.thelegendofbald.model.system.EnemyUpdater;
+import com.thelegendofbald.model.system.FlowField;
+import com.thelegendofbald.model.system.FrameProfiler;
+import com.thelegendofbald.model.system.FrameProfiler.Phase;
+import com.thelegendofbald.model.system.GameClock;
 import com.thelegendofbald.model.system.Timer;
-import com.thelegendofbald.view.panel.game.GamePanel;
+import com.thelegendofbald.model.system.TimingWindow;
+import com.thelegendofbald.utils.jfr.JfrEvents;
+import com.thelegendofbald.utils.jfr.PortalEvent;
+import com.thelegendofbald.utils.jfr.TickEvent;
+import com.thelegendofbald.view.render.RenderSink;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -25,16 +34,33 @@ public final class GameEngine implements Runnable {
     private static final long SLEEP_INTERVAL_WHEN_PAUSED = 100L;
     private static final long LATE_FRAME_BACKOFF_NANOS = 250_000L;
     private static final int DEFAULT_MAX_FPS = 60;
+    /**
+     * Simulation rate used in fixed timestep mode. Enemy AI, animations and
+     * projectiles advance a fixed amount per tick, so this matches the rate
+     * they were tuned for.
+     */
+    private static final int FIXED_TICKS_PER_SECOND = 60;
+    private static final long FIXED_TICK_NANOS = NANOS_IN_SECOND / FIXED_TICKS_PER_SECOND;
+    private static final double FIXED_TICK_SECONDS = 1.0 / FIXED_TICKS_PER_SECOND;
+    /** Maximum number of ticks simulated in a single frame before dropping the backlog. */
+    private static final int MAX_CATCH_UP_TICKS = 5;
     private static final long PORTAL_COOLDOWN_MS = 2000;
     private static final int ID_NEXT_MAP_TRIGGER = 10;
     private static final int ID_PREV_PORTAL = 8;
+    /** Number of tick durations kept for the metrics, about two seconds of fixed ticks. */
+    private static final int TICK_WINDOW = 120;
+    private static final double PERCENTILE_99 = 0.99;
 
-    private final GamePanel gamePanel;
+    private final RenderSink renderSink;
     private final Bald bald;
     private final LevelManager levelManager;
     private final CombatManager combatManager;
     private final InputController inputController;
     private final Timer timer;
+    private final EnemyUpdater enemyUpdater = new EnemyUpdater(EnemyUpdater.DEFAULT_WORKERS);
+    private final FrameProfiler profiler = new FrameProfiler();
+    /** Durations of the latest ticks, always measured for the metrics. */
+    private final TimingWindow tickTimes = new TimingWindow(TICK_WINDOW);
 
     private Thread gameThread;
     private volatile boolean running;
@@ -43,13 +69,18 @@ public final class GameEngine implements Runnable {
     private volatile boolean gameWon;
     private volatile int maxFPS = DEFAULT_MAX_FPS;
     private volatile int currentFPS;
+    private volatile boolean fixedTimestep;
+    private volatile double interpolation = 1.0;
 
-    private volatile long portalCooldownUntil;
+    /** Keeps Bald from bouncing back through the portal he arrived from. */
+    private final Cooldown portalCooldown = new Cooldown(PORTAL_COOLDOWN_MS);
+    private volatile TickListener tickListener;
 
     /**
-     * Constructs a new GameEngine.
+     * Constructs a new GameEngine. The game starts without pending timers:
+     * those left by a previous game are cancelled.
      *
-     * @param gamePanel       the game panel.
+     * @param renderSink      receives the frames and the end of the game, e.g. the game panel.
      * @param bald            the player character.
      * @param levelManager    the level manager.
      * @param combatManager   the combat manager.
@@ -60,14 +91,15 @@ public final class GameEngine implements Runnable {
         value = "EI2",
         justification = "GameEngine orchestrates these specific instances."
     )
-    public GameEngine(final GamePanel gamePanel, final Bald bald, final LevelManager levelManager,
+    public GameEngine(final RenderSink renderSink, final Bald bald, final LevelManager levelManager,
             final CombatManager combatManager, final InputController inputController, final Timer timer) {
-        this.gamePanel = gamePanel;
+        this.renderSink = renderSink;
         this.bald = bald;
         this.levelManager = levelManager;
         this.combatManager = combatManager;
         this.inputController = inputController;
         this.timer = timer;
+        GameClock.reset(GameClock.now());
     }
 
     /**
@@ -81,11 +113,20 @@ public final class GameEngine implements Runnable {
     }
 
     /**
-     * Stops the game loop.
+     * Stops the game loop and waits for the game thread to exit, so that the
+     * state of the game can be reset or saved by the caller without racing a tick.
      */
     public void stop() {
         this.running = false;
         this.timer.stop();
+        final Thread thread = gameThread;
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     /**
@@ -131,6 +172,115 @@ public final class GameEngine implements Runnable {
         this.maxFPS = maxFPS;
     }
 
+    /**
+     * Returns the maximum FPS.
+     *
+     * @return the maximum FPS.
+     */
+    public int getMaxFPS() {
+        return maxFPS;
+    }
+
+    /**
+     * Enables or disables the fixed timestep simulation.
+     * When enabled the game state advances in fixed ticks and rendering
+     * interpolates entity positions between the last two ticks; otherwise
+     * one variable-length update runs per rendered frame.
+     *
+     * @param fixedTimestep true to use a fixed timestep, false otherwise.
+     */
+    public void setFixedTimestep(final boolean fixedTimestep) {
+        this.fixedTimestep = fixedTimestep;
+    }
+
+    /**
+     * Sets how many threads update the enemies when there are many of them.
+     *
+     * @param workers the number of worker threads; 1 keeps the update on the game thread.
+     */
+    public void setAiWorkers(final int workers) {
+        enemyUpdater.setWorkers(workers);
+    }
+
+    /**
+     * Sets the listener notified at the end of every tick, e.g. to record or replay a session.
+     *
+     * @param listener the listener, or null to remove it.
+     */
+    public void setTickListener(final TickListener listener) {
+        this.tickListener = listener;
+    }
+
+    /**
+     * Computes a checksum of the current game state, see {@link StateChecksum}.
+     * Must be called on the game thread, e.g. by a {@link TickListener}.
+     *
+     * @return the checksum of the state.
+     */
+    public int getStateChecksum() {
+        return StateChecksum.of(bald, levelManager, combatManager);
+    }
+
+    /**
+     * Returns how many threads update the enemies.
+     *
+     * @return the number of worker threads.
+     */
+    public int getAiWorkers() {
+        return enemyUpdater.getWorkers();
+    }
+
+    /**
+     * Returns the average duration of the latest ticks.
+     *
+     * @return the average tick time in nanoseconds, 0 before the first tick.
+     */
+    public long getAverageTickNanos() {
+        return tickTimes.average();
+    }
+
+    /**
+     * Returns the 99th percentile of the duration of the latest ticks.
+     *
+     * @return the 99th percentile of the tick time in nanoseconds, 0 before the first tick.
+     */
+    public long getP99TickNanos() {
+        return tickTimes.percentile(PERCENTILE_99);
+    }
+
+    /**
+     * Returns the profiler timing the phases of the updates and of the frames.
+     * The renderer records its own passes in it.
+     *
+     * @return the frame profiler.
+     */
+    @SuppressFBWarnings(
+        value = "EI",
+        justification = "The renderer records its passes in the same profiler as the updates."
+    )
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Checks if the fixed timestep simulation is enabled.
+     *
+     * @return true if enabled, false otherwise.
+     */
+    public boolean isFixedTimestep() {
+        return fixedTimestep;
+    }
+
+    /**
+     * Returns the render interpolation factor between the previous and the
+     * current simulation tick. Always 1 when the fixed timestep is disabled.
+     *
+     * @return the interpolation factor in [0, 1].
+     */
+    public double getInterpolation() {
+        return interpolation;
+    }
+
     /**
      * Returns the current FPS.
      *
@@ -161,6 +311,7 @@ public final class GameEngine implements Runnable {
     @Override
     public void run() {
         long lastTime = System.nanoTime();
+        long accumulator = 0;
         int frames = 0;
         long fpsTimer = System.currentTimeMillis();
 
@@ -168,15 +319,25 @@ public final class GameEngine implements Runnable {
             if (paused) {
                 LockSupport.parkNanos(SLEEP_INTERVAL_WHEN_PAUSED * NANOS_IN_MILLI);
                 lastTime = System.nanoTime();
+                accumulator = 0;
                 continue;
             }
 
             final long now = System.nanoTime();
-            final double deltaTime = (now - lastTime) / (double) NANOS_IN_SECOND;
+            final long elapsed = now - lastTime;
             lastTime = now;
+            final long frameStart = profiler.start();
 
-            update(deltaTime);
-            gamePanel.repaint();
+            if (fixedTimestep) {
+                accumulator = runFixedTicks(accumulator + elapsed);
+            } else {
+                accumulator = 0;
+                interpolation = 1.0;
+                storePreviousPositions();
+                update(elapsed / (double) NANOS_IN_SECOND);
+            }
+            renderSink.renderFrame();
+            profiler.lap(Phase.FRAME, frameStart);
 
             frames++;
             if (System.currentTimeMillis() - fpsTimer >= MILLIS_IN_SECOND) {
@@ -197,48 +358,138 @@ public final class GameEngine implements Runnable {
         }
     }
 
+    /**
+     * Runs fixed ticks back to back on the calling thread, as fast as possible,
+     * rendering a frame after each one. Meant for headless simulations, instead
+     * of {@link #start()}: nothing is throttled and wall-clock time is ignored
+     * entirely, since cooldowns and timed effects run on the game time, which
+     * advances by one fixed tick per update.
+     *
+     * @param ticks the maximum number of ticks to run.
+     * @return the number of ticks run, fewer if the game ended.
+     */
+    public int runTicks(final int ticks) {
+        interpolation = 1.0;
+        int done = 0;
+        while (done < ticks && !gameOver && !gameWon) {
+            final long frameStart = profiler.start();
+            storePreviousPositions();
+            update(FIXED_TICK_SECONDS);
+            renderSink.renderFrame();
+            profiler.lap(Phase.FRAME, frameStart);
+            done++;
+        }
+        return done;
+    }
+
+    /**
+     * Consumes the accumulated time in fixed ticks and updates the render
+     * interpolation factor. If the loop falls too far behind, the backlog is
+     * dropped instead of trying to catch up forever.
+     *
+     * @param accumulated the accumulated, not yet simulated, time in nanoseconds.
+     * @return the time left in the accumulator.
+     */
+    private long runFixedTicks(final long accumulated) {
+        long accumulator = accumulated;
+        int ticks = 0;
+        while (accumulator >= FIXED_TICK_NANOS && ticks < MAX_CATCH_UP_TICKS) {
+            storePreviousPositions();
+            update(FIXED_TICK_SECONDS);
+            accumulator -= FIXED_TICK_NANOS;
+            ticks++;
+        }
+        if (accumulator >= FIXED_TICK_NANOS) {
+            accumulator %= FIXED_TICK_NANOS;
+        }
+        interpolation = accumulator / (double) FIXED_TICK_NANOS;
+        return accumulator;
+    }
+
+    /**
+     * Stores the current position of every moving entity, so that the
+     * renderer can interpolate between the previous and the current tick.
+     */
+    private void storePreviousPositions() {
+        bald.storePreviousPosition();
+        combatManager.getEnemyActivity().storePreviousPositions();
+        if (levelManager.getBoss() != null) {
+            levelManager.getBoss().storePreviousPosition();
+        }
+        combatManager.getProjectiles().storePreviousPositions();
+    }
+
     private void update(final double deltaTime) {
         if (gameOver || gameWon) {
             return;
         }
+        final TickEvent event = JfrEvents.ENABLED ? new TickEvent() : null;
+        GameClock.advance((long) (deltaTime * NANOS_IN_SECOND));
+        final long tickStart = System.nanoTime();
+        simulate(deltaTime);
+        tickTimes.add(System.nanoTime() - tickStart);
+        final TickListener listener = tickListener;
+        if (listener != null) {
+            listener.tickEnded(this);
+        }
+        if (event != null) {
+            event.end(levelManager.getEnemies().size(),
+                    combatManager.getEnemyActivity().getActiveEnemies().size(),
+                    combatManager.getProjectiles().size(),
+                    levelManager.getItemManager().getItems().size());
+        }
+    }
+
+    private void simulate(final double deltaTime) {
+        long phaseStart = profiler.start();
+        combatManager.updateEnemyIndex();
         inputController.handleInput();
+        phaseStart = profiler.lap(Phase.INPUT, phaseStart);
+
         bald.updateAnimation();
         bald.move(levelManager.getTileMap(), deltaTime);
         bald.updateBuffs();
-
-        if (System.currentTimeMillis() >= portalCooldownUntil) {
-             if (levelManager.isBaldTouchingTile(ID_NEXT_MAP_TRIGGER)) {
-                 levelManager.switchToNextMap();
-                 portalCooldownUntil = System.currentTimeMillis() + PORTAL_COOLDOWN_MS;
-                 return;
-             }
-             if (levelManager.isBaldTouchingTile(ID_PREV_PORTAL)) {
-                 levelManager.switchToPreviousMap();
-                 portalCooldownUntil = System.currentTimeMillis() + PORTAL_COOLDOWN_MS;
-                 return;
-             }
+        phaseStart = profiler.lap(Phase.MOVEMENT, phaseStart);
+
+        levelManager.updateTriggers();
+        if (portalCooldown.isReady()) {
+            // Bald may have stepped on the portal while the cooldown was running.
+            final TriggerZones zones = levelManager.getTriggerZones();
+            if (zones.isInside(ID_NEXT_MAP_TRIGGER)) {
+                takePortal(true);
+                profiler.lap(Phase.PORTALS, phaseStart);
+                return;
+            }
+            if (zones.isInside(ID_PREV_PORTAL)) {
+                takePortal(false);
+                profiler.lap(Phase.PORTALS, phaseStart);
+                return;
+            }
         }
+        phaseStart = profiler.lap(Phase.PORTALS, phaseStart);
 
         combatManager.checkEnemyAttacks();
-        levelManager.getEnemies().removeIf(DummyEnemy::isRemovable);
-        levelManager.getEnemies().forEach(enemy -> {
-            if (enemy.isCloseTo(bald)) {
-                enemy.followPlayer(bald);
-                enemy.updateAnimation();
-            }
-        });
+        phaseStart = profiler.lap(Phase.COMBAT, phaseStart);
+
+        levelManager.updateNavigation();
+        final FlowField flowField = levelManager.getFlowField();
+        combatManager.getEnemyActivity().update(bald);
+        enemyUpdater.update(combatManager.getEnemyActivity().getActiveEnemies(), bald, flowField);
 
         if (levelManager.getBoss() != null && levelManager.getBoss().isAlive()) {
-            levelManager.getBoss().followPlayer(bald);
+            levelManager.getBoss().followPlayer(bald, flowField);
             levelManager.getBoss().updateAnimation();
         }
-        combatManager.getProjectiles().forEach(p -> p.move(levelManager.getTileMap()));
+        combatManager.updateEnemyIndex();
+        phaseStart = profiler.lap(Phase.ENEMY_AI, phaseStart);
+
+        combatManager.getProjectiles().move(levelManager.getTileMap());
         combatManager.checkProjectiles();
+        phaseStart = profiler.lap(Phase.PROJECTILES, phaseStart);
 
         levelManager.getItemManager().updateAll();
         levelManager.getItemManager().handleItemCollection(bald);
-
-        SwingUtilities.invokeLater(gamePanel::checkIfNearShopTile);
+        profiler.lap(Phase.ITEMS, phaseStart);
 
         if (!bald.isAlive() && !gameOver) {
             handleGameOver();
@@ -249,30 +500,55 @@ public final class GameEngine implements Runnable {
         }
     }
 
+    /**
+     * Moves Bald to the next or to the previous map and starts the portal cooldown.
+     *
+     * @param forward true to go to the next map, false to go back to the previous one
+     */
+    private void takePortal(final boolean forward) {
+        final PortalEvent event = JfrEvents.ENABLED
+                ? new PortalEvent(levelManager.getCurrentMapName(), forward)
+                : null;
+        if (forward) {
+            levelManager.switchToNextMap();
+        } else {
+            levelManager.switchToPreviousMap();
+        }
+        portalCooldown.start();
+        storePreviousPositions();
+        if (event != null) {
+            event.end(levelManager.getCurrentMapName());
+        }
+    }
+
     private void handleGameWon() {
         this.gameWon = true;
         this.pause();
-        gamePanel.saveGame();
         inputController.clearPressedKeys();
-        SwingUtilities.invokeLater(gamePanel::showMainMenuButton);
+        renderSink.gameEnded(true);
     }
 
     private void handleGameOver() {
         this.gameOver = true;
         this.pause();
         inputController.clearPressedKeys();
-        SwingUtilities.invokeLater(gamePanel::showMainMenuButton);
+        renderSink.gameEnded(false);
     }
 
     /**
-     * Resets the game engine state.
+     * Resets the game engine state. Bald loses his status effects and the
+     * timers of the previous game are cancelled, so the game loop must not be
+     * running, see {@link #stop()}.
      */
     public void reset() {
         this.gameOver = false;
         this.gameWon = false;
         this.paused = false;
         inputController.clearPressedKeys();
+        bald.clearBuffs();
+        GameClock.reset(GameClock.now());
 
         levelManager.reset();
+        storePreviousPositions();
     }
 }
@@ -0,0 +1,187 @@
+package com.thelegendofbald.controller;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.thelegendofbald.controller.level.LevelManager;
+import com.thelegendofbald.model.system.CombatManager;
+import com.thelegendofbald.model.system.EnemyUpdater;
+import com.thelegendofbald.model.system.SoundManager;
+import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.view.render.SpriteCache;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Publishes the metrics and the tuning knobs of a {@link GameEngine} on the
+ * platform MBean server.
+ * <p>
+ * Attributes are read by the JMX threads while the game runs, without
+ * stopping it: counts may therefore be one tick old. Changes made through
+ * JMX take effect from the next frame and are not reflected by the settings
+ * menu.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class GameEngineMetrics implements GameEngineMetricsMBean {
+
+    /** Name under which the metrics are registered. */
+    public static final String OBJECT_NAME = "com.thelegendofbald:type=GameEngine";
+
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+
+    private final GameEngine engine;
+    private final LevelManager levelManager;
+    private final CombatManager combatManager;
+
+    /**
+     * Creates the metrics of a game.
+     *
+     * @param engine        the game loop
+     * @param levelManager  the level manager, for the map, the enemies and the items
+     * @param combatManager the combat manager, for the active enemies and the projectiles
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "The metrics read the live state of the same instances that run the game."
+    )
+    public GameEngineMetrics(final GameEngine engine, final LevelManager levelManager,
+            final CombatManager combatManager) {
+        this.engine = engine;
+        this.levelManager = levelManager;
+        this.combatManager = combatManager;
+    }
+
+    /**
+     * Registers the metrics of a game on the platform MBean server, replacing
+     * those of a previous game. Failures are logged, since the game can run
+     * without them.
+     *
+     * @param engine        the game loop
+     * @param levelManager  the level manager
+     * @param combatManager the combat manager
+     */
+    public static void register(final GameEngine engine, final LevelManager levelManager,
+            final CombatManager combatManager) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new GameEngineMetrics(engine, levelManager, combatManager), name);
+        } catch (final JMException e) {
+            LoggerUtils.error("Unable to register the JMX metrics: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public int getCurrentFps() {
+        return engine.getCurrentFPS();
+    }
+
+    @Override
+    public int getMaxFps() {
+        return engine.getMaxFPS();
+    }
+
+    @Override
+    public void setMaxFps(final int fps) {
+        if (fps <= 0) {
+            throw new IllegalArgumentException("The FPS must be positive: " + fps);
+        }
+        engine.setMaxFPS(fps);
+    }
+
+    @Override
+    public double getAverageTickMillis() {
+        return engine.getAverageTickNanos() / NANOS_IN_MILLI;
+    }
+
+    @Override
+    public double getP99TickMillis() {
+        return engine.getP99TickNanos() / NANOS_IN_MILLI;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return engine.isRunning();
+    }
+
+    @Override
+    public boolean isPaused() {
+        return engine.isPaused();
+    }
+
+    @Override
+    public String getCurrentMap() {
+        return levelManager.getCurrentMapName();
+    }
+
+    @Override
+    public int getEnemyCount() {
+        return levelManager.getEnemies().size();
+    }
+
+    @Override
+    public int getActiveEnemyCount() {
+        return combatManager.getEnemyActivity().getActiveEnemies().size();
+    }
+
+    @Override
+    public int getProjectileCount() {
+        return combatManager.getProjectiles().size();
+    }
+
+    @Override
+    public int getItemCount() {
+        return levelManager.getItemManager().getItems().size();
+    }
+
+    @Override
+    public int getCachedImageCount() {
+        return SpriteCache.getImageCount();
+    }
+
+    @Override
+    public int getMissingImageCount() {
+        return SpriteCache.getMissingImageCount();
+    }
+
+    @Override
+    public int getCachedAnimationCount() {
+        return SpriteCache.getAnimationCount();
+    }
+
+    @Override
+    public int getSoundPlayerCount() {
+        return SoundManager.getSoundPlayerCount();
+    }
+
+    @Override
+    public int getAiWorkers() {
+        return engine.getAiWorkers();
+    }
+
+    @Override
+    public void setAiWorkers(final int workers) {
+        if (workers < 1 || workers > EnemyUpdater.MAX_WORKERS) {
+            throw new IllegalArgumentException("The workers must be between 1 and " + EnemyUpdater.MAX_WORKERS
+                    + ": " + workers);
+        }
+        engine.setAiWorkers(workers);
+    }
+
+    @Override
+    public int getIdleThinkInterval() {
+        return combatManager.getEnemyActivity().getThinkInterval();
+    }
+
+    @Override
+    public void setIdleThinkInterval(final int ticks) {
+        combatManager.getEnemyActivity().setThinkInterval(ticks);
+    }
+}
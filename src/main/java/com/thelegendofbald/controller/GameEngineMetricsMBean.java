@@ -0,0 +1,115 @@
+package com.thelegendofbald.controller;
+
+/**
+ * Management interface of a running game, published through JMX as
+ * {@value GameEngineMetrics#OBJECT_NAME}, e.g. to watch it with
+ * {@code jconsole} and to tune it without restarting.
+ */
+public interface GameEngineMetricsMBean {
+
+    /**
+     * @return the frames rendered in the last second
+     */
+    int getCurrentFps();
+
+    /**
+     * @return the target frame rate
+     */
+    int getMaxFps();
+
+    /**
+     * Changes the target frame rate.
+     *
+     * @param fps the new target, at least 1
+     */
+    void setMaxFps(int fps);
+
+    /**
+     * @return the average duration of the latest ticks, in milliseconds
+     */
+    double getAverageTickMillis();
+
+    /**
+     * @return the 99th percentile of the duration of the latest ticks, in milliseconds
+     */
+    double getP99TickMillis();
+
+    /**
+     * @return true if the game loop is running
+     */
+    boolean isRunning();
+
+    /**
+     * @return true if the game is paused
+     */
+    boolean isPaused();
+
+    /**
+     * @return the name of the current map
+     */
+    String getCurrentMap();
+
+    /**
+     * @return the enemies of the current map, sleeping ones included
+     */
+    int getEnemyCount();
+
+    /**
+     * @return the enemies simulated in the last tick
+     */
+    int getActiveEnemyCount();
+
+    /**
+     * @return the projectiles in flight
+     */
+    int getProjectileCount();
+
+    /**
+     * @return the items lying on the current map
+     */
+    int getItemCount();
+
+    /**
+     * @return the images decoded by the sprite cache, missing ones included
+     */
+    int getCachedImageCount();
+
+    /**
+     * @return the requested images whose resource is missing or could not be decoded
+     */
+    int getMissingImageCount();
+
+    /**
+     * @return the animations held by the sprite cache
+     */
+    int getCachedAnimationCount();
+
+    /**
+     * @return the sound players, i.e. the audio clips kept open
+     */
+    int getSoundPlayerCount();
+
+    /**
+     * @return the threads updating the enemies
+     */
+    int getAiWorkers();
+
+    /**
+     * Changes the threads updating the enemies.
+     *
+     * @param workers the number of worker threads, between 1 and the available processors
+     */
+    void setAiWorkers(int workers);
+
+    /**
+     * @return the ticks between two evaluations of an idle enemy
+     */
+    int getIdleThinkInterval();
+
+    /**
+     * Changes how often idle enemies check whether to wake up or fall asleep.
+     *
+     * @param ticks ticks between two evaluations, at least 1
+     */
+    void setIdleThinkInterval(int ticks);
+}
@@ -0,0 +1,16 @@
+package com.thelegendofbald.controller;
+
+/**
+ * Listener notified by the {@link GameEngine} at the end of every tick, on the
+ * game thread, e.g. to record or to verify the state of a session.
+ */
+@FunctionalInterface
+public interface TickListener {
+
+    /**
+     * Called after a tick has been simulated.
+     *
+     * @param engine the engine that ran the tick
+     */
+    void tickEnded(GameEngine engine);
+}
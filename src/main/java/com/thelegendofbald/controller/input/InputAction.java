@@ -0,0 +1,37 @@
+package com.thelegendofbald.controller.input;
+
+/**
+ * Actions the player can request in a tick.
+ * An {@link InputSource} reports them as a bit mask, one {@link #bit()} per action.
+ */
+public enum InputAction {
+    /** Move left while held. */
+    LEFT,
+    /** Move right while held. */
+    RIGHT,
+    /** Move up while held. */
+    UP,
+    /** Move down while held. */
+    DOWN,
+    /** Attack once. */
+    ATTACK,
+    /** Interact with the items under Bald once. */
+    INTERACT;
+
+    /**
+     * @return the bit of this action in an input mask
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Tells whether an input mask contains this action.
+     *
+     * @param mask the input mask
+     * @return true if the action is requested
+     */
+    public boolean isIn(final int mask) {
+        return (mask & bit()) != 0;
+    }
+}
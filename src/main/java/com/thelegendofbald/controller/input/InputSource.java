@@ -0,0 +1,22 @@
+package com.thelegendofbald.controller.input;
+
+/**
+ * Source of the player's input, read once per tick by the {@link InputController}.
+ * The keyboard is the source of the game; scripted sources drive headless runs.
+ */
+public interface InputSource {
+
+    /**
+     * Returns the actions requested for the current tick.
+     * Movements are reported while held, attacks and interactions once per request.
+     * Called on the game thread.
+     *
+     * @return a mask of {@link InputAction#bit()}s
+     */
+    int poll();
+
+    /**
+     * Forgets the held and pending actions.
+     */
+    void clear();
+}
@@ -0,0 +1,125 @@
+package com.thelegendofbald.controller.input;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.AbstractAction;
+import javax.swing.ActionMap;
+import javax.swing.InputMap;
+import javax.swing.JComponent;
+import javax.swing.KeyStroke;
+
+import com.thelegendofbald.model.config.ControlsSettings;
+
+/**
+ * Input read from the keyboard through the key bindings of a component.
+ * <p>
+ * Keys are recorded on the event dispatch thread and polled by the game
+ * thread, so the held movements are kept in an atomic mask and attacks and
+ * interactions in atomic flags. The options and inventory keys act on the UI
+ * directly and are not part of the polled input.
+ * </p>
+ */
+public final class KeyboardInputSource implements InputSource {
+
+    private final AtomicInteger held = new AtomicInteger();
+    /** Set on the EDT when the attack key is pressed, consumed by the game thread. */
+    private final AtomicBoolean attackRequested = new AtomicBoolean();
+    /** Set on the EDT when the interact key is pressed, consumed by the game thread. */
+    private final AtomicBoolean interactRequested = new AtomicBoolean();
+    private final Runnable toggleOptions;
+    private final Runnable toggleInventory;
+
+    /**
+     * Creates a keyboard source.
+     *
+     * @param component       the component to bind keys to.
+     * @param toggleOptions   runnable to toggle options menu.
+     * @param toggleInventory runnable to toggle inventory.
+     */
+    public KeyboardInputSource(final JComponent component, final Runnable toggleOptions,
+            final Runnable toggleInventory) {
+        this.toggleOptions = toggleOptions;
+        this.toggleInventory = toggleInventory;
+        setupKeyBindings(component);
+    }
+
+    /**
+     * Refreshes the key bindings for the specified component.
+     *
+     * @param component the component to bind keys to.
+     */
+    public void refreshKeyBindings(final JComponent component) {
+        held.set(0);
+        setupKeyBindings(component);
+    }
+
+    private void setupKeyBindings(final JComponent component) {
+        final InputMap im = component.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        final ActionMap am = component.getActionMap();
+        im.clear();
+        am.clear();
+
+
+        bindKey(im, am, "pressed UP", ControlsSettings.UP.getKey(), true, () -> press(InputAction.UP));
+        bindKey(im, am, "pressed DOWN", ControlsSettings.DOWN.getKey(), true, () -> press(InputAction.DOWN));
+        bindKey(im, am, "pressed LEFT", ControlsSettings.LEFT.getKey(), true, () -> press(InputAction.LEFT));
+        bindKey(im, am, "pressed RIGHT", ControlsSettings.RIGHT.getKey(), true, () -> press(InputAction.RIGHT));
+        bindKey(im, am, "pressed ESCAPE", KeyEvent.VK_ESCAPE, true, toggleOptions);
+        bindKey(im, am, "pressed SPACE", ControlsSettings.ATTACK.getKey(), true,
+                () -> attackRequested.set(true));
+        bindKey(im, am, "pressed I", ControlsSettings.INVENTORY.getKey(), true,
+                toggleInventory);
+        bindKey(im, am, "interact", ControlsSettings.INTERACT.getKey(), true,
+                () -> interactRequested.set(true));
+
+
+        bindKey(im, am, "released UP", ControlsSettings.UP.getKey(), false, () -> release(InputAction.UP));
+        bindKey(im, am, "released DOWN", ControlsSettings.DOWN.getKey(), false, () -> release(InputAction.DOWN));
+        bindKey(im, am, "released LEFT", ControlsSettings.LEFT.getKey(), false, () -> release(InputAction.LEFT));
+        bindKey(im, am, "released RIGHT", ControlsSettings.RIGHT.getKey(), false,
+                () -> release(InputAction.RIGHT));
+    }
+
+    private void bindKey(final InputMap im, final ActionMap am, final String name, final int key,
+            final boolean pressed, final Runnable action) {
+        im.put(KeyStroke.getKeyStroke(key, 0, !pressed), name);
+        am.put(name, new AbstractAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void actionPerformed(final ActionEvent e) {
+                action.run();
+            }
+        });
+    }
+
+    private void press(final InputAction action) {
+        held.getAndUpdate(mask -> mask | action.bit());
+    }
+
+    private void release(final InputAction action) {
+        held.getAndUpdate(mask -> mask & ~action.bit());
+    }
+
+    @Override
+    public int poll() {
+        int mask = held.get();
+        if (attackRequested.getAndSet(false)) {
+            mask |= InputAction.ATTACK.bit();
+        }
+        if (interactRequested.getAndSet(false)) {
+            mask |= InputAction.INTERACT.bit();
+        }
+        return mask;
+    }
+
+    @Override
+    public void clear() {
+        held.set(0);
+        attackRequested.set(false);
+        interactRequested.set(false);
+    }
+}
@@ -0,0 +1,100 @@
+package com.thelegendofbald.controller.input;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Input replayed from a script, one step per line, for headless runs.
+ * <p>
+ * Every line holds a number of ticks followed by the actions held during
+ * those ticks, e.g. {@code 120 RIGHT UP}; a line with no actions waits.
+ * Blank lines and lines starting with {@code #} are ignored. Once the script
+ * is over no action is reported.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class ScriptedInputSource implements InputSource {
+
+    private final int[] durations;
+    private final int[] masks;
+    private int step;
+    private int elapsed;
+
+    /**
+     * Parses a script.
+     *
+     * @param lines the lines of the script
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public ScriptedInputSource(final List<String> lines) {
+        final List<String> steps = lines.stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+        this.durations = new int[steps.size()];
+        this.masks = new int[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            final String[] tokens = steps.get(i).split("\\s+");
+            try {
+                durations[i] = Integer.parseInt(tokens[0]);
+                for (int t = 1; t < tokens.length; t++) {
+                    masks[i] |= InputAction.valueOf(tokens[t].toUpperCase(Locale.ROOT)).bit();
+                }
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid script line: " + steps.get(i), e);
+            }
+            if (durations[i] < 0) {
+                throw new IllegalArgumentException("Negative duration in script: " + steps.get(i));
+            }
+        }
+    }
+
+    /**
+     * Reads a script from a file.
+     *
+     * @param path the script file
+     * @return the scripted source
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static ScriptedInputSource fromFile(final Path path) throws IOException {
+        return new ScriptedInputSource(Files.readAllLines(path, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int poll() {
+        skipFinishedSteps();
+        if (step == durations.length) {
+            return 0;
+        }
+        elapsed++;
+        return masks[step];
+    }
+
+    /**
+     * Scripts cannot be interrupted: clearing keeps the current position.
+     */
+    @Override
+    public void clear() {
+        // The script goes on regardless: there are no keys to release.
+    }
+
+    /**
+     * @return true once every step of the script has been played
+     */
+    public boolean isFinished() {
+        skipFinishedSteps();
+        return step == durations.length;
+    }
+
+    private void skipFinishedSteps() {
+        while (step < durations.length && elapsed >= durations[step]) {
+            step++;
+            elapsed = 0;
+        }
+    }
+}
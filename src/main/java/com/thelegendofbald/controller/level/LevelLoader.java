@@ -0,0 +1,86 @@
+package com.thelegendofbald.controller.level;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import com.thelegendofbald.utils.LoggerUtils;
+
+/**
+ * Builds {@link LevelSnapshot}s in the background.
+ * <p>
+ * While a level is being played, the levels reachable from it are built on a
+ * daemon thread, so that crossing a portal only swaps references on the game
+ * thread instead of parsing maps and spawning entities there.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class LevelLoader {
+
+    /** Shared by all loaders, so that starting a new game does not leave threads behind. */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "level-loader");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    private final Function<String, LevelSnapshot> builder;
+    private final Map<String, CompletableFuture<LevelSnapshot>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a loader.
+     *
+     * @param builder builds the snapshot of the map with the given name; it must
+     *                be safe to call from a background thread
+     */
+    public LevelLoader(final Function<String, LevelSnapshot> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Starts building the given maps in the background and forgets any other
+     * preloaded map. Maps already being built are kept.
+     *
+     * @param mapNames names of the maps reachable from the current one
+     */
+    public void preload(final Collection<String> mapNames) {
+        pending.keySet().retainAll(mapNames);
+        for (final String mapName : mapNames) {
+            pending.computeIfAbsent(mapName,
+                    name -> CompletableFuture.supplyAsync(() -> builder.apply(name), EXECUTOR));
+        }
+    }
+
+    /**
+     * Returns the snapshot of a map, removing it from the preloaded ones.
+     * If the map is still being built, waits for it; if it was never requested
+     * or its build failed, builds it on the calling thread.
+     *
+     * @param mapName name of the map
+     * @return a snapshot that has never been handed out before
+     */
+    public LevelSnapshot take(final String mapName) {
+        final CompletableFuture<LevelSnapshot> future = pending.remove(mapName);
+        if (future != null) {
+            try {
+                return future.join();
+            } catch (final CompletionException e) {
+                LoggerUtils.error("Background loading of " + mapName + " failed, loading it now.", e);
+            }
+        }
+        return builder.apply(mapName);
+    }
+
+    /**
+     * Forgets every preloaded map, e.g. when the game is reset.
+     */
+    public void clear() {
+        pending.clear();
+    }
+}
@@ -1,6 +1,7 @@
 package com.thelegendofbald.controller.level;
 
 import java.awt.Point;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,7 +15,12 @@ import com.thelegendofbald.model.item.ItemManager;
 import com.thelegendofbald.model.item.loot.LootGenerator;
 import com.thelegendofbald.model.item.map.MapItemLoader;
 import com.thelegendofbald.model.system.CombatManager;
+import com.thelegendofbald.model.system.FlowField;
+import com.thelegendofbald.model.system.FlowFieldNavigator;
 import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.utils.jfr.JfrEvents;
+import com.thelegendofbald.utils.jfr.MapChangeEvent;
+import com.thelegendofbald.view.render.MapLayout;
 import com.thelegendofbald.view.render.TileMap;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -33,6 +39,9 @@ public class LevelManager {
     private static final int ID_SPAWN = 5;
     private static final int ID_ENEMY = 7;
     private static final int ID_BOSS = 9;
+    private static final int ID_SHOP = 6;
+    private static final int ID_PREV_PORTAL = 8;
+    private static final int ID_NEXT_MAP_TRIGGER = 10;
 
     private static final int ENEMY_W = 60;
     private static final int ENEMY_H = 60;
@@ -40,6 +49,8 @@ public class LevelManager {
     private static final int BOSS_H = 96;
 
     private static final int BOSS_HP = 500;
+    /** Side of the largest enemy hitbox, the final boss, which the flow field must let through. */
+    private static final int NAV_AGENT_SIZE = 64;
 
     private final TileMap tileMap;
     private final ItemManager itemManager;
@@ -60,6 +71,12 @@ public class LevelManager {
             MAP_2, MAP_1,
             MAP_3, MAP_2);
 
+    private final LevelLoader levelLoader = new LevelLoader(this::buildLevel);
+    private final TriggerZones triggerZones = new TriggerZones(
+            new int[] {ID_PREV_PORTAL, ID_NEXT_MAP_TRIGGER},
+            new int[] {ID_SHOP});
+    private final FlowFieldNavigator navigator = new FlowFieldNavigator(NAV_AGENT_SIZE);
+
     private Integer pendingEntryTileId;
     private Integer pendingEntryIndex;
     private Boolean pendingFacingRight;
@@ -83,6 +100,9 @@ public class LevelManager {
         this.combatManager = combatManager;
         this.enemies = enemies;
 
+        // Decode the sprites once, before anything is spawned.
+        DummyEnemy.preloadFrames();
+        FinalBoss.preloadFrames();
 
         final int healthPotion = 7;
         final int strengthPotion = 8;
@@ -108,6 +128,10 @@ public class LevelManager {
             bald.setPosX(spawnPoint.x + (tileSize - bald.getWidth()) / 2);
             bald.setPosY(spawnPoint.y - bald.getHeight());
         }
+        combatManager.getProjectiles().clear();
+        triggerZones.reset();
+        navigator.invalidate();
+        preloadNeighbours();
     }
 
     /**
@@ -141,10 +165,12 @@ public class LevelManager {
     }
 
     private void changeAndLoadMap(final String mapName) {
+        final MapChangeEvent event = JfrEvents.ENABLED ? new MapChangeEvent(currentMapName, mapName) : null;
+        final LevelSnapshot level = levelLoader.take(mapName);
         boss = null;
         currentMapName = mapName;
 
-        tileMap.changeMap(mapName);
+        tileMap.applyLayout(level.layout());
         bald.setTileMap(tileMap);
 
         boolean placed = false;
@@ -187,36 +213,58 @@ public class LevelManager {
             pendingFacingRight = null;
         }
 
-        spawnActorsFromMap();
-        itemManager.loadItemsForMap(mapName);
+        installActors(level);
+        combatManager.getProjectiles().clear();
+        triggerZones.reset();
+        navigator.invalidate();
+        preloadNeighbours();
+        if (event != null) {
+            event.end(enemies.size(), level.items().size());
+        }
+    }
 
+    /**
+     * Builds a level without touching the current one.
+     * Runs on the level loader thread, so it only reads immutable state.
+     *
+     * @param mapName the map to build
+     * @return the built level
+     */
+    private LevelSnapshot buildLevel(final String mapName) {
+        final MapLayout layout = tileMap.prepareMap(mapName);
 
-        combatManager.setBoss(boss);
+        final List<DummyEnemy> newEnemies = new ArrayList<>();
+        layout.findAllWithId(ID_ENEMY).forEach(topLeft -> newEnemies.add(createEnemyAt(topLeft)));
+        final List<Point> bossTiles = layout.findAllWithId(ID_BOSS);
+        final FinalBoss newBoss = bossTiles.isEmpty() ? null : createBossAt(bossTiles.get(0));
+
+        return new LevelSnapshot(layout, newEnemies, newBoss, itemManager.prepareItemsForMap(mapName));
     }
 
-    private void spawnActorsFromMap() {
+    private void installActors(final LevelSnapshot level) {
         enemies.clear();
-        boss = null;
-
-        final List<Point> enemyTiles = tileMap.findAllWithId(ID_ENEMY);
-        final List<Point> bossTiles = tileMap.findAllWithId(ID_BOSS);
+        enemies.addAll(level.enemies());
+        boss = level.boss();
+        itemManager.setItems(level.items());
+        combatManager.setBoss(boss);
+        combatManager.resetEnemies();
+    }
 
-        enemyTiles.forEach(this::spawnEnemyAt);
-        bossTiles.stream().findFirst().ifPresent(this::spawnBossAt);
+    private void preloadNeighbours() {
+        final List<String> neighbours = new ArrayList<>(2);
+        Optional.ofNullable(mapTransitions.get(currentMapName)).ifPresent(neighbours::add);
+        Optional.ofNullable(reverseTransitions.get(currentMapName)).ifPresent(neighbours::add);
+        levelLoader.preload(neighbours);
     }
 
-    private void spawnEnemyAt(final Point topLeft) {
+    private DummyEnemy createEnemyAt(final Point topLeft) {
         final int ts = tileMap.getTileSize();
         final int x = topLeft.x + (ts - ENEMY_W) / 2;
         final int y = topLeft.y + (ts - ENEMY_H) / 2;
-        enemies.add(new DummyEnemy(x, y, ENEMY_W, "ZioBilly", 10, tileMap));
+        return new DummyEnemy(x, y, ENEMY_W, "ZioBilly", 10, tileMap);
     }
 
-    private void spawnBossAt(final Point topLeft) {
-        if (boss != null) {
-            return;
-        }
-
+    private FinalBoss createBossAt(final Point topLeft) {
         final int ts = tileMap.getTileSize();
         final int x = topLeft.x + (ts - BOSS_W) / 2;
         final int y = topLeft.y + (ts - BOSS_H) / 2;
@@ -225,7 +273,7 @@ public class LevelManager {
         final int bossAtk = 1;
         final LifeComponent life = new LifeComponent(bossHp);
 
-        boss = new FinalBoss(
+        return new FinalBoss(
                 x, y,
                 "Final Boss",
                 bossHp,
@@ -251,13 +299,36 @@ public class LevelManager {
      */
     public void reset() {
         currentMapName = MAP_1;
-        tileMap.changeMap(MAP_1);
-        itemManager.loadItemsForMap(MAP_1);
-        spawnActorsFromMap();
-        combatManager.setBoss(boss);
+        levelLoader.clear();
+        final LevelSnapshot level = buildLevel(MAP_1);
+        tileMap.applyLayout(level.layout());
+        installActors(level);
 
         bald.setTileMap(tileMap);
         bald.setSpawnPosition(ID_SPAWN, tileMap.getTileSize());
+        combatManager.getProjectiles().clear();
+        triggerZones.reset();
+        navigator.invalidate();
+        preloadNeighbours();
+    }
+
+    /**
+     * Reseeds the generator of the loot dropped by the enemies.
+     *
+     * @param seed the seed of the loot generator.
+     */
+    public void setLootSeed(final long seed) {
+        lootGenerator.setSeed(seed);
+    }
+
+    /**
+     * Chooses whether the enemies' flow field is rebuilt on the game thread,
+     * making the enemies' paths depend only on the ticks, or in background.
+     *
+     * @param synchronous true to rebuild the flow field on the game thread.
+     */
+    public void setSynchronousNavigation(final boolean synchronous) {
+        navigator.setSynchronous(synchronous);
     }
 
     /**
@@ -322,60 +393,42 @@ public class LevelManager {
     }
 
     /**
-     * Checks if the player is touching a tile with the specified ID.
+     * Updates the trigger zones occupied by Bald, notifying their listeners.
+     * Portals are triggered by any tile touched by Bald, shops by the tile under
+     * Bald's feet.
      *
-     * @param tileId the ID of the tile to check.
-     * @return true if touching, false otherwise.
+     * @return the zones entered by this update, see {@link TriggerZones#contains(int, int)}
      */
-    public boolean isBaldTouchingTile(final int tileId) {
-        final int ts = tileMap.getTileSize();
-
-        final int x1 = bald.getX();
-        final int y1 = bald.getY();
-        final int x2 = x1 + bald.getWidth() - 1;
-        final int y2 = y1 + bald.getHeight() - 1;
-
-        final int leftIn = Math.max(0, x1 / ts);
-        final int rightIn = Math.max(0, x2 / ts);
-        final int topIn = Math.max(0, y1 / ts);
-        final int bottomIn = Math.max(0, y2 / ts);
-
-        for (int ty = topIn; ty <= bottomIn; ty++) {
-            for (int tx = leftIn; tx <= rightIn; tx++) {
-                if (tileHasId(tx, ty, tileId)) {
-                    return true;
-                }
-            }
-        }
-
-        final int leftEdgeCol = Math.max(0, (x1 - 1) / ts);
-        final int rightEdgeCol = Math.max(0, (x2 + 1) / ts);
-        final int topEdgeRow = Math.max(0, (y1 - 1) / ts);
-        final int bottomEdgeRow = Math.max(0, (y2 + 1) / ts);
+    public int updateTriggers() {
+        return triggerZones.update(tileMap, bald);
+    }
 
-        for (int ty = topIn; ty <= bottomIn; ty++) {
-            if (tileHasId(leftEdgeCol, ty, tileId)) {
-                return true;
-            }
-            if (tileHasId(rightEdgeCol, ty, tileId)) {
-                return true;
-            }
-        }
-        for (int tx = leftIn; tx <= rightIn; tx++) {
-            if (tileHasId(tx, topEdgeRow, tileId)) {
-                return true;
-            }
-            if (tileHasId(tx, bottomEdgeRow, tileId)) {
-                return true;
-            }
-        }
+    /**
+     * Returns the trigger zones of the levels.
+     *
+     * @return the trigger zones.
+     */
+    @SuppressFBWarnings(
+        value = "EI",
+        justification = "Listeners are registered directly on the shared registry."
+    )
+    public TriggerZones getTriggerZones() {
+        return triggerZones;
+    }
 
-        return false;
+    /**
+     * Rebuilds the flow field leading the enemies to Bald if Bald entered another tile.
+     */
+    public void updateNavigation() {
+        navigator.update(tileMap, bald.getX(), bald.getY());
     }
 
-    private boolean tileHasId(final int tx, final int ty, final int id) {
-        return Optional.ofNullable(tileMap.getTileAt(tx, ty))
-                .map(t -> t.getId() == id)
-                .orElse(false);
+    /**
+     * Returns the flow field leading the enemies to Bald.
+     *
+     * @return the latest flow field, or null if none is ready for the current map.
+     */
+    public FlowField getFlowField() {
+        return navigator.getField();
     }
 }
@@ -0,0 +1,42 @@
+package com.thelegendofbald.controller.level;
+
+import java.util.List;
+
+import com.thelegendofbald.model.entity.DummyEnemy;
+import com.thelegendofbald.model.entity.FinalBoss;
+import com.thelegendofbald.model.item.GameItem;
+import com.thelegendofbald.view.render.MapLayout;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Fully built level, ready to be swapped in at a portal: the parsed map plus
+ * freshly spawned enemies, boss and items.
+ * <p>
+ * A snapshot holds live entities, so it must be installed at most once.
+ * </p>
+ *
+ * @param layout  the parsed map
+ * @param enemies the enemies of the level
+ * @param boss    the boss of the level, or {@code null} if there is none
+ * @param items   the items of the level
+ */
+@SuppressFBWarnings(
+    value = {"EI", "EI2"},
+    justification = "The snapshot hands over the entities it was built with; they are not shared with anyone else."
+)
+public record LevelSnapshot(MapLayout layout, List<DummyEnemy> enemies, FinalBoss boss, List<GameItem> items) {
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param layout  the parsed map
+     * @param enemies the enemies of the level
+     * @param boss    the boss of the level, or {@code null} if there is none
+     * @param items   the items of the level
+     */
+    public LevelSnapshot {
+        enemies = List.copyOf(enemies);
+        items = List.copyOf(items);
+    }
+}
@@ -0,0 +1,206 @@
+package com.thelegendofbald.controller.level;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.thelegendofbald.model.entity.Entity;
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Registry of the tiles that trigger something when Bald steps on them,
+ * such as portals and shops.
+ * <p>
+ * Every zone is a tile id together with the way it is probed: portals react to
+ * any cell covered by the entity or bordering it, shops only to the cell under
+ * its feet. The occupied zones are recomputed only when the entity moves to
+ * different cells, and listeners are notified only when a zone is entered or
+ * left, instead of polling the map every tick.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class TriggerZones {
+
+    private static final int LEFT = 0;
+    private static final int TOP = 1;
+    private static final int RIGHT = 2;
+    private static final int BOTTOM = 3;
+    private static final int LEFT_BORDER = 4;
+    private static final int TOP_BORDER = 5;
+    private static final int RIGHT_BORDER = 6;
+    private static final int BOTTOM_BORDER = 7;
+    private static final int FEET_X = 8;
+    private static final int FEET_Y = 9;
+    private static final int CELL_KEYS = 10;
+
+    /**
+     * Receives the transitions of the zones.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called on the game thread when the entity enters or leaves a zone.
+         *
+         * @param tileId  the tile id of the zone
+         * @param entered {@code true} if the zone was entered, {@code false} if it was left
+         */
+        void onZoneChanged(int tileId, boolean entered);
+    }
+
+    private final int bodyZones;
+    private final int feetZones;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Zones occupied after the last update, one bit per tile id. */
+    private int occupied;
+    /** Cells probed by the last update, see {@link #locate}. */
+    private final int[] lastCells = new int[CELL_KEYS];
+    /** Cells of the current update, reused to avoid allocations. */
+    private final int[] cells = new int[CELL_KEYS];
+    private boolean probed;
+
+    /**
+     * Creates a registry.
+     *
+     * @param bodyIds tile ids triggered by any cell covered by or bordering the entity
+     * @param feetIds tile ids triggered only by the cell under the entity's feet
+     * @throws IllegalArgumentException if an id is outside {@code [0, 31]}
+     */
+    public TriggerZones(final int[] bodyIds, final int[] feetIds) {
+        this.bodyZones = maskOf(bodyIds);
+        this.feetZones = maskOf(feetIds);
+    }
+
+    private static int maskOf(final int... ids) {
+        int mask = 0;
+        for (final int id : ids) {
+            if (id < 0 || id >= Integer.SIZE) {
+                throw new IllegalArgumentException("Tile id not supported by trigger zones: " + id);
+            }
+            mask |= 1 << id;
+        }
+        return mask;
+    }
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener the listener to notify of zone transitions
+     */
+    public void addListener(final Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Forgets the cells probed so far, e.g. after the map changed.
+     * The next {@link #update} probes the map again and reports the zones left
+     * or entered in the meantime.
+     */
+    public void reset() {
+        probed = false;
+    }
+
+    /**
+     * Tells whether the entity was inside a zone at the last update.
+     *
+     * @param tileId the tile id of the zone
+     * @return true if the zone is occupied
+     */
+    public boolean isInside(final int tileId) {
+        return contains(occupied, tileId);
+    }
+
+    /**
+     * Tells whether a mask returned by {@link #update} contains a zone.
+     *
+     * @param mask   the mask of zones
+     * @param tileId the tile id of the zone
+     * @return true if the zone is in the mask
+     */
+    public static boolean contains(final int mask, final int tileId) {
+        return tileId >= 0 && tileId < Integer.SIZE && (mask & (1 << tileId)) != 0;
+    }
+
+    /**
+     * Updates the occupied zones for the current position of an entity and
+     * notifies the listeners of the transitions.
+     *
+     * @param map    the current map
+     * @param entity the entity moving through the zones
+     * @return the zones entered by this update, one bit per tile id
+     */
+    public int update(final TileMap map, final Entity entity) {
+        locate(map.getTileSize(), entity);
+        if (probed && Arrays.equals(cells, lastCells)) {
+            return 0;
+        }
+        probed = true;
+        System.arraycopy(cells, 0, lastCells, 0, CELL_KEYS);
+
+        final int now = probeBody(map) & bodyZones
+                | bitOf(map.getTileId(cells[FEET_X], cells[FEET_Y])) & feetZones;
+        final int changed = now ^ occupied;
+        occupied = now;
+        if (changed != 0) {
+            notifyListeners(changed, now);
+        }
+        return changed & now;
+    }
+
+    /**
+     * Computes the cells covered by the entity, the rows and columns bordering
+     * its sides and the cell under its feet.
+     */
+    private void locate(final int ts, final Entity entity) {
+        final int x1 = entity.getX();
+        final int y1 = entity.getY();
+        final int x2 = x1 + entity.getWidth() - 1;
+        final int y2 = y1 + entity.getHeight() - 1;
+
+        cells[LEFT] = Math.max(0, x1 / ts);
+        cells[TOP] = Math.max(0, y1 / ts);
+        cells[RIGHT] = Math.max(0, x2 / ts);
+        cells[BOTTOM] = Math.max(0, y2 / ts);
+        cells[LEFT_BORDER] = Math.max(0, (x1 - 1) / ts);
+        cells[TOP_BORDER] = Math.max(0, (y1 - 1) / ts);
+        cells[RIGHT_BORDER] = Math.max(0, (x2 + 1) / ts);
+        cells[BOTTOM_BORDER] = Math.max(0, (y2 + 1) / ts);
+        cells[FEET_X] = (x1 + entity.getWidth() / 2) / ts;
+        cells[FEET_Y] = Math.max(0, y2) / ts;
+    }
+
+    /**
+     * Collects the ids of the covered cells plus the cells bordering the sides
+     * of the entity, so that a zone is triggered as soon as it is touched.
+     */
+    private int probeBody(final TileMap map) {
+        int mask = 0;
+        for (int ty = cells[TOP]; ty <= cells[BOTTOM]; ty++) {
+            for (int tx = cells[LEFT]; tx <= cells[RIGHT]; tx++) {
+                mask |= bitOf(map.getTileId(tx, ty));
+            }
+            mask |= bitOf(map.getTileId(cells[LEFT_BORDER], ty));
+            mask |= bitOf(map.getTileId(cells[RIGHT_BORDER], ty));
+        }
+        for (int tx = cells[LEFT]; tx <= cells[RIGHT]; tx++) {
+            mask |= bitOf(map.getTileId(tx, cells[TOP_BORDER]));
+            mask |= bitOf(map.getTileId(tx, cells[BOTTOM_BORDER]));
+        }
+        return mask;
+    }
+
+    private static int bitOf(final int tileId) {
+        return tileId >= 0 && tileId < Integer.SIZE ? 1 << tileId : 0;
+    }
+
+    private void notifyListeners(final int changed, final int now) {
+        for (int bits = changed; bits != 0; bits &= bits - 1) {
+            final int tileId = Integer.numberOfTrailingZeros(bits);
+            final boolean entered = (now & (1 << tileId)) != 0;
+            for (final Listener listener : listeners) {
+                listener.onZoneChanged(tileId, entered);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.thelegendofbald.controller.replay;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.thelegendofbald.controller.GameEngine;
+import com.thelegendofbald.controller.TickListener;
+import com.thelegendofbald.controller.input.InputSource;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Input source recording the input of another source, e.g. the keyboard,
+ * together with the checksum of the state reached by every tick.
+ * <p>
+ * It must be registered as the {@link TickListener} of the engine polling it.
+ * Polling and ticks happen on the game thread, while recordings may be started
+ * and stopped from any thread. A tick in progress may still append to the log
+ * returned by {@link #stop()}, so the log must be read on the game thread or
+ * once it has exited.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class RecordingInputSource implements InputSource, TickListener {
+
+    private final InputSource source;
+    private final AtomicReference<SessionLog> log = new AtomicReference<>();
+    private int polled;
+
+    /**
+     * Creates a recorder, initially not recording.
+     *
+     * @param source the source whose input is recorded and passed through
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "The recorder wraps the very source the player is using."
+    )
+    public RecordingInputSource(final InputSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Starts recording the next ticks into a log, replacing the current recording.
+     * The caller is responsible for putting the game in the initial state of the log,
+     * see {@link SessionLog#restoreInitialState}.
+     *
+     * @param target the log receiving the ticks
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "The log is filled in place and handed back by stop()."
+    )
+    public void start(final SessionLog target) {
+        polled = 0;
+        log.set(target);
+    }
+
+    /**
+     * Stops recording. The log is handed to a single caller, even if the
+     * recording is stopped from several threads.
+     *
+     * @return the log of the recording, or null if nothing was being recorded
+     */
+    public SessionLog stop() {
+        return log.getAndSet(null);
+    }
+
+    /**
+     * @return true while recording
+     */
+    public boolean isRecording() {
+        return log.get() != null;
+    }
+
+    @Override
+    public int poll() {
+        polled = source.poll();
+        return polled;
+    }
+
+    @Override
+    public void clear() {
+        source.clear();
+    }
+
+    @Override
+    public void tickEnded(final GameEngine engine) {
+        final SessionLog target = log.get();
+        if (target != null) {
+            target.append(polled, engine.getStateChecksum());
+        }
+        polled = 0;
+    }
+}
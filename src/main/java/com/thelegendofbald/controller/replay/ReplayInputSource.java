@@ -0,0 +1,89 @@
+package com.thelegendofbald.controller.replay;
+
+import com.thelegendofbald.controller.GameEngine;
+import com.thelegendofbald.controller.TickListener;
+import com.thelegendofbald.controller.input.InputSource;
+import com.thelegendofbald.utils.LoggerUtils;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Input source playing back a {@link SessionLog}, tick by tick, and checking
+ * that every tick reaches the recorded state.
+ * <p>
+ * It must be registered as the {@link TickListener} of the engine polling it,
+ * after {@link SessionLog#restoreInitialState} has been called on the game.
+ * Once the log is over no action is reported. The first tick whose checksum
+ * differs from the recorded one is remembered and logged: from there on the
+ * replay no longer reproduces the session.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class ReplayInputSource implements InputSource, TickListener {
+
+    /** Value of {@link #getDivergentTick()} while the replay matches the recording. */
+    public static final int NO_DIVERGENCE = -1;
+
+    private final SessionLog log;
+    private int tick;
+    private int divergentTick = NO_DIVERGENCE;
+
+    /**
+     * Creates a replay of a log.
+     *
+     * @param log the recorded session
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "The log is only read."
+    )
+    public ReplayInputSource(final SessionLog log) {
+        this.log = log;
+    }
+
+    @Override
+    public int poll() {
+        return isFinished() ? 0 : log.getInput(tick);
+    }
+
+    /**
+     * A replay cannot be interrupted: clearing keeps the current position.
+     */
+    @Override
+    public void clear() {
+        // The replay goes on anyway: there are no keys to release.
+    }
+
+    @Override
+    public void tickEnded(final GameEngine engine) {
+        if (isFinished()) {
+            return;
+        }
+        if (divergentTick == NO_DIVERGENCE && engine.getStateChecksum() != log.getChecksum(tick)) {
+            divergentTick = tick;
+            LoggerUtils.error("The replay diverges from the recording at tick " + tick);
+        }
+        tick++;
+    }
+
+    /**
+     * @return the number of ticks replayed so far
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @return true once every recorded tick has been replayed
+     */
+    public boolean isFinished() {
+        return tick >= log.getTickCount();
+    }
+
+    /**
+     * @return the first tick whose state differs from the recorded one, or {@link #NO_DIVERGENCE}
+     */
+    public int getDivergentTick() {
+        return divergentTick;
+    }
+}
@@ -0,0 +1,199 @@
+package com.thelegendofbald.controller.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.thelegendofbald.controller.level.LevelManager;
+import com.thelegendofbald.model.system.GameClock;
+
+/**
+ * Everything needed to play a session again: the seeds it started from and,
+ * for every tick, the input of the player and the checksum of the resulting
+ * state.
+ * <p>
+ * On disk the log is a gzip-compressed binary file: a header with a magic
+ * number, the format version, the loot seed, the starting game time and the
+ * number of ticks, followed by one input byte and one checksum per tick.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class SessionLog {
+
+    private static final int MAGIC = 0x42414C44;
+    private static final int VERSION = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long lootSeed;
+    private final long clockStart;
+    private byte[] inputs;
+    private int[] checksums;
+    private int ticks;
+
+    /**
+     * Creates an empty log.
+     *
+     * @param lootSeed   the seed of the loot generator
+     * @param clockStart the game time of the first tick, in milliseconds
+     */
+    public SessionLog(final long lootSeed, final long clockStart) {
+        this(lootSeed, clockStart, new byte[INITIAL_CAPACITY], new int[INITIAL_CAPACITY], 0);
+    }
+
+    private SessionLog(final long lootSeed, final long clockStart, final byte[] inputs, final int[] checksums,
+            final int ticks) {
+        this.lootSeed = lootSeed;
+        this.clockStart = clockStart;
+        this.inputs = inputs;
+        this.checksums = checksums;
+        this.ticks = ticks;
+    }
+
+    /**
+     * Creates an empty log for a new session, with a random loot seed and
+     * starting from the current game time.
+     *
+     * @return the new log
+     */
+    public static SessionLog create() {
+        return new SessionLog(new Random().nextLong(), GameClock.now());
+    }
+
+    /**
+     * Puts a game in the conditions the session started from: the game time
+     * restarts from the recorded time without pending timers, the loot generator
+     * is reseeded and the enemies' navigation is computed on the game thread.
+     * Must be called before the first tick.
+     *
+     * @param levelManager the level manager of the game
+     */
+    public void restoreInitialState(final LevelManager levelManager) {
+        GameClock.reset(clockStart);
+        levelManager.setLootSeed(lootSeed);
+        levelManager.setSynchronousNavigation(true);
+    }
+
+    /**
+     * Appends a tick to the log.
+     *
+     * @param input    the input mask polled in the tick
+     * @param checksum the checksum of the state at the end of the tick
+     */
+    public void append(final int input, final int checksum) {
+        if (ticks == inputs.length) {
+            inputs = Arrays.copyOf(inputs, ticks * 2);
+            checksums = Arrays.copyOf(checksums, ticks * 2);
+        }
+        inputs[ticks] = (byte) input;
+        checksums[ticks] = checksum;
+        ticks++;
+    }
+
+    /**
+     * @return the number of recorded ticks
+     */
+    public int getTickCount() {
+        return ticks;
+    }
+
+    /**
+     * @param tick the index of the tick
+     * @return the input mask polled in the tick
+     * @throws IndexOutOfBoundsException if the tick was not recorded
+     */
+    public int getInput(final int tick) {
+        return inputs[checkTick(tick)] & 0xFF;
+    }
+
+    /**
+     * @param tick the index of the tick
+     * @return the checksum of the state at the end of the tick
+     * @throws IndexOutOfBoundsException if the tick was not recorded
+     */
+    public int getChecksum(final int tick) {
+        return checksums[checkTick(tick)];
+    }
+
+    /**
+     * @return the seed of the loot generator
+     */
+    public long getLootSeed() {
+        return lootSeed;
+    }
+
+    /**
+     * @return the game time of the first tick, in milliseconds
+     */
+    public long getClockStart() {
+        return clockStart;
+    }
+
+    /**
+     * Writes the log to a file, replacing it.
+     *
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(final Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(path))))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(lootSeed);
+            out.writeLong(clockStart);
+            out.writeInt(ticks);
+            for (int i = 0; i < ticks; i++) {
+                out.writeByte(inputs[i]);
+                out.writeInt(checksums[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads a log from a file.
+     *
+     * @param path the file to read
+     * @return the log
+     * @throws IOException if the file cannot be read or is not a session log
+     */
+    public static SessionLog read(final Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a session log: " + path);
+            }
+            final int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported log version: " + version);
+            }
+            final long lootSeed = in.readLong();
+            final long clockStart = in.readLong();
+            final int ticks = in.readInt();
+            if (ticks < 0) {
+                throw new IOException("Invalid tick count: " + ticks);
+            }
+            final byte[] inputs = new byte[Math.max(ticks, 1)];
+            final int[] checksums = new int[Math.max(ticks, 1)];
+            for (int i = 0; i < ticks; i++) {
+                inputs[i] = in.readByte();
+                checksums[i] = in.readInt();
+            }
+            return new SessionLog(lootSeed, clockStart, inputs, checksums, ticks);
+        }
+    }
+
+    private int checkTick(final int tick) {
+        if (tick < 0 || tick >= ticks) {
+            throw new IndexOutOfBoundsException("Tick not recorded: " + tick);
+        }
+        return tick;
+    }
+}
@@ -0,0 +1,81 @@
+package com.thelegendofbald.controller.replay;
+
+import com.thelegendofbald.combat.ProjectilePool;
+import com.thelegendofbald.controller.level.LevelManager;
+import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.entity.DummyEnemy;
+import com.thelegendofbald.model.entity.FinalBoss;
+import com.thelegendofbald.model.item.GameItem;
+import com.thelegendofbald.model.system.CombatManager;
+
+/**
+ * Computes a checksum of the state of a game, to tell whether a replayed
+ * session is still in the same state as the recorded one.
+ * <p>
+ * The checksum covers the current map, Bald, the enemies, the boss, the
+ * projectiles and the items lying on the map; animations and sprites are left
+ * out, since they do not affect the simulation.
+ * </p>
+ * This class cannot be instantiated.
+ */
+public final class StateChecksum {
+
+    private static final int PRIME = 31;
+
+    private StateChecksum() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Computes the checksum of a game.
+     *
+     * @param bald          the player
+     * @param levelManager  the level manager, for the map, the enemies, the boss and the items
+     * @param combatManager the combat manager, for the projectiles
+     * @return the checksum of the state
+     */
+    public static int of(final Bald bald, final LevelManager levelManager, final CombatManager combatManager) {
+        int hash = levelManager.getCurrentMapName().hashCode();
+
+        hash = mix(hash, Double.hashCode(bald.getPosX()));
+        hash = mix(hash, Double.hashCode(bald.getPosY()));
+        hash = mix(hash, Double.hashCode(bald.getSpeedX()));
+        hash = mix(hash, Double.hashCode(bald.getSpeedY()));
+        hash = mix(hash, bald.getLifeComponent().getCurrentHealth());
+        hash = mix(hash, bald.getCoins());
+        hash = mix(hash, bald.getAttackPower());
+
+        hash = mix(hash, levelManager.getEnemies().size());
+        for (final DummyEnemy enemy : levelManager.getEnemies()) {
+            hash = mix(hash, enemy.getX());
+            hash = mix(hash, enemy.getY());
+            hash = mix(hash, enemy.getLifeComponent().getCurrentHealth());
+        }
+
+        final FinalBoss boss = levelManager.getBoss();
+        if (boss != null) {
+            hash = mix(hash, boss.getX());
+            hash = mix(hash, boss.getY());
+            hash = mix(hash, boss.getLifeComponent().getCurrentHealth());
+        }
+
+        final ProjectilePool projectiles = combatManager.getProjectiles();
+        hash = mix(hash, projectiles.size());
+        for (int i = 0; i < projectiles.size(); i++) {
+            hash = mix(hash, projectiles.getX(i));
+            hash = mix(hash, projectiles.getY(i));
+        }
+
+        hash = mix(hash, levelManager.getItemManager().getItems().size());
+        for (final GameItem item : levelManager.getItemManager().getItems()) {
+            hash = mix(hash, item.getClass().getName().hashCode());
+            hash = mix(hash, item.getX());
+            hash = mix(hash, item.getY());
+        }
+        return hash;
+    }
+
+    private static int mix(final int hash, final int value) {
+        return hash * PRIME + value;
+    }
+}
@@ -2,11 +2,13 @@ package com.thelegendofbald.model.config;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import javax.swing.JComboBox;
 import javax.swing.JComponent;
 import javax.swing.SwingUtilities;
 
+import com.thelegendofbald.model.system.EnemyUpdater;
 import com.thelegendofbald.view.window.MainView;
 import com.thelegendofbald.view.component.CustomCheckBox;
 import com.thelegendofbald.view.component.CustomComboBox;
@@ -27,10 +29,26 @@ public enum VideoSettings implements SettingOption {
      * Represents the show FPS setting.
      */
     SHOW_FPS("SHOW FPS", createShowFPSCheckBox()),
+    /**
+     * Represents the show profiler setting, an overlay with the frame times of each phase.
+     */
+    SHOW_PROFILER("SHOW PROFILER", createShowProfilerCheckBox()),
     /**
      * Represents the show timer setting.
      */
-    SHOW_TIMER("SHOW TIMER", createShowTimerCheckBox());
+    SHOW_TIMER("SHOW TIMER", createShowTimerCheckBox()),
+    /**
+     * Represents the fixed timestep simulation setting.
+     */
+    FIXED_TIMESTEP("FIXED TIMESTEP", createFixedTimestepCheckBox()),
+    /**
+     * Represents the active rendering setting.
+     */
+    ACTIVE_RENDERING("ACTIVE RENDERING", createActiveRenderingCheckBox()),
+    /**
+     * Represents the number of threads updating the enemies.
+     */
+    AI_WORKERS("AI WORKERS", createAiWorkersComboBox());
 
     private final String text;
     private final JComponent jcomponent;
@@ -103,6 +121,16 @@ public enum VideoSettings implements SettingOption {
         return checkBox;
     }
 
+    private static CustomCheckBox createShowProfilerCheckBox() {
+        final var checkBox = new CustomCheckBox();
+        checkBox.addActionListener(e -> {
+            final boolean isSelected = checkBox.isSelected();
+            final var window = (MainView) SwingUtilities.getWindowAncestor(checkBox);
+            window.toggleViewProfiler(isSelected);
+        });
+        return checkBox;
+    }
+
     private static CustomCheckBox createShowTimerCheckBox() {
         final var checkBox = new CustomCheckBox();
         checkBox.setSelected(true);
@@ -114,4 +142,40 @@ public enum VideoSettings implements SettingOption {
         return checkBox;
     }
 
+    private static CustomCheckBox createFixedTimestepCheckBox() {
+        final var checkBox = new CustomCheckBox();
+        checkBox.addActionListener(e -> {
+            final boolean isSelected = checkBox.isSelected();
+            final var window = (MainView) SwingUtilities.getWindowAncestor(checkBox);
+            window.toggleFixedTimestep(isSelected);
+        });
+        return checkBox;
+    }
+
+    private static CustomCheckBox createActiveRenderingCheckBox() {
+        final var checkBox = new CustomCheckBox();
+        checkBox.addActionListener(e -> {
+            final boolean isSelected = checkBox.isSelected();
+            final var window = (MainView) SwingUtilities.getWindowAncestor(checkBox);
+            window.toggleActiveRendering(isSelected);
+        });
+        return checkBox;
+    }
+
+    private static JComboBox<Integer> createAiWorkersComboBox() {
+        final var comboBox = new CustomComboBox<>(
+                IntStream.rangeClosed(1, EnemyUpdater.MAX_WORKERS).boxed().toList());
+        comboBox.setSelectedItem(EnemyUpdater.DEFAULT_WORKERS);
+        comboBox.setLastSelectedItem(EnemyUpdater.DEFAULT_WORKERS);
+        comboBox.addActionListener(e -> {
+            final var selectedWorkers = (Integer) comboBox.getSelectedItem();
+            if (selectedWorkers != null && !selectedWorkers.equals(comboBox.getLastSelectedItem())) {
+                final var window = (MainView) SwingUtilities.getWindowAncestor(comboBox);
+                window.setAiWorkers(selectedWorkers);
+                comboBox.setLastSelectedItem(selectedWorkers);
+            }
+        });
+        return comboBox;
+    }
+
 }
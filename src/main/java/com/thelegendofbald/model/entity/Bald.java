@@ -1,31 +1,27 @@
 package com.thelegendofbald.model.entity;
 
 import java.awt.Color;
-import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
 
-import javax.imageio.ImageIO;
 
 import com.thelegendofbald.combat.Combatant;
+import com.thelegendofbald.combat.effect.StatKey;
+import com.thelegendofbald.combat.effect.StatSheet;
 import com.thelegendofbald.combat.effect.StatusEffect;
 import com.thelegendofbald.combat.effect.StatusEffectManager;
+import com.thelegendofbald.model.system.Cooldown;
 import com.thelegendofbald.model.system.Wallet;
 import com.thelegendofbald.model.item.weapons.Weapon;
 import com.thelegendofbald.utils.LoggerUtils;
-import com.thelegendofbald.view.render.Tile;
+import com.thelegendofbald.view.render.RenderState;
+import com.thelegendofbald.view.render.SpriteCache;
 import com.thelegendofbald.view.render.TileMap;
 
 /**
@@ -39,8 +35,9 @@ public final class Bald extends Entity implements Combatant {
     private static final int HITBOX_WIDTH = 15;
     private static final int HITBOX_HEIGHT = 25;
     private static final int ENTITY_SIZE = 50;
+    private static final int HITBOX_X_OFFSET = (int) ((ENTITY_SIZE - HITBOX_WIDTH) / 2.0);
+    private static final int HITBOX_Y_OFFSET = ENTITY_SIZE - HITBOX_HEIGHT;
     private static final int TILE_SIZE = 32;
-    private static final int COLLISION_TILE_ID = 2;
 
     private static final int ATTACK_FRAMES = 8;
     private static final int RUN_FRAMES = 9;
@@ -54,21 +51,13 @@ public final class Bald extends Entity implements Combatant {
     /** Size used when rendering flipped images. */
     private static final int RENDER_SIZE = 50;
 
-    /** Scheduler used for timed effects (e.g., immobilize), avoids raw threads. */
-    private static final ScheduledExecutorService SCHEDULER =
-            Executors.newSingleThreadScheduledExecutor(r -> {
-                final Thread t = new Thread(r, "bald-effects-scheduler");
-                t.setDaemon(true);
-                return t;
-            });
-
     private final Wallet wallet = new Wallet(100);
     private final StatusEffectManager buffManager = new StatusEffectManager(this);
+    private final StatSheet stats = buffManager.getStats();
 
     private Optional<Weapon> weapon = Optional.empty();
 
     private TileMap tileMap;
-    private int attackPower;
 
     private double speedX;
     private double speedY;
@@ -85,7 +74,8 @@ public final class Bald extends Entity implements Combatant {
     private boolean attacking;
     private int currentAttackFrame;
     private boolean facingRight = true;
-    private boolean immobilized;
+    /** Runs while Bald cannot move; its duration is set by each immobilization. */
+    private final Cooldown immobilization = new Cooldown(0);
 
     /**
      * Creates a Bald instance.
@@ -98,26 +88,15 @@ public final class Bald extends Entity implements Combatant {
      */
     public Bald(final int x, final int y, final int maxHealth, final String name, final int baseAttackPower) {
         super(x, y, FRAME_WIDTH, FRAME_HEIGHT, name, new LifeComponent(maxHealth));
-        this.attackPower = baseAttackPower;
+        stats.setBase(StatKey.ATTACK_POWER, baseAttackPower);
         loadRunFrames();
         loadAllAttackFrames();
     }
 
 
     private void loadRunFrames() {
-        runFrames = new BufferedImage[RUN_FRAMES];
-        for (int i = 0; i < RUN_FRAMES; i++) {
-            final String framePath = String.format("/images/bald_run/PS_BALD GUY_Run_00%d.png", i + 1);
-            try (InputStream is = getClass().getResourceAsStream(framePath)) {
-                if (is != null) {
-                    runFrames[i] = ImageIO.read(is);
-                } else {
-                    LoggerUtils.error("Run frame not found: " + framePath);
-                }
-            } catch (final IOException e) {
-                 LoggerUtils.error("Error loading run frame " + framePath + ": " + e.getMessage());
-            }
-        }
+        runFrames = SpriteCache.getFrames("bald/run", RUN_FRAMES,
+                i -> String.format("/images/bald_run/PS_BALD GUY_Run_00%d.png", i + 1));
     }
 
     private void loadAllAttackFrames() {
@@ -126,25 +105,9 @@ public final class Bald extends Entity implements Combatant {
 
         for (final String weaponName : weaponNames) {
             final String dir = basePath + "/" + weaponName;
-            final BufferedImage[] frames = new BufferedImage[ATTACK_FRAMES];
-
-            IntStream.range(0, ATTACK_FRAMES).forEach(i -> {
-                final String framePath = dir + String.format("/frame_%d.png", i);
-                try (InputStream is = getClass().getResourceAsStream(framePath)) {
-                    if (is != null) {
-                        frames[i] = ImageIO.read(is);
-                    } else {
-                        LoggerUtils.error("Attack frame not found: " + framePath);
-                    }
-                } catch (final IOException e) {
-                    LoggerUtils.error("Error loading attack frame " + framePath + ": " + e.getMessage());
-                }
-            });
-
-            attackFrames.put(weaponName, frames);
+            attackFrames.put(weaponName, SpriteCache.getFrames("bald/attack/" + weaponName, ATTACK_FRAMES,
+                    i -> dir + String.format("/frame_%d.png", i)));
         }
-
-        LoggerUtils.info("Attack frames loaded: " + attackFrames.size());
     }
 
     /**
@@ -186,7 +149,7 @@ public final class Bald extends Entity implements Combatant {
      */
     @Override
     public int getAttackPower() {
-        return buffManager.modifyAttackPower(attackPower);
+        return stats.getInt(StatKey.ATTACK_POWER);
     }
 
     /**
@@ -194,7 +157,7 @@ public final class Bald extends Entity implements Combatant {
      * @param value new base attack power
      */
     public void setAttackPower(final int value) {
-        this.attackPower = value;
+        stats.setBase(StatKey.ATTACK_POWER, value);
     }
 
     /**
@@ -213,13 +176,22 @@ public final class Bald extends Entity implements Combatant {
     }
 
     /**
-     * Inflicts damage to the player, reducing health.
+     * Removes every status effect/buff from the player.
+     */
+    public void clearBuffs() {
+        buffManager.clearEffects();
+    }
+
+    /**
+     * Inflicts damage to the player, reducing health by the part of it that defense does not absorb.
      * @param damage the amount of damage to apply
      */
     @Override
     public void takeDamage(final int damage) {
-        this.getLifeComponent().damageTaken(damage);
-        LoggerUtils.info("Player took damage: " + damage
+        final int defense = stats.getInt(StatKey.DEFENSE);
+        final int taken = defense > 0 ? Math.max(0, damage - defense) : damage;
+        this.getLifeComponent().damageTaken(taken);
+        LoggerUtils.info("Player took damage: " + taken
                 + ". Current health: " + getLifeComponent().getCurrentHealth());
     }
 
@@ -278,31 +250,28 @@ public final class Bald extends Entity implements Combatant {
     }
 
     /**
-     * Renders the player sprite (run/attack) or a fallback rectangle.
-     * @param g the graphics context
+     * Writes the player sprite (run/attack) or a fallback rectangle to a render state.
+     * @param state the render state of the frame being built
      */
-    public void render(final Graphics g) {
+    public void writeRenderState(final RenderState state) {
+        final BufferedImage frame;
+        final int width;
+        final int height;
         if (attacking && actualAttackFrames != null && actualAttackFrames[currentAttackFrame] != null) {
-            if (!isFacingRight()) {
-                g.drawImage(actualAttackFrames[currentAttackFrame], getX(), getY(), RENDER_SIZE, RENDER_SIZE, null);
-            } else {
-                g.drawImage(actualAttackFrames[currentAttackFrame], getX() + RENDER_SIZE, getY(),
-                        -RENDER_SIZE, RENDER_SIZE, null);
-            }
-            return;
-        }
-
-        if (runFrames != null && runFrames[currentFrame] != null) {
-            if (!isFacingRight()) {
-                g.drawImage(runFrames[currentFrame], getX(), getY(), getWidth(), getHeight(), null);
-            } else {
-                g.drawImage(runFrames[currentFrame], getX() + RENDER_SIZE, getY(),
-                        -RENDER_SIZE, getHeight(), null);
-            }
+            frame = actualAttackFrames[currentAttackFrame];
+            width = RENDER_SIZE;
+            height = RENDER_SIZE;
+        } else if (runFrames != null && runFrames[currentFrame] != null) {
+            frame = runFrames[currentFrame];
+            width = isFacingRight() ? RENDER_SIZE : getWidth();
+            height = getHeight();
         } else {
-            g.setColor(Color.RED);
-            g.fillRect(getX(), getY(), RENDER_SIZE, RENDER_SIZE);
+            frame = null;
+            width = RENDER_SIZE;
+            height = RENDER_SIZE;
         }
+        state.addSprite(frame, getX(), getY(), getPreviousX(), getPreviousY(), width, height,
+                isFacingRight(), Color.RED);
     }
 
     /**
@@ -356,18 +325,17 @@ public final class Bald extends Entity implements Combatant {
      * @param durationMillis immobilization duration in milliseconds
      */
     public void immobilize(final long durationMillis) {
-        immobilized = true;
+        immobilization.setDuration(durationMillis);
+        immobilization.start();
         setSpeedX(0);
         setSpeedY(0);
-
-        SCHEDULER.schedule(() -> immobilized = false, durationMillis, TimeUnit.MILLISECONDS);
     }
 
     /**
      * @return true if movement is currently disabled (immobilized)
      */
     public boolean isImmobilized() {
-        return immobilized;
+        return !immobilization.isReady();
     }
 
     /**
@@ -385,51 +353,16 @@ public final class Bald extends Entity implements Combatant {
             return;
         }
         final double dt = (deltaTime > 0 && !Double.isNaN(deltaTime)) ? deltaTime : (1.0 / 60.0);
-        final double nextX = posX + speedX * dt * SPEED_MULTIPLIER;
-        final double nextY = posY + speedY * dt * SPEED_MULTIPLIER;
-        final Rectangle nextHitboxX = new Rectangle(
-                (int) (nextX + (ENTITY_SIZE - HITBOX_WIDTH) / 2.0),
-                (int) (posY + ENTITY_SIZE - HITBOX_HEIGHT),
-                HITBOX_WIDTH, HITBOX_HEIGHT);
-
-        boolean collisionX = false;
-        final int leftX = Math.max(0, nextHitboxX.x / TILE_SIZE);
-        final int rightX = Math.max(0, (nextHitboxX.x + nextHitboxX.width - 1) / TILE_SIZE);
-        final int topX = Math.max(0, nextHitboxX.y / TILE_SIZE);
-        final int bottomX = Math.max(0, (nextHitboxX.y + nextHitboxX.height - 1) / TILE_SIZE);
-
-        outerX:
-        for (int tx = leftX; tx <= rightX; tx++) {
-            for (int ty = topX; ty <= bottomX; ty++) {
-                final Tile tile = map.getTileAt(tx, ty);
-                if (tile != null && tile.getId() == COLLISION_TILE_ID) {
-                    collisionX = true;
-                    break outerX;
-                }
-            }
-        }
+        final double speedFactor = stats.get(StatKey.SPEED);
+        final double nextX = posX + speedX * dt * SPEED_MULTIPLIER * speedFactor;
+        final double nextY = posY + speedY * dt * SPEED_MULTIPLIER * speedFactor;
+        final int hitboxX = (int) (nextX + (ENTITY_SIZE - HITBOX_WIDTH) / 2.0);
+        final int hitboxY = (int) (posY + ENTITY_SIZE - HITBOX_HEIGHT);
+        final boolean collisionX = hitsSolidTile(map, hitboxX, hitboxY);
 
-        final Rectangle nextHitboxY = new Rectangle(
-                (int) (posX + (ENTITY_SIZE - HITBOX_WIDTH) / 2.0),
-                (int) (nextY + ENTITY_SIZE - HITBOX_HEIGHT),
-                HITBOX_WIDTH, HITBOX_HEIGHT);
-
-        boolean collisionY = false;
-        final int leftY = Math.max(0, nextHitboxY.x / TILE_SIZE);
-        final int rightY = Math.max(0, (nextHitboxY.x + nextHitboxY.width - 1) / TILE_SIZE);
-        final int topY = Math.max(0, nextHitboxY.y / TILE_SIZE);
-        final int bottomY = Math.max(0, (nextHitboxY.y + nextHitboxY.height - 1) / TILE_SIZE);
-
-        outerY:
-        for (int tx = leftY; tx <= rightY; tx++) {
-            for (int ty = topY; ty <= bottomY; ty++) {
-                final Tile tile = map.getTileAt(tx, ty);
-                if (tile != null && tile.getId() == COLLISION_TILE_ID) {
-                    collisionY = true;
-                    break outerY;
-                }
-            }
-        }
+        final int hitboxXOnY = (int) (posX + (ENTITY_SIZE - HITBOX_WIDTH) / 2.0);
+        final int hitboxYOnY = (int) (nextY + ENTITY_SIZE - HITBOX_HEIGHT);
+        final boolean collisionY = hitsSolidTile(map, hitboxXOnY, hitboxYOnY);
 
         if (!collisionX) {
             posX = nextX;
@@ -442,6 +375,30 @@ public final class Bald extends Entity implements Combatant {
         this.setY((int) (posY + 0.5));
     }
 
+    /**
+     * Checks whether a hitbox placed at the given position overlaps a solid tile.
+     *
+     * @param map     current tile map
+     * @param hitboxX left edge of the hitbox in pixels
+     * @param hitboxY top edge of the hitbox in pixels
+     * @return true if at least one covered tile is solid
+     */
+    private static boolean hitsSolidTile(final TileMap map, final int hitboxX, final int hitboxY) {
+        final int left = Math.max(0, hitboxX / TILE_SIZE);
+        final int right = Math.max(0, (hitboxX + HITBOX_WIDTH - 1) / TILE_SIZE);
+        final int top = Math.max(0, hitboxY / TILE_SIZE);
+        final int bottom = Math.max(0, (hitboxY + HITBOX_HEIGHT - 1) / TILE_SIZE);
+
+        for (int tx = left; tx <= right; tx++) {
+            for (int ty = top; ty <= bottom; ty++) {
+                if (map.isSolidAt(tx, ty)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * @return current horizontal speed in px/s
      */
@@ -553,8 +510,30 @@ public final class Bald extends Entity implements Combatant {
      */
     @Override
     public Rectangle getBounds() {
-        final int xOffset = (int) ((ENTITY_SIZE - HITBOX_WIDTH) / 2.0);
-        final int yOffset = ENTITY_SIZE - HITBOX_HEIGHT;
-        return new Rectangle(getX() + xOffset, getY() + yOffset, HITBOX_WIDTH, HITBOX_HEIGHT);
+        return new Rectangle(getMinX(), getMinY(), HITBOX_WIDTH, HITBOX_HEIGHT);
+    }
+
+    /** {@inheritDoc} Bald collides with its combat hitbox. */
+    @Override
+    public int getMinX() {
+        return getX() + HITBOX_X_OFFSET;
+    }
+
+    /** {@inheritDoc} Bald collides with its combat hitbox. */
+    @Override
+    public int getMinY() {
+        return getY() + HITBOX_Y_OFFSET;
+    }
+
+    /** {@inheritDoc} Bald collides with its combat hitbox. */
+    @Override
+    public int getMaxX() {
+        return getMinX() + HITBOX_WIDTH;
+    }
+
+    /** {@inheritDoc} Bald collides with its combat hitbox. */
+    @Override
+    public int getMaxY() {
+        return getMinY() + HITBOX_HEIGHT;
     }
 }
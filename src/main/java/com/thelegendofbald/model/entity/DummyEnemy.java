@@ -1,16 +1,14 @@
 package com.thelegendofbald.model.entity;
 
 import java.awt.Color;
-import java.awt.Graphics;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Objects;
-import javax.imageio.ImageIO;
 
 import com.thelegendofbald.combat.Combatant;
-import com.thelegendofbald.utils.LoggerUtils;
-import com.thelegendofbald.view.render.Tile;
+import com.thelegendofbald.model.system.Cooldown;
+import com.thelegendofbald.model.system.FlowField;
+import com.thelegendofbald.view.render.RenderState;
+import com.thelegendofbald.view.render.SpriteCache;
 import com.thelegendofbald.view.render.TileMap;
 
 /**
@@ -33,6 +31,7 @@ public final class DummyEnemy extends Entity implements Combatant {
     private static final int HURT_FRAMES = 5;
     private static final int DEAD_FRAMES = 7;
     private static final int DEFAULT_FRAME_DELAY = 5;
+    private static final long ATTACK_COOLDOWN_MS = 700;
     private static final double DEFAULT_SPEED = 1.0;
     private static final double MIN_DISTANCE = 200;
     private static final double SPEED_X = DEFAULT_SPEED;
@@ -47,7 +46,7 @@ public final class DummyEnemy extends Entity implements Combatant {
 
     private int currentFrame;
     private int frameCounter;
-    private long lastAttackTime;
+    private final Cooldown attackCooldown = new Cooldown(ATTACK_COOLDOWN_MS);
     private EnemyState state = EnemyState.RUNNING;
 
     /**
@@ -69,46 +68,37 @@ public final class DummyEnemy extends Entity implements Combatant {
     }
 
     /**
-     * Loads ALL animation frames (Run, Hurt, Dead).
+     * Takes ALL animation frames (Run, Hurt, Dead) from the shared sprite cache.
      */
     private void loadFrames() {
-        runFrames = new BufferedImage[RUN_FRAMES];
-        hurtFrames = new BufferedImage[HURT_FRAMES];
-        deadFrames = new BufferedImage[DEAD_FRAMES];
-        for (int i = 0; i < RUN_FRAMES; i++) {
-            final String framePath = String.format("/images/dummyenemy_run/__TRAINEE_Run_00%d.png", i + 1);
-            runFrames[i] = loadImage(framePath);
-        }
-
-        for (int i = 0; i < HURT_FRAMES; i++) {
-            final String framePath = String.format("/images/dummyenemy_run/06-Hurt/__TRAINEE_Hurt_00%d.png", i + 1);
-            hurtFrames[i] = loadImage(framePath);
-        }
-
-        for (int i = 0; i < DEAD_FRAMES; i++) {
-            final String framePath = String.format("/images/dummyenemy_run/07-Dead/__TRAINEE_Dead_00%d.png", i + 1);
-            deadFrames[i] = loadImage(framePath);
-        }
+        runFrames = sharedRunFrames();
+        hurtFrames = sharedHurtFrames();
+        deadFrames = sharedDeadFrames();
     }
 
     /**
-     * Helper method to load a single image.
-     *
-     * @param path the resource (image) path to load
-     * @return The loaded image as BufferedImage, or null if not found
+     * Decodes the frames shared by all enemies in advance, so that spawning
+     * enemies during a map change costs no I/O.
      */
-    private BufferedImage loadImage(final String path) {
-        try (InputStream is = getClass().getResourceAsStream(path)) {
-            if (is != null) {
-                return ImageIO.read(is);
-            } else {
-                LoggerUtils.error("Frame not found: " + path);
-                return null;
-            }
-        } catch (final IOException e) {
-            LoggerUtils.error("Error loading frame " + path + ": " + e.getMessage());
-            return null;
-        }
+    public static void preloadFrames() {
+        sharedRunFrames();
+        sharedHurtFrames();
+        sharedDeadFrames();
+    }
+
+    private static BufferedImage[] sharedRunFrames() {
+        return SpriteCache.getFrames("dummyenemy/run", RUN_FRAMES,
+                i -> String.format("/images/dummyenemy_run/__TRAINEE_Run_00%d.png", i + 1));
+    }
+
+    private static BufferedImage[] sharedHurtFrames() {
+        return SpriteCache.getFrames("dummyenemy/hurt", HURT_FRAMES,
+                i -> String.format("/images/dummyenemy_run/06-Hurt/__TRAINEE_Hurt_00%d.png", i + 1));
+    }
+
+    private static BufferedImage[] sharedDeadFrames() {
+        return SpriteCache.getFrames("dummyenemy/dead", DEAD_FRAMES,
+                i -> String.format("/images/dummyenemy_run/07-Dead/__TRAINEE_Dead_00%d.png", i + 1));
     }
 
     @Override
@@ -184,11 +174,11 @@ public final class DummyEnemy extends Entity implements Combatant {
     }
 
     /**
-     * Renders the correct frame based on the state.
+     * Writes the correct frame based on the state to a render state.
      *
-     * @param g the Graphics context to draw on
+     * @param renderState the render state of the frame being built
      */
-    public void render(final Graphics g) {
+    public void writeRenderState(final RenderState renderState) {
         BufferedImage frame = null;
 
         switch (state) {
@@ -210,17 +200,8 @@ public final class DummyEnemy extends Entity implements Combatant {
                 break;
         }
 
-        if (frame != null) {
-            if (!isFacingRight()) {
-                g.drawImage(frame, getX(), getY(), RENDER_SIZE, RENDER_SIZE, null);
-            } else {
-                g.drawImage(frame, getX() + RENDER_SIZE, getY(),
-                            -RENDER_SIZE, RENDER_SIZE, null);
-            }
-        } else {
-            g.setColor(Color.RED);
-            g.fillRect(getX(), getY(), RENDER_SIZE, RENDER_SIZE);
-        }
+        renderState.addSprite(frame, getX(), getY(), getPreviousX(), getPreviousY(), RENDER_SIZE, RENDER_SIZE,
+                isFacingRight(), Color.RED);
     }
 
     /**
@@ -229,6 +210,19 @@ public final class DummyEnemy extends Entity implements Combatant {
      * @param bald the player (Bald) to follow
      */
     public void followPlayer(final Bald bald) {
+        followPlayer(bald, null);
+    }
+
+    /**
+     * Follows the player ONLY if in the RUNNING state, going around walls
+     * along a flow field leading to the player.
+     * Without a field, or once it has led the enemy next to the player, the
+     * enemy heads straight for the player.
+     *
+     * @param bald  the player (Bald) to follow
+     * @param field the flow field leading to the player, or {@code null}
+     */
+    public void followPlayer(final Bald bald, final FlowField field) {
         if (state != EnemyState.RUNNING || bald == null) {
             return;
         }
@@ -236,6 +230,16 @@ public final class DummyEnemy extends Entity implements Combatant {
         double dx = 0.0;
         double dy = 0.0;
 
+        if (field != null && field.canGuide(getX(), getY())) {
+            dx = FlowField.approach(getX(), field.getWaypointX(getX(), getY()), SPEED_X);
+            dy = FlowField.approach(getY(), field.getWaypointY(getX(), getY()), SPEED_Y);
+            if (dx != 0.0) {
+                setFacingRight(dx > 0);
+            }
+            moveWithCollision(dx, dy);
+            return;
+        }
+
         if (bald.getX() > getX()) {
             dx = SPEED_X;
             setFacingRight(true);
@@ -277,8 +281,7 @@ public final class DummyEnemy extends Entity implements Combatant {
 
         for (int row = topTile; row <= bottomTile; row++) {
             for (int col = leftTile; col <= rightTile; col++) {
-                final Tile tile = tileMap.getTileAt(col, row);
-                if (tile != null && tile.isSolid()) {
+                if (tileMap.isSolidAt(col, row)) {
                     return true;
                 }
             }
@@ -295,27 +298,27 @@ public final class DummyEnemy extends Entity implements Combatant {
     }
 
     /**
-     * Used by GamePanel to know when to remove the body.
-     * @return true only if the enemy is in the final DEAD state.
+     * @return true if the enemy is chasing, i.e. it is neither hurt nor dying
      */
-    public boolean isRemovable() {
-        return state == EnemyState.DEAD;
+    public boolean isRunning() {
+        return state == EnemyState.RUNNING;
     }
 
     /**
-     * @return the timestamp (in milliseconds) of the last attack
+     * Used by GamePanel to know when to remove the body.
+     * @return true only if the enemy is in the final DEAD state.
      */
-    public long getLastAttackTime() {
-        return lastAttackTime;
+    public boolean isRemovable() {
+        return state == EnemyState.DEAD;
     }
 
     /**
-     * Sets the timestamp of the last attack.
+     * Starts the attack cooldown if the previous one is over.
      *
-     * @param time the timestamp (in milliseconds) to store
+     * @return true if the enemy can attack now
      */
-    public void setLastAttackTime(final long time) {
-        this.lastAttackTime = time;
+    public boolean tryStartAttack() {
+        return attackCooldown.tryStart();
     }
 
     /**
@@ -331,8 +334,7 @@ public final class DummyEnemy extends Entity implements Combatant {
         }
         final double dx = this.getX() - bald.getX();
         final double dy = this.getY() - bald.getY();
-        final double distance = Math.hypot(dx, dy);
-        return distance < MIN_DISTANCE;
+        return dx * dx + dy * dy < MIN_DISTANCE * MIN_DISTANCE;
     }
 
     /**
@@ -31,6 +31,12 @@ public class Entity {
     /** Whether the entity is facing right. */
     private boolean facingRight = true;
 
+    /** X position at the start of the last simulation tick, used for render interpolation. */
+    private int previousX;
+
+    /** Y position at the start of the last simulation tick, used for render interpolation. */
+    private int previousY;
+
     /**
      * Constructs an entity.
      *
@@ -49,6 +55,8 @@ public class Entity {
         this.height = height;
         this.name = name;
         this.lifeComponent = new LifeComponent(lifeComponent);
+        this.previousX = x;
+        this.previousY = y;
     }
 
     /**
@@ -171,6 +179,112 @@ public class Entity {
      * @return bounding box of the entity for collisions
      */
     public Rectangle getBounds() {
-        return new Rectangle(x, y, width, height);
+        return new Rectangle(getMinX(), getMinY(), getMaxX() - getMinX(), getMaxY() - getMinY());
+    }
+
+    /**
+     * @return left edge of the collision box in pixels (inclusive)
+     */
+    public int getMinX() {
+        return x;
+    }
+
+    /**
+     * @return top edge of the collision box in pixels (inclusive)
+     */
+    public int getMinY() {
+        return y;
+    }
+
+    /**
+     * @return right edge of the collision box in pixels (exclusive)
+     */
+    public int getMaxX() {
+        return x + width;
+    }
+
+    /**
+     * @return bottom edge of the collision box in pixels (exclusive)
+     */
+    public int getMaxY() {
+        return y + height;
+    }
+
+    /**
+     * Checks whether two axis-aligned boxes overlap, with the same semantics as
+     * {@link Rectangle#intersects(Rectangle)}: maximum edges are exclusive and
+     * empty boxes never overlap. Unlike {@link #getBounds()}, it allocates nothing.
+     *
+     * @param aMinX left edge of the first box
+     * @param aMinY top edge of the first box
+     * @param aMaxX right edge of the first box (exclusive)
+     * @param aMaxY bottom edge of the first box (exclusive)
+     * @param bMinX left edge of the second box
+     * @param bMinY top edge of the second box
+     * @param bMaxX right edge of the second box (exclusive)
+     * @param bMaxY bottom edge of the second box (exclusive)
+     * @return true if the boxes overlap
+     */
+    public static boolean intersects(final int aMinX, final int aMinY, final int aMaxX, final int aMaxY,
+                                     final int bMinX, final int bMinY, final int bMaxX, final int bMaxY) {
+        return aMinX < aMaxX && aMinY < aMaxY && bMinX < bMaxX && bMinY < bMaxY
+                && aMinX < bMaxX && bMinX < aMaxX && aMinY < bMaxY && bMinY < aMaxY;
+    }
+
+    /**
+     * Checks whether the collision boxes of two entities overlap.
+     *
+     * @param a first entity
+     * @param b second entity
+     * @return true if the boxes overlap
+     */
+    public static boolean intersects(final Entity a, final Entity b) {
+        return intersects(a.getMinX(), a.getMinY(), a.getMaxX(), a.getMaxY(),
+                b.getMinX(), b.getMinY(), b.getMaxX(), b.getMaxY());
+    }
+    /**
+     * Stores the current position as the previous one.
+     * Called at the start of every simulation tick, and after teleports
+     * so that the renderer does not interpolate across the jump.
+     */
+    public void storePreviousPosition() {
+        this.previousX = x;
+        this.previousY = y;
+    }
+
+    /**
+     * @return the x coordinate at the start of the last simulation tick
+     */
+    public int getPreviousX() {
+        return previousX;
+    }
+
+    /**
+     * @return the y coordinate at the start of the last simulation tick
+     */
+    public int getPreviousY() {
+        return previousY;
+    }
+
+    /**
+     * Returns the x coordinate to render, interpolated between the previous
+     * and the current simulation tick.
+     *
+     * @param alpha interpolation factor in [0, 1], where 1 is the current position
+     * @return the interpolated x coordinate in pixels
+     */
+    public int getInterpolatedX(final double alpha) {
+        return (int) Math.round(previousX + (x - previousX) * alpha);
+    }
+
+    /**
+     * Returns the y coordinate to render, interpolated between the previous
+     * and the current simulation tick.
+     *
+     * @param alpha interpolation factor in [0, 1], where 1 is the current position
+     * @return the interpolated y coordinate in pixels
+     */
+    public int getInterpolatedY(final double alpha) {
+        return (int) Math.round(previousY + (y - previousY) * alpha);
     }
 }
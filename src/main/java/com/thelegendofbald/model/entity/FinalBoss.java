@@ -2,18 +2,16 @@ package com.thelegendofbald.model.entity;
 
 import java.awt.Color;
 import java.awt.Rectangle;
-import java.awt.Graphics;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
 
-import javax.imageio.ImageIO;
 
 import com.thelegendofbald.combat.Combatant;
-import com.thelegendofbald.utils.LoggerUtils;
-import com.thelegendofbald.view.render.Tile;
+import com.thelegendofbald.model.system.FlowField;
+import com.thelegendofbald.model.system.Cooldown;
+import com.thelegendofbald.view.render.RenderState;
+import com.thelegendofbald.view.render.SpriteCache;
 import com.thelegendofbald.view.render.TileMap;
 
 /**
@@ -64,9 +62,9 @@ public final class FinalBoss extends Entity implements Combatant {
     private final TileMap map;
     private final int tileSize;
 
-    private long lastDashAt = -DASH_COOLDOWN_MS;
-    private long lastAoeAt = -AOE_COOLDOWN_MS;
-    private long lastMeleeAt = -MELEE_COOLDOWN_MS;
+    private final Cooldown dashCooldown = new Cooldown(DASH_COOLDOWN_MS);
+    private final Cooldown aoeCooldown = new Cooldown(AOE_COOLDOWN_MS);
+    private final Cooldown meleeCooldown = new Cooldown(MELEE_COOLDOWN_MS);
 
     private BufferedImage[] phase1Frames;
     private BufferedImage[] phase2Frames;
@@ -111,37 +109,23 @@ public final class FinalBoss extends Entity implements Combatant {
     }
 
     /**
-     * Helper to load a set of frames from a specific subfolder.
-     * @param phaseName Folder name (e.g., "phase1")
-     * @param frameCount Number of frames to load (e.g., 2)
-     * @return A BufferedImage array
+     * Decodes the boss frames in advance, so that spawning the boss costs no I/O.
      */
-    private BufferedImage[] loadFramesForPhase(final String phaseName, final int frameCount) {
-        final BufferedImage[] frames = new BufferedImage[frameCount];
-        for (int i = 0; i < frameCount; i++) {
-            final String framePath = String.format("/images/finalboss/%s/demon_walk_%d.png", phaseName, i + 1);
-            frames[i] = loadImage(framePath);
-        }
-        return frames;
+    public static void preloadFrames() {
+        loadFramesForPhase("phase1", ANIM_FRAMES_PER_PHASE);
+        loadFramesForPhase("phase2", ANIM_FRAMES_PER_PHASE);
+        loadFramesForPhase("phase3", ANIM_FRAMES_PER_PHASE);
     }
 
     /**
-     * Helper method to load a single image.
-     * @param path The full resource path
-     * @return The loaded image or null
+     * Helper to take a set of frames of a specific subfolder from the shared sprite cache.
+     * @param phaseName Folder name (e.g., "phase1")
+     * @param frameCount Number of frames to load (e.g., 2)
+     * @return A BufferedImage array
      */
-    private BufferedImage loadImage(final String path) {
-        try (InputStream is = getClass().getResourceAsStream(path)) {
-            if (is != null) {
-                return ImageIO.read(is);
-            } else {
-                LoggerUtils.error("Frame not found: " + path);
-                return null;
-            }
-        } catch (final IOException e) {
-            LoggerUtils.error("Error loading frame " + path + ": " + e.getMessage());
-            return null;
-        }
+    private static BufferedImage[] loadFramesForPhase(final String phaseName, final int frameCount) {
+        return SpriteCache.getFrames("finalboss/" + phaseName, frameCount,
+                i -> String.format("/images/finalboss/%s/demon_walk_%d.png", phaseName, i + 1));
     }
 
     /**
@@ -235,6 +219,17 @@ public final class FinalBoss extends Entity implements Combatant {
      * @param bald the player (Bald) to follow and attack
      */
     public void followPlayer(final Bald bald) {
+        followPlayer(bald, null);
+    }
+
+    /**
+     * Manages the boss's AI like {@link #followPlayer(Bald)}, walking around
+     * walls along a flow field leading to the player when it has one.
+     *
+     * @param bald  the player (Bald) to follow and attack
+     * @param field the flow field leading to the player, or {@code null}
+     */
+    public void followPlayer(final Bald bald, final FlowField field) {
         if (!alive || bald == null) {
             return;
         }
@@ -252,9 +247,8 @@ public final class FinalBoss extends Entity implements Combatant {
             return;
         }
 
-        final long now = System.currentTimeMillis();
-        if (dist >= DASH_MIN_DISTANCE_PX && (now - lastDashAt) >= DASH_COOLDOWN_MS && tryDash(dx, dy)) {
-            lastDashAt = now;
+        if (dist >= DASH_MIN_DISTANCE_PX && dashCooldown.isReady() && tryDash(dx, dy)) {
+            dashCooldown.start();
             return;
         }
 
@@ -262,6 +256,16 @@ public final class FinalBoss extends Entity implements Combatant {
         double moveDy = 0.0;
         final double speed = getCurrentSpeed(); 
 
+        if (field != null && field.canGuide(getX(), getY())) {
+            moveDx = FlowField.approach(getX(), field.getWaypointX(getX(), getY()), speed);
+            moveDy = FlowField.approach(getY(), field.getWaypointY(getX(), getY()), speed);
+            if (moveDx != 0.0) {
+                setFacingRight(moveDx > 0);
+            }
+            moveWithCollision(moveDx, moveDy);
+            return;
+        }
+
         if (bald.getX() > getX()) {
             moveDx = speed;
             setFacingRight(true);
@@ -330,13 +334,12 @@ public final class FinalBoss extends Entity implements Combatant {
      * @param bald the player
      */
     private void tryMelee(final Bald bald) {
-        final long now = System.currentTimeMillis();
-        if ((now - lastMeleeAt) < MELEE_COOLDOWN_MS) {
+        if (!meleeCooldown.isReady()) {
             return;
         }
 
         Optional.ofNullable(bald).ifPresent(b -> b.takeDamage(getAttackPower()));
-        lastMeleeAt = now;
+        meleeCooldown.start();
     }
 
     /**
@@ -345,15 +348,14 @@ public final class FinalBoss extends Entity implements Combatant {
      */
     private void tryAoe(final Bald bald) {
         final Bald player = Objects.requireNonNull(bald, "Bald must not be null");
-        final long now = System.currentTimeMillis();
-        if ((now - lastAoeAt) < AOE_COOLDOWN_MS) {
+        if (!aoeCooldown.isReady()) {
             return;
         }
         final int dx = player.getX() - getX();
         final int dy = player.getY() - getY();
         if (Math.hypot(dx, dy) <= AOE_RANGE_PX) {
             player.takeDamage(getAttackPower() + AOE_EXTRA_DAMAGE);
-            lastAoeAt = now;
+            aoeCooldown.start();
         }
     }
 
@@ -434,8 +436,7 @@ public final class FinalBoss extends Entity implements Combatant {
 
         for (int row = topTile; row <= bottomTile; row++) {
             for (int col = leftTile; col <= rightTile; col++) {
-                final Tile tile = map.getTileAt(col, row);
-                if (tile != null && tile.isSolid()) {
+                if (map.isSolidAt(col, row)) {
                     return true;
                 }
             }
@@ -444,42 +445,25 @@ public final class FinalBoss extends Entity implements Combatant {
     }
 
     /**
-     * Renders the boss's current frame and its health bar.
+     * Writes the boss's current frame and its health bar to a render state.
      *
-     * @param g the Graphics context to draw on
+     * @param state the render state of the frame being built
      */
-    public void render(final Graphics g) {
+    public void writeRenderState(final RenderState state) {
         final BufferedImage[] activeFrames = getActiveFrames();
         final BufferedImage frame =
             (activeFrames != null && activeFrames.length > 0) ? activeFrames[currentFrame % activeFrames.length] : null;
 
-        if (frame != null) {
-            if (!isFacingRight()) { 
-                g.drawImage(frame, getX(), getY(), RENDER_SIZE, RENDER_SIZE, null);
-            } else {
-                g.drawImage(frame, getX() + RENDER_SIZE, getY(),
-                            -RENDER_SIZE, RENDER_SIZE, null);
-            }
-        } else {
-            switch (phase) {
-                case 1: g.setColor(Color.RED); break;
-                case 2: g.setColor(Color.ORANGE); break;
-                case 3: g.setColor(Color.MAGENTA); break;
-                default: g.setColor(Color.RED);
-            }
-            g.fillRect(getX(), getY(), RENDER_SIZE, RENDER_SIZE);
+        final Color fallback;
+        switch (phase) {
+            case 2: fallback = Color.ORANGE; break;
+            case 3: fallback = Color.MAGENTA; break;
+            case 1:
+            default: fallback = Color.RED;
         }
-
-        final int hpBarWidth = RENDER_SIZE;
-        final int hpBarHeight = 5;
-        final int hpBarY = getY() - hpBarHeight - 2;
-        g.setColor(Color.GRAY);
-        g.fillRect(getX(), hpBarY, hpBarWidth, hpBarHeight);
-        final int currentHpWidth = (int) (hpBarWidth * ((double) health / maxHealth));
-        g.setColor(Color.GREEN.darker());
-        g.fillRect(getX(), hpBarY, currentHpWidth, hpBarHeight);
-        g.setColor(Color.BLACK);
-        g.drawRect(getX(), hpBarY, hpBarWidth, hpBarHeight);
+        final int sprite = state.addSprite(frame, getX(), getY(), getPreviousX(), getPreviousY(),
+                RENDER_SIZE, RENDER_SIZE, isFacingRight(), fallback);
+        state.setHealthBar(sprite, (double) health / maxHealth);
     }
 
     /**
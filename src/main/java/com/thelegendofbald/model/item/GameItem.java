@@ -4,11 +4,13 @@ import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 
-import javax.imageio.ImageIO;
 
+import com.thelegendofbald.model.entity.Animatable;
+import com.thelegendofbald.model.entity.Entity;
 import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.view.render.RenderState;
+import com.thelegendofbald.view.render.SpriteCache;
 
 /**
  * The base class for all items in the game.
@@ -70,6 +72,15 @@ public class GameItem {
         }
     }
 
+    /**
+     * Writes the item's sprite at its current position to a render state.
+     *
+     * @param state the render state of the frame being built
+     */
+    public void writeRenderState(final RenderState state) {
+        state.addStaticSprite(sprite, x, y, width, height, null, this instanceof Animatable);
+    }
+
     /**
      * Returns the name of the item.
      *
@@ -165,6 +176,47 @@ public class GameItem {
         return new Rectangle(x, y, width, height);
     }
 
+    /**
+     * @return left edge of the item's bounding box in pixels (inclusive)
+     */
+    public int getMinX() {
+        return x;
+    }
+
+    /**
+     * @return top edge of the item's bounding box in pixels (inclusive)
+     */
+    public int getMinY() {
+        return y;
+    }
+
+    /**
+     * @return right edge of the item's bounding box in pixels (exclusive)
+     */
+    public int getMaxX() {
+        return x + width;
+    }
+
+    /**
+     * @return bottom edge of the item's bounding box in pixels (exclusive)
+     */
+    public int getMaxY() {
+        return y + height;
+    }
+
+    /**
+     * Checks whether an item overlaps the collision box of an entity without
+     * allocating any {@link Rectangle}.
+     *
+     * @param item   the item
+     * @param entity the entity
+     * @return true if the boxes overlap
+     */
+    public static boolean intersects(final GameItem item, final Entity entity) {
+        return Entity.intersects(item.getMinX(), item.getMinY(), item.getMaxX(), item.getMaxY(),
+                entity.getMinX(), entity.getMinY(), entity.getMaxX(), entity.getMaxY());
+    }
+
     /**
      * Sets the price of the item.
      *
@@ -212,12 +264,11 @@ public class GameItem {
      * @param imagePath the path to the image resource
      */
     protected void loadImage(final String imagePath) {
-        try {
-            this.sprite = ImageIO.read(GameItem.class.getResourceAsStream(imagePath));
-        } catch (final IOException e) {
+        final Image cached = SpriteCache.getImage(imagePath);
+        if (cached == null) {
             LoggerUtils.error("Error loading image: " + imagePath);
-        } catch (final IllegalArgumentException e) {
-            LoggerUtils.error("Invalid image path: " + imagePath);
+            return;
         }
+        this.sprite = cached;
     }
 }
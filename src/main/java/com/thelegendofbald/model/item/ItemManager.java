@@ -3,17 +3,21 @@ package com.thelegendofbald.model.item;
 import java.awt.Graphics;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import com.thelegendofbald.model.entity.Animatable;
 import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.entity.Entity;
 import com.thelegendofbald.model.item.loot.LootGenerator;
 import com.thelegendofbald.model.item.map.MapItemLoader;
 import com.thelegendofbald.model.item.map.MapItemSpawner;
 import com.thelegendofbald.model.item.pickup.Chest;
 import com.thelegendofbald.model.item.pickup.Coin;
 import com.thelegendofbald.model.item.traps.Trap;
+import com.thelegendofbald.model.system.SpatialHashGrid;
+import com.thelegendofbald.view.render.RenderState;
 import com.thelegendofbald.view.render.TileMap;
 
 /**
@@ -27,6 +31,14 @@ public class ItemManager {
     private final MapItemLoader mapItemLoader;
     private final TileMap tileMap;
     private final LootGenerator lootGenerator;
+    /** Incremented whenever items are added, removed or change state. */
+    private int revision;
+    /** Broad-phase index of the items, rebuilt lazily when the revision changes. */
+    private final SpatialHashGrid<GameItem> itemGrid;
+    /** Revision the index was built for. */
+    private int indexedRevision = -1;
+    /** Reusable buffer for item queries. */
+    private final List<GameItem> nearbyItems = new ArrayList<>();
 
     /**
      * Constructs an ItemManager with the specified dependencies.
@@ -45,6 +57,7 @@ public class ItemManager {
         this.mapItemLoader = mapItemLoader;
         this.tileMap = tileMap;
         this.lootGenerator = lootGenerator;
+        this.itemGrid = new SpatialHashGrid<>(tileMap.getTileSize());
     }
 
     /**
@@ -52,10 +65,29 @@ public class ItemManager {
      * @param mapName the name of the map
      */
     public void loadItemsForMap(final String mapName) {
+        setItems(prepareItemsForMap(mapName));
+    }
+
+    /**
+     * Creates the items of a map without changing the current ones.
+     * Safe to call from any thread, e.g. to preload the next level in the background.
+     * @param mapName the name of the map
+     * @return the new items
+     */
+    public List<GameItem> prepareItemsForMap(final String mapName) {
         final String itemFile = "item_" + mapName + ".txt";
         final MapItemSpawner spawner = new MapItemSpawner(tileMap, itemFactory, mapItemLoader, itemFile);
         spawner.spawnItems();
-        this.items = new ArrayList<>(spawner.getItems());
+        return spawner.getItems();
+    }
+
+    /**
+     * Replaces the current items, e.g. with those prepared for a new map.
+     * @param newItems the items of the map
+     */
+    public void setItems(final List<GameItem> newItems) {
+        this.items = new ArrayList<>(newItems);
+        revision++;
     }
 
     /**
@@ -77,6 +109,17 @@ public class ItemManager {
         snapshot.forEach(item -> item.render(g));
     }
 
+    /**
+     * Writes all items to a render state. Must be called on the game thread,
+     * which is the only one modifying the items, so no copy is needed.
+     * @param state the render state of the frame being built
+     */
+    public void writeRenderState(final RenderState state) {
+        for (final GameItem item : items) {
+            item.writeRenderState(state);
+        }
+    }
+
     /**
      * Handles item collection when Bald intersects with items.
      * Chests are opened to generate loot, usable items apply effects and are removed,
@@ -85,39 +128,77 @@ public class ItemManager {
      * @param bald the Bald player character
      */
     public void handleItemCollection(final Bald bald) {
+        final List<GameItem> touched = findItemsIn(bald);
+        if (touched.isEmpty()) {
+            return;
+        }
         final List<GameItem> newItems = new ArrayList<>();
-        final Iterator<GameItem> it = items.iterator();
-
-        while (it.hasNext()) {
-            final GameItem item = it.next();
-
-            if (bald.getBounds().intersects(item.getBounds())) {
-
-                if (item instanceof Chest chest && !chest.isOpen()) {
-                        chest.open();
-                        final GameItem loot = lootGenerator.generateRandomItem(
-                            chest.getX(),
-                            chest.getY() + (chest.getWidth() / 2)
-                        );
-                        if (loot != null) {
-                            newItems.add(loot);
-                        }
-                } else if (item instanceof UsableItem usable) {
-                    usable.applyEffect(bald);
-                    it.remove();
-                } else if (item instanceof Trap trap && !trap.isTriggered()) {
-                    trap.interact(bald);
-                    if (trap.shouldRemoveOnTrigger()) {
-                        it.remove();
+        final Set<GameItem> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (final GameItem item : touched) {
+            if (item instanceof Chest chest && !chest.isOpen()) {
+                    chest.open();
+                    revision++;
+                    final GameItem loot = lootGenerator.generateRandomItem(
+                        chest.getX(),
+                        chest.getY() + (chest.getWidth() / 2)
+                    );
+                    if (loot != null) {
+                        newItems.add(loot);
                     }
-                } else if (item instanceof Coin coin) {
-                    coin.addToWallet(bald);
-                    it.remove();
+            } else if (item instanceof UsableItem usable) {
+                usable.applyEffect(bald);
+                removed.add(item);
+            } else if (item instanceof Trap trap && !trap.isTriggered()) {
+                trap.interact(bald);
+                if (trap.shouldRemoveOnTrigger()) {
+                    removed.add(item);
                 }
+                revision++;
+            } else if (item instanceof Coin coin) {
+                coin.addToWallet(bald);
+                removed.add(item);
             }
         }
 
-        items.addAll(newItems);
+        if (!removed.isEmpty()) {
+            items.removeIf(removed::contains);
+            revision++;
+        }
+        if (!newItems.isEmpty()) {
+            items.addAll(newItems);
+            revision++;
+        }
+    }
+
+    /**
+     * Returns the items whose bounds overlap the collision box of an entity,
+     * using a spatial index rebuilt only when the items change.
+     * The returned list is reused by the next query and must not be kept.
+     * @param entity the entity, usually Bald
+     * @return the items overlapping the entity, in list order
+     */
+    public List<GameItem> findItemsIn(final Entity entity) {
+        if (indexedRevision != revision) {
+            itemGrid.clear();
+            items.forEach(item -> itemGrid.insert(item, item.getMinX(), item.getMinY(),
+                    item.getMaxX() - item.getMinX(), item.getMaxY() - item.getMinY()));
+            indexedRevision = revision;
+        }
+        nearbyItems.clear();
+        itemGrid.query(entity.getMinX(), entity.getMinY(),
+                entity.getMaxX() - entity.getMinX(), entity.getMaxY() - entity.getMinY(), nearbyItems);
+        return nearbyItems;
+    }
+
+    /**
+     * Returns a counter that changes every time an item is added, removed,
+     * opened or triggered. Renderers use it to detect changes that are not
+     * covered by animations.
+     * @return the current revision of the item list
+     */
+    public int getRevision() {
+        return revision;
     }
 
     /**
@@ -134,5 +215,6 @@ public class ItemManager {
      */
     public void addItem(final GameItem item) {
         items.add(item);
+        revision++;
     }
 }
@@ -30,6 +30,16 @@ public class LootGenerator {
         this.lootPool = Collections.unmodifiableList(lootPool);
     }
 
+    /**
+     * Reseeds the random generator, so that the same seed always drops the same
+     * sequence of items, e.g. when replaying a recorded session.
+     *
+     * @param seed the seed of the random generator
+     */
+    public void setSeed(final long seed) {
+        random.setSeed(seed);
+    }
+
     /**
      * Generates a single random item from the loot pool.
      *
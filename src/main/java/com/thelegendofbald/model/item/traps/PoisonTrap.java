@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import javax.imageio.ImageIO;
+import com.thelegendofbald.model.system.Cooldown;
 import com.thelegendofbald.utils.LoggerUtils;
 
 /**
@@ -25,7 +26,7 @@ public class PoisonTrap extends Trap implements Animatable {
     private static final long REACTIVATION_DELAY_MS = 2000;
     private static final int FRAME_DELAY = 8;
 
-    private long lastTriggerTime;
+    private final Cooldown reactivation = new Cooldown(REACTIVATION_DELAY_MS);
     private BufferedImage[] idleFrames;
     private int currentFrameIndex;
     private int frameCounter;
@@ -84,14 +85,12 @@ public class PoisonTrap extends Trap implements Animatable {
      */
     @Override
     public void interact(final Bald bald) {
-        final long now = System.currentTimeMillis();
-        if (now - lastTriggerTime >= REACTIVATION_DELAY_MS) {
+        if (reactivation.tryStart()) {
             bald.applyBuff(new PoisonDebuff(
                 POISON_DURATION_MS,
                 POISON_DAMAGE_PER_TICK,
                 POISON_TICK_INTERVAL_MS
             ));
-            lastTriggerTime = now;
             LoggerUtils.info("You stepped on a poison trap! You are now poisoned.");
         }
     }
@@ -5,6 +5,8 @@ import com.thelegendofbald.model.entity.Bald;
 import java.awt.image.BufferedImage;
 import java.awt.Graphics;
 import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.view.render.RenderState;
+import com.thelegendofbald.model.entity.Animatable;
 
 /**
  * Abstract base class for all traps in the game.
@@ -50,6 +52,16 @@ public abstract class Trap extends GameItem {
         }
     }
 
+    /**
+     * Writes the trap to a render state, as a magenta rectangle if no sprite is set.
+     * @param state the render state of the frame being built
+     */
+    @Override
+    public void writeRenderState(final RenderState state) {
+        state.addStaticSprite(currentSprite, getX(), getY(), getWidth(), getHeight(),
+                java.awt.Color.MAGENTA, this instanceof Animatable);
+    }
+
     /**
      * Returns true if the trap has been triggered.
      *
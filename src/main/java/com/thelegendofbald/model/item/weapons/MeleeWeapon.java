@@ -49,7 +49,9 @@ public abstract class MeleeWeapon extends Weapon {
      * </p>
      *
      * @param attacker the entity performing the attack
-     * @param targets  the list of enemies (usa un tipo generico per la compatibilità)
+     * @param targets  the list of enemies (usa un tipo generico per la compatibilità);
+     *                 when the weapon has a combat manager, its spatial index is
+     *                 queried instead of scanning the whole list
      * @param boss     the final boss
      */
     @Override
@@ -69,14 +71,34 @@ public abstract class MeleeWeapon extends Weapon {
                     DRAWING_ANGLE_ARC_DEGREE, Arc2D.PIE);
         }
 
-        targets.stream()
-                .filter(target -> target.isAlive() && attackArea.intersects(target.getBounds()))
-                .forEach(target -> target.takeDamage(this.getDamage()));
+        final List<? extends Combatant> candidates = getCombatManager() != null
+                ? getCombatManager().findEnemiesIn(attackArea.getBounds2D())
+                : targets;
+        for (final Combatant target : candidates) {
+            if (target.isAlive() && hits(target)) {
+                target.takeDamage(this.getDamage());
+            }
+        }
 
-        if (boss != null && boss.isAlive() && attackArea.intersects(boss.getBounds())) {
+        if (boss != null && boss.isAlive() && hits(boss)) {
             boss.takeDamage(this.getDamage());
         }
     }
+    /**
+     * Checks whether the current attack arc overlaps a target.
+     * Entities are tested through their primitive bounds, without allocating a Rectangle.
+     *
+     * @param target the target
+     * @return true if the arc overlaps the target's bounds
+     */
+    private boolean hits(final Combatant target) {
+        if (target instanceof Entity entity) {
+            return attackArea.intersects(entity.getMinX(), entity.getMinY(),
+                    entity.getMaxX() - entity.getMinX(), entity.getMaxY() - entity.getMinY());
+        }
+        return attackArea.intersects(target.getBounds());
+    }
+
     /**
      * Gets the attack range of the melee weapon.
      *
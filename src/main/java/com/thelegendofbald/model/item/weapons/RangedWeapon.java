@@ -5,7 +5,6 @@ import java.util.List;
 import com.thelegendofbald.model.entity.Entity;
 import com.thelegendofbald.model.entity.FinalBoss;
 import com.thelegendofbald.combat.Combatant;
-import com.thelegendofbald.combat.Projectile;
 import com.thelegendofbald.model.system.CombatManager;
 
 /**
@@ -35,9 +34,7 @@ public abstract class RangedWeapon extends Weapon {
     }
 
     private void createProjectile(final int x, final int y, final int direction, final int speed) {
-        final Projectile projectile = new Projectile(x, y, direction, speed, this.getDamage());
-        this.getCombatManager().addProjectile(projectile);
-
+        this.getCombatManager().spawnProjectile(x, y, direction, speed, this.getDamage());
     }
 
     /**
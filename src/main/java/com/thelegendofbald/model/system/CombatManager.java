@@ -1,13 +1,16 @@
 package com.thelegendofbald.model.system;
 
-import java.util.LinkedList;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import com.thelegendofbald.model.entity.Bald;
 import com.thelegendofbald.model.entity.DummyEnemy;
+import com.thelegendofbald.model.entity.Entity;
 import com.thelegendofbald.model.entity.FinalBoss;
-import com.thelegendofbald.combat.Projectile;
+import com.thelegendofbald.combat.Combatant;
+import com.thelegendofbald.combat.ProjectilePool;
 import com.thelegendofbald.model.item.weapons.Weapon;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -18,30 +21,38 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  */
 public class CombatManager {
 
-    private static final int ENEMY_ATTACK_COOLDOWN = 700; 
+    /** Maximum number of projectiles in flight; further shots are dropped. */
+    private static final int MAX_PROJECTILES = 4096;
 
     private final Bald bald;
     private final List<DummyEnemy> enemies;
     private FinalBoss boss; 
-    private final List<Projectile> projectiles = new LinkedList<>();
+    private final ProjectilePool projectiles = new ProjectilePool(MAX_PROJECTILES);
+    /** Activity levels and broad-phase index of the enemies. */
+    private final EnemyActivityManager enemyActivity;
+    /** Reusable buffer for enemy queries. */
+    private final List<DummyEnemy> nearbyEnemies = new ArrayList<>();
 
-    private long lastAttackTime;
+    /** Cooldown between Bald's attacks; its duration follows the equipped weapon. */
+    private final Cooldown attackCooldown = new Cooldown(0);
 
     /**
      * Constructs a CombatManager. Il Boss viene aggiunto in seguito.
      *
-     * @param bald    The Bald character involved in combat.
-     * @param enemies The list of enemies that Bald will interact with.
+     * @param bald     The Bald character involved in combat.
+     * @param enemies  The list of enemies that Bald will interact with.
+     * @param cellSize The cell size of the collision broad-phase, usually the tile size.
      */
     @SuppressFBWarnings(
         value = "EI2", 
         justification = "This constructor is intended to be used for initializing"
         + " the CombatManager instance without throwing exceptions."
         )
-    public CombatManager(final Bald bald, final List<DummyEnemy> enemies) {
+    public CombatManager(final Bald bald, final List<DummyEnemy> enemies, final int cellSize) {
         this.bald = bald;
         this.enemies = enemies;
         this.boss = null;
+        this.enemyActivity = new EnemyActivityManager(enemies, cellSize);
     }
 
     /**
@@ -62,19 +73,16 @@ public class CombatManager {
      */
     public void tryToAttack() {
         final Optional<Weapon> weapon = bald.getWeapon();
-        final long now = System.currentTimeMillis();
-        final long cooldown = now - lastAttackTime;
 
         weapon.ifPresent(w -> {
-            if (cooldown < w.getAttackCooldown()) {
+            attackCooldown.setDuration(w.getAttackCooldown());
+            if (!attackCooldown.tryStart()) {
                 return;
             }
 
             bald.attack();
 
             w.performAttack(bald, enemies, boss); 
-
-            lastAttackTime = now;
         });
     }
 
@@ -82,63 +90,151 @@ public class CombatManager {
      * Checks for enemy attacks on Bald.
      */
     public void checkEnemyAttacks() {
-        final long now = System.currentTimeMillis();
-
-        enemies.stream()
-                .filter(enemy -> enemy.isAlive() && enemy.getBounds().intersects(bald.getBounds()))
-                .filter(enemy -> now - enemy.getLastAttackTime() >= ENEMY_ATTACK_COOLDOWN)
-                .forEach(enemy -> {
-                    bald.takeDamage(enemy.getAttackPower());
-                    enemy.setLastAttackTime(now);
-                });
-
+        for (final DummyEnemy enemy : findEnemiesIn(bald)) {
+            if (enemy.isAlive() && enemy.tryStartAttack()) {
+                bald.takeDamage(enemy.getAttackPower());
+            }
+        }
     }
 
     /**
      * Checks for projectile collisions with enemies AND THE BOSS.
+     * The whole path travelled by each projectile in the last move is tested,
+     * and the target it meets first is hit; ties go to the enemy found first,
+     * then to the boss. Projectiles that hit something or a wall are removed,
+     * and enemies hit from afar are woken up.
      */
     public void checkProjectiles() {
-        enemies.stream()
-                .filter(enemy -> enemy.isAlive() && projectiles.stream()
-                        .anyMatch(projectile -> projectile.getBounds().intersects(enemy.getBounds())))
-                .forEach(enemy -> {
-                    projectiles.removeIf(projectile -> {
-                        if (projectile.getBounds().intersects(enemy.getBounds())) {
-                            enemy.takeDamage(projectile.getAttackPower());
-                            return true;
-                        }
-                        return false;
-                    });
-                });
-
-        if (boss != null && boss.isAlive()) {
-            projectiles.removeIf(projectile -> {
-                if (projectile.getBounds().intersects(boss.getBounds())) {
-                    boss.takeDamage(projectile.getAttackPower());
-                    return true;
+        int i = 0;
+        while (i < projectiles.size()) {
+            final int startX = projectiles.getStartX(i);
+            final int startY = projectiles.getStartY(i);
+            final int endX = startX + projectiles.getVelocityX(i);
+            final int endY = startY + projectiles.getVelocityY(i);
+            nearbyEnemies.clear();
+            enemyActivity.query(Math.min(startX, endX), Math.min(startY, endY),
+                    Math.abs(endX - startX) + ProjectilePool.WIDTH, Math.abs(endY - startY) + ProjectilePool.HEIGHT,
+                    nearbyEnemies);
+
+            Combatant target = null;
+            double firstHit = Double.POSITIVE_INFINITY;
+            for (final DummyEnemy enemy : nearbyEnemies) {
+                if (enemy.isAlive()) {
+                    final double t = projectiles.hitTime(i,
+                            enemy.getMinX(), enemy.getMinY(), enemy.getMaxX(), enemy.getMaxY());
+                    if (t < firstHit) {
+                        firstHit = t;
+                        target = enemy;
+                    }
                 }
-                return false;
-            });
+            }
+            if (boss != null && boss.isAlive()
+                    && projectiles.hitTime(i, boss.getMinX(), boss.getMinY(), boss.getMaxX(), boss.getMaxY())
+                            < firstHit) {
+                target = boss;
+            }
+
+            if (target != null) {
+                target.takeDamage(projectiles.getDamage(i));
+                if (target instanceof DummyEnemy enemy) {
+                    enemyActivity.wake(enemy);
+                }
+                projectiles.remove(i);
+            } else if (!projectiles.isAlive(i)) {
+                projectiles.remove(i);
+            } else {
+                i++;
+            }
         }
+    }
 
-        projectiles.removeIf(projectile -> !projectile.isAlive());
+    /**
+     * Returns the living enemies whose bounds overlap an area, using the
+     * spatial index updated at the start of the tick.
+     * The returned list is reused by the next query and must not be kept.
+     *
+     * @param area the area to search, e.g. the bounds of a melee attack arc.
+     * @return the enemies overlapping the area.
+     */
+    public List<DummyEnemy> findEnemiesIn(final Rectangle2D area) {
+        nearbyEnemies.clear();
+        enemyActivity.query(area, nearbyEnemies);
+        return nearbyEnemies;
     }
 
     /**
-     * Adds a projectile to the combat manager.
+     * Returns the enemies whose bounds overlap the collision box of an entity.
+     * The returned list is reused by the next query and must not be kept.
      *
-     * @param projectile The projectile to be added.
+     * @param entity the entity, e.g. Bald or a projectile.
+     * @return the enemies overlapping the entity.
      */
-    public void addProjectile(final Projectile projectile) {
-        projectiles.add(projectile);
+    public List<DummyEnemy> findEnemiesIn(final Entity entity) {
+        nearbyEnemies.clear();
+        enemyActivity.query(entity.getMinX(), entity.getMinY(),
+                entity.getMaxX() - entity.getMinX(), entity.getMaxY() - entity.getMinY(), nearbyEnemies);
+        return nearbyEnemies;
     }
 
     /**
-     * Returns an unmodifiable view of the projectiles.
+     * Updates the spatial index with the awake enemies, which are the only
+     * ones that can move or die. Called after enemies have moved.
+     */
+    public void updateEnemyIndex() {
+        enemyActivity.updateIndex();
+    }
+
+    /**
+     * Tracks the enemies of a newly installed level, all asleep at first.
+     */
+    public void resetEnemies() {
+        enemyActivity.reset();
+    }
+
+    /**
+     * Returns the activity levels of the enemies.
+     *
+     * @return the enemy activity manager.
+     */
+    @SuppressFBWarnings(
+        value = "EI",
+        justification = "The game loop updates the enemies chosen by the shared activity manager."
+    )
+    public EnemyActivityManager getEnemyActivity() {
+        return enemyActivity;
+    }
+
+    /**
+     * Fires a projectile moving horizontally.
      *
-     * @return A list of projectiles.
+     * @param x         start x in pixels
+     * @param y         start y in pixels
+     * @param direction movement direction (0=right, 1=left)
+     * @param speed     pixels per tick
+     * @param damage    attack power of the projectile
      */
-    public List<Projectile> getProjectiles() {
-        return List.copyOf(projectiles);
+    public void spawnProjectile(final int x, final int y, final int direction, final int speed, final int damage) {
+        final int vx;
+        if (direction == 0) {
+            vx = speed;
+        } else if (direction == 1) {
+            vx = -speed;
+        } else {
+            vx = 0;
+        }
+        projectiles.spawn(x, y, vx, 0, damage);
+    }
+
+    /**
+     * Returns the projectiles in flight.
+     *
+     * @return the projectile pool.
+     */
+    @SuppressFBWarnings(
+        value = "EI",
+        justification = "The game loop moves and renders the projectiles directly in the pool."
+    )
+    public ProjectilePool getProjectiles() {
+        return projectiles;
     }
 }
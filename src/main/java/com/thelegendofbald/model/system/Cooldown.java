@@ -0,0 +1,84 @@
+package com.thelegendofbald.model.system;
+
+/**
+ * Cooldown measured on the game time, see {@link GameClock}: once started, it
+ * is not ready again until its duration has elapsed. A cooldown that has never
+ * been started is ready.
+ * <p>
+ * Like the game time, cooldowns do not run while the game is paused.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class Cooldown {
+
+    private long durationMillis;
+    private long startedAt;
+    private boolean started;
+
+    /**
+     * Creates a ready cooldown.
+     *
+     * @param durationMillis the duration in milliseconds
+     */
+    public Cooldown(final long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * @return true if the cooldown has never been started or its duration has elapsed
+     */
+    public boolean isReady() {
+        return !started || GameClock.now() - startedAt >= durationMillis;
+    }
+
+    /**
+     * Starts the cooldown from the current game time, even if it is running.
+     */
+    public void start() {
+        startedAt = GameClock.now();
+        started = true;
+    }
+
+    /**
+     * Starts the cooldown if it is ready.
+     *
+     * @return true if the cooldown was ready and has been started
+     */
+    public boolean tryStart() {
+        if (!isReady()) {
+            return false;
+        }
+        start();
+        return true;
+    }
+
+    /**
+     * Makes the cooldown ready again.
+     */
+    public void reset() {
+        started = false;
+    }
+
+    /**
+     * Changes the duration, also of a running cooldown, e.g. when it depends on the equipped weapon.
+     *
+     * @param durationMillis the duration in milliseconds
+     */
+    public void setDuration(final long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * @return the duration in milliseconds
+     */
+    public long getDuration() {
+        return durationMillis;
+    }
+
+    /**
+     * @return the milliseconds left before the cooldown is ready, 0 if it is ready
+     */
+    public long getRemainingMillis() {
+        return started ? Math.max(0, durationMillis - (GameClock.now() - startedAt)) : 0;
+    }
+}
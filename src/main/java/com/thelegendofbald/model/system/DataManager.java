@@ -23,6 +23,8 @@ import org.yaml.snakeyaml.representer.Representer;
 
 import com.thelegendofbald.model.system.Timer.TimeData;
 import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.utils.jfr.JfrEvents;
+import com.thelegendofbald.utils.jfr.SaveDataEvent;
 
 /**
  * DataManager is responsible for loading and saving game runs to a YAML file.
@@ -34,6 +36,7 @@ public final class DataManager {
     private static final String SAVE_FILE_PATH = SAVE_FILE_DIRECTORY + File.separator + "users_data.yml";
 
     private final Yaml yaml;
+    private final String saveFilePath;
 
     /**
      * Constructs a DataManager instance with configured YAML options.
@@ -41,6 +44,17 @@ public final class DataManager {
      * deserialization.
      */
     public DataManager() {
+        this(SAVE_FILE_PATH);
+    }
+
+    /**
+     * Constructs a DataManager reading and writing the runs in the given file,
+     * e.g. for benchmarks over leaderboards generated on purpose.
+     *
+     * @param saveFilePath the path of the YAML file holding the runs
+     */
+    public DataManager(final String saveFilePath) {
+        this.saveFilePath = saveFilePath;
         final DumperOptions dumperOptions = new DumperOptions();
         dumperOptions.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
         dumperOptions.setPrettyFlow(true);
@@ -70,8 +84,17 @@ public final class DataManager {
      * @return a list of GameRun objects loaded from the YAML file.
      */
     public List<GameRun> loadGameRuns() {
+        final SaveDataEvent event = JfrEvents.ENABLED ? new SaveDataEvent(SaveDataEvent.LOAD, saveFilePath) : null;
+        final List<GameRun> runs = readGameRuns();
+        if (event != null) {
+            event.end(runs.size());
+        }
+        return runs;
+    }
+
+    private List<GameRun> readGameRuns() {
         final List<?> rawList;
-        try (InputStream input = new FileInputStream(SAVE_FILE_PATH)) {
+        try (InputStream input = new FileInputStream(saveFilePath)) {
             rawList = yaml.load(input);
         } catch (final IOException e) {
             return new ArrayList<>();
@@ -112,10 +135,20 @@ public final class DataManager {
      * @throws IOException if an error occurs while writing to the file.
      */
     public void saveGameRun(final GameRun gameRun) throws IOException {
+        final SaveDataEvent event = JfrEvents.ENABLED ? new SaveDataEvent(SaveDataEvent.SAVE, saveFilePath) : null;
         final List<GameRun> gameRuns = loadGameRuns();
         gameRuns.add(gameRun);
+        try {
+            writeGameRuns(gameRuns);
+        } finally {
+            if (event != null) {
+                event.end(gameRuns.size());
+            }
+        }
+    }
 
-        final File saveFile = new File(SAVE_FILE_PATH);
+    private void writeGameRuns(final List<GameRun> gameRuns) throws IOException {
+        final File saveFile = new File(saveFilePath);
         final File parentDir = saveFile.getParentFile();
 
         if (Optional.ofNullable(parentDir).isPresent() && !parentDir.exists() && !parentDir.mkdirs()) {
@@ -0,0 +1,331 @@
+package com.thelegendofbald.model.system;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.entity.DummyEnemy;
+
+/**
+ * Decides how much simulation every enemy of the level gets, and keeps the
+ * spatial index of the living enemies used by combat.
+ * <p>
+ * Enemies have three levels of activity:
+ * </p>
+ * <ul>
+ * <li>{@link Activity#ACTIVE} enemies are close enough to chase Bald, or are
+ * playing their hurt or death animation, and run their AI and animation every tick;</li>
+ * <li>{@link Activity#IDLE} enemies are near Bald but not chasing, and only
+ * check whether to wake up or fall asleep every few ticks, {@value #DEFAULT_THINK_INTERVAL} by default;</li>
+ * <li>{@link Activity#ASLEEP} enemies are far from Bald, roughly outside the
+ * view, and are not visited at all: they are stored in a spatial grid and
+ * woken by querying it around Bald when Bald enters another tile, or when a
+ * projectile hits them.</li>
+ * </ul>
+ * <p>
+ * Sleeping enemies never move, so the combat index is updated incrementally,
+ * only for the awake ones. The cost of a tick therefore depends on the number
+ * of enemies near Bald, not on the number spawned in the level.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class EnemyActivityManager {
+
+    /**
+     * Level of simulation of an enemy.
+     */
+    public enum Activity {
+        /** Full AI and animation every tick. */
+        ACTIVE,
+        /** Re-evaluated at a reduced rate. */
+        IDLE,
+        /** Not simulated until woken. */
+        ASLEEP
+    }
+
+    /** Default number of ticks between two evaluations of an idle enemy. */
+    public static final int DEFAULT_THINK_INTERVAL = 8;
+
+    /** Distance from Bald, on each axis, below which sleeping enemies are woken. */
+    private static final int WAKE_RANGE = 400;
+    /** Distance from Bald, on each axis, above which idle enemies fall asleep; larger to avoid flickering. */
+    private static final int SLEEP_RANGE = 480;
+    /** Cell size of the grid of sleeping enemies, coarse since it is only queried with wide areas. */
+    private static final int SLEEP_CELL_SIZE = 128;
+
+    /**
+     * Bookkeeping of a single enemy.
+     */
+    private static final class Tracked {
+        private final DummyEnemy enemy;
+        private Activity activity = Activity.ASLEEP;
+        /** Handle in the combat index, -1 once the enemy is no longer alive. */
+        private int indexHandle = -1;
+        /** Handle in the grid of sleeping enemies, meaningful only while asleep. */
+        private int sleepHandle;
+        /** Tick on which the enemy woke up, used to spread idle evaluations across ticks. */
+        private int phase;
+
+        private Tracked(final DummyEnemy enemy) {
+            this.enemy = enemy;
+        }
+    }
+
+    private final List<DummyEnemy> enemies;
+    private final int cellSize;
+    private final SpatialHashGrid<DummyEnemy> index;
+    private final SpatialHashGrid<Tracked> sleeping = new SpatialHashGrid<>(SLEEP_CELL_SIZE);
+    private final Map<DummyEnemy, Tracked> tracked = new IdentityHashMap<>();
+    private final List<Tracked> awake = new ArrayList<>();
+    private final List<DummyEnemy> active = new ArrayList<>();
+    private final List<DummyEnemy> activeView = Collections.unmodifiableList(active);
+    /** Reusable buffer for the sleeping enemies found around Bald. */
+    private final List<Tracked> woken = new ArrayList<>();
+    private int tick;
+    /** Ticks between two evaluations of an idle enemy; may be changed from any thread. */
+    private volatile int thinkInterval = DEFAULT_THINK_INTERVAL;
+    private int baldCellX;
+    private int baldCellY;
+    private boolean baldLocated;
+
+    /**
+     * Creates a manager. {@link #reset()} must be called whenever the list of
+     * enemies is replaced.
+     *
+     * @param enemies  the enemies of the level; removable enemies are removed from it
+     * @param cellSize the cell size of the combat index, usually the tile size
+     */
+    public EnemyActivityManager(final List<DummyEnemy> enemies, final int cellSize) {
+        this.enemies = enemies;
+        this.cellSize = cellSize;
+        this.index = new SpatialHashGrid<>(cellSize);
+    }
+
+    /**
+     * Forgets every enemy and puts all the enemies of the list to sleep.
+     * Costs O(enemies), so it should only be called when a level is installed.
+     */
+    public void reset() {
+        index.clear();
+        sleeping.clear();
+        tracked.clear();
+        awake.clear();
+        active.clear();
+        baldLocated = false;
+        for (final DummyEnemy enemy : enemies) {
+            final Tracked t = new Tracked(enemy);
+            tracked.put(enemy, t);
+            if (enemy.isAlive()) {
+                t.indexHandle = index.insert(enemy, enemy.getMinX(), enemy.getMinY(),
+                        enemy.getMaxX() - enemy.getMinX(), enemy.getMaxY() - enemy.getMinY());
+            }
+            t.sleepHandle = sleeping.insert(t, enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
+        }
+    }
+
+    /**
+     * Wakes the enemies around Bald, re-evaluates the awake ones and drops the
+     * enemies whose death animation is over. Called once per tick.
+     *
+     * @param bald the player
+     */
+    public void update(final Bald bald) {
+        tick++;
+        wakeAround(bald);
+
+        active.clear();
+        final int interval = thinkInterval;
+        int i = 0;
+        while (i < awake.size()) {
+            final Tracked t = awake.get(i);
+            if (t.enemy.isRemovable()) {
+                forget(t);
+                removeAwake(i);
+                continue;
+            }
+            if (t.activity == Activity.ACTIVE || (tick - t.phase) % interval == 0) {
+                evaluate(t, bald);
+            }
+            if (t.activity == Activity.ASLEEP) {
+                t.enemy.storePreviousPosition();
+                t.sleepHandle = sleeping.insert(t, t.enemy.getX(), t.enemy.getY(),
+                        t.enemy.getWidth(), t.enemy.getHeight());
+                removeAwake(i);
+                continue;
+            }
+            if (t.activity == Activity.ACTIVE) {
+                active.add(t.enemy);
+            }
+            i++;
+        }
+    }
+
+    private void wakeAround(final Bald bald) {
+        final int cellX = Math.floorDiv(bald.getX(), cellSize);
+        final int cellY = Math.floorDiv(bald.getY(), cellSize);
+        if (baldLocated && cellX == baldCellX && cellY == baldCellY) {
+            return;
+        }
+        baldLocated = true;
+        baldCellX = cellX;
+        baldCellY = cellY;
+
+        woken.clear();
+        sleeping.query(bald.getX() - WAKE_RANGE, bald.getY() - WAKE_RANGE, 2 * WAKE_RANGE, 2 * WAKE_RANGE, woken);
+        for (final Tracked t : woken) {
+            wake(t, Activity.IDLE);
+        }
+    }
+
+    private void wake(final Tracked t, final Activity activity) {
+        sleeping.remove(t.sleepHandle);
+        t.activity = activity;
+        t.phase = tick;
+        awake.add(t);
+    }
+
+    private static void evaluate(final Tracked t, final Bald bald) {
+        final DummyEnemy enemy = t.enemy;
+        if (!enemy.isRunning() || enemy.isCloseTo(bald)) {
+            t.activity = Activity.ACTIVE;
+        } else if (Math.abs(enemy.getX() - bald.getX()) > SLEEP_RANGE
+                || Math.abs(enemy.getY() - bald.getY()) > SLEEP_RANGE) {
+            t.activity = Activity.ASLEEP;
+        } else {
+            t.activity = Activity.IDLE;
+        }
+    }
+
+    /** Removes an awake enemy from the list in O(1); the order of awake enemies is not kept. */
+    private void removeAwake(final int i) {
+        final int last = awake.size() - 1;
+        awake.set(i, awake.get(last));
+        awake.remove(last);
+    }
+
+    private void forget(final Tracked t) {
+        if (t.indexHandle >= 0) {
+            index.remove(t.indexHandle);
+        }
+        tracked.remove(t.enemy);
+        enemies.remove(t.enemy);
+    }
+
+    /**
+     * Wakes an enemy at once, e.g. because it was hit from afar, so that it
+     * plays its hurt or death animation.
+     *
+     * @param enemy the enemy
+     */
+    public void wake(final DummyEnemy enemy) {
+        final Tracked t = tracked.get(enemy);
+        if (t == null) {
+            return;
+        }
+        if (t.activity == Activity.ASLEEP) {
+            wake(t, Activity.ACTIVE);
+        } else {
+            t.activity = Activity.ACTIVE;
+        }
+    }
+
+    /**
+     * Updates the combat index with the positions of the awake enemies and
+     * removes the enemies that are no longer alive.
+     */
+    public void updateIndex() {
+        for (final Tracked t : awake) {
+            if (t.indexHandle < 0) {
+                continue;
+            }
+            final DummyEnemy enemy = t.enemy;
+            if (enemy.isAlive()) {
+                index.update(t.indexHandle, enemy.getMinX(), enemy.getMinY(),
+                        enemy.getMaxX() - enemy.getMinX(), enemy.getMaxY() - enemy.getMinY());
+            } else {
+                index.remove(t.indexHandle);
+                t.indexHandle = -1;
+            }
+        }
+    }
+
+    /**
+     * Stores the current position of the awake enemies as the previous one,
+     * for render interpolation. Sleeping enemies do not move.
+     */
+    public void storePreviousPositions() {
+        for (final Tracked t : awake) {
+            t.enemy.storePreviousPosition();
+        }
+    }
+
+    /**
+     * Collects the living enemies whose bounds overlap an area.
+     *
+     * @param x      left coordinate of the area
+     * @param y      top coordinate of the area
+     * @param width  width of the area
+     * @param height height of the area
+     * @param result list the overlapping enemies are appended to
+     */
+    public void query(final int x, final int y, final int width, final int height,
+            final List<? super DummyEnemy> result) {
+        index.query(x, y, width, height, result);
+    }
+
+    /**
+     * Collects the living enemies whose bounds overlap an area.
+     *
+     * @param area   the area
+     * @param result list the overlapping enemies are appended to
+     */
+    public void query(final Rectangle2D area, final List<? super DummyEnemy> result) {
+        index.query(area, result);
+    }
+
+    /**
+     * Changes how often idle enemies check whether to wake up or fall asleep.
+     * Can be called from any thread; the next update uses the new interval.
+     *
+     * @param ticks ticks between two evaluations, 1 to evaluate them every tick
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public void setThinkInterval(final int ticks) {
+        if (ticks <= 0) {
+            throw new IllegalArgumentException("The interval must be positive: " + ticks);
+        }
+        this.thinkInterval = ticks;
+    }
+
+    /**
+     * @return the ticks between two evaluations of an idle enemy
+     */
+    public int getThinkInterval() {
+        return thinkInterval;
+    }
+
+    /**
+     * Returns the enemies that must run their AI and animation this tick.
+     * The list is rebuilt by the next {@link #update(Bald)}.
+     *
+     * @return the active enemies
+     */
+    public List<DummyEnemy> getActiveEnemies() {
+        return activeView;
+    }
+
+    /**
+     * Returns the activity of an enemy.
+     *
+     * @param enemy the enemy
+     * @return its activity, or {@link Activity#ASLEEP} if it is not tracked
+     */
+    public Activity getActivity(final DummyEnemy enemy) {
+        final Tracked t = tracked.get(enemy);
+        return t == null ? Activity.ASLEEP : t.activity;
+    }
+}
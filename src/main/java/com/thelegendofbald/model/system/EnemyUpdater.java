@@ -0,0 +1,138 @@
+package com.thelegendofbald.model.system;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.entity.DummyEnemy;
+
+/**
+ * Runs the AI and animation of the active enemies, splitting them across a
+ * {@link ForkJoinPool} when there are enough of them.
+ * <p>
+ * During the update an enemy only reads Bald, the flow field and the solid
+ * tiles of the map, none of which change until the update is over, and only
+ * writes its own position, facing and animation. Enemies therefore never
+ * observe each other, and updating them in parallel gives exactly the same
+ * state as updating them one after another. Changes to shared structures,
+ * such as the combat index, are applied afterwards on the game thread, in
+ * the order of the list.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class EnemyUpdater {
+
+    /** Largest sensible number of workers: one per available processor. */
+    public static final int MAX_WORKERS = Runtime.getRuntime().availableProcessors();
+    /** Default number of workers, leaving half of the processors to rendering and the rest of the game. */
+    public static final int DEFAULT_WORKERS = Math.max(1, MAX_WORKERS / 2);
+
+    /** Below this many enemies the update stays on the game thread, as forking would cost more. */
+    private static final int PARALLEL_THRESHOLD = 64;
+    /** Enemies updated by a single task. */
+    private static final int CHUNK_SIZE = 32;
+
+    /** Worker count requested by the settings, applied by the next update. */
+    private volatile int requestedWorkers;
+    private int workers;
+    /** Pool of the workers, {@code null} while the update is sequential. */
+    private ForkJoinPool pool;
+
+    /**
+     * Creates an updater.
+     *
+     * @param workers number of worker threads; 1 or less keeps the update sequential
+     */
+    public EnemyUpdater(final int workers) {
+        this.requestedWorkers = workers;
+    }
+
+    /**
+     * Changes the number of worker threads. Can be called from any thread; the
+     * pool is replaced by the next update.
+     *
+     * @param workers number of worker threads; 1 or less keeps the update sequential
+     */
+    public void setWorkers(final int workers) {
+        this.requestedWorkers = workers;
+    }
+
+    /**
+     * Makes every enemy follow Bald and advance its animation.
+     * Must be called from the game thread.
+     *
+     * @param enemies the enemies to update
+     * @param bald    the player
+     * @param field   the flow field leading to Bald, or {@code null}
+     */
+    public void update(final List<DummyEnemy> enemies, final Bald bald, final FlowField field) {
+        applyWorkers();
+        if (pool == null || enemies.size() < PARALLEL_THRESHOLD) {
+            updateRange(enemies, 0, enemies.size(), bald, field);
+        } else {
+            pool.invoke(new Slice(enemies, 0, enemies.size(), bald, field));
+        }
+    }
+
+    /**
+     * @return the number of worker threads requested, applied by the next update
+     */
+    public int getWorkers() {
+        return Math.max(1, requestedWorkers);
+    }
+
+    private void applyWorkers() {
+        final int wanted = Math.max(1, requestedWorkers);
+        if (wanted == workers) {
+            return;
+        }
+        workers = wanted;
+        if (pool != null) {
+            pool.shutdown();
+        }
+        pool = wanted > 1 ? new ForkJoinPool(wanted) : null;
+    }
+
+    private static void updateRange(final List<DummyEnemy> enemies, final int from, final int to,
+            final Bald bald, final FlowField field) {
+        for (int i = from; i < to; i++) {
+            final DummyEnemy enemy = enemies.get(i);
+            enemy.followPlayer(bald, field);
+            enemy.updateAnimation();
+        }
+    }
+
+    /**
+     * Updates a range of the list, splitting it in halves until it is small enough.
+     */
+    private static final class Slice extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<DummyEnemy> enemies;
+        private final int from;
+        private final int to;
+        private final transient Bald bald;
+        private final transient FlowField field;
+
+        private Slice(final List<DummyEnemy> enemies, final int from, final int to, final Bald bald,
+                final FlowField field) {
+            this.enemies = enemies;
+            this.from = from;
+            this.to = to;
+            this.bald = bald;
+            this.field = field;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                updateRange(enemies, from, to, bald, field);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new Slice(enemies, from, middle, bald, field), new Slice(enemies, middle, to, bald, field));
+        }
+    }
+}
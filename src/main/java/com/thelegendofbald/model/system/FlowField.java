@@ -0,0 +1,194 @@
+package com.thelegendofbald.model.system;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Flow field over the tile grid leading every cell to a target.
+ * <p>
+ * The field is built once by a breadth-first search from the target cell, and
+ * stores for each cell the direction of the next cell on a shortest path, so
+ * that any number of enemies can find their way around walls with a single
+ * array lookup each.
+ * </p>
+ * <p>
+ * Cells are the positions of the top-left corner of an agent covering
+ * {@code clearance} x {@code clearance} tiles: a cell is walkable only if all
+ * those tiles are free, and diagonal steps never cut the corner of a wall.
+ * An agent aligned on the cells of the field therefore never gets stuck
+ * against a wall while following it.
+ * </p>
+ * Fields are immutable and can be read from any thread.
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class FlowField {
+
+    /** The cell cannot reach the target. */
+    private static final byte UNREACHABLE = -1;
+    /** The cell is already at the target. */
+    private static final byte GOAL = 8;
+    /** Steps of the eight directions, in opposite pairs; orthogonal ones first, so they win ties. */
+    private static final int[] STEP_X = {1, -1, 0, 0, 1, -1, 1, -1};
+    private static final int[] STEP_Y = {0, 0, 1, -1, 1, -1, -1, 1};
+    private static final int ORTHOGONAL = 4;
+
+    private final int cols;
+    private final int rows;
+    private final int tileSize;
+    /** Direction of the next cell towards the target, indexing {@link #STEP_X}, per cell. */
+    private final byte[] directions;
+
+    private FlowField(final int cols, final int rows, final int tileSize, final byte[] directions) {
+        this.cols = cols;
+        this.rows = rows;
+        this.tileSize = tileSize;
+        this.directions = directions;
+    }
+
+    /**
+     * Builds the field leading to a target cell.
+     * <p>
+     * The field starts from every walkable cell whose agent would cover the
+     * target tile, and costs O(cells) time; it allocates only its own arrays.
+     * </p>
+     *
+     * @param solid     solid tiles, indexed by {@code row * cols + col}
+     * @param cols      number of columns of the map
+     * @param rows      number of rows of the map
+     * @param tileSize  side length of a tile in pixels
+     * @param targetCol column of the target tile
+     * @param targetRow row of the target tile
+     * @param clearance side of the agents in tiles
+     * @return the new field
+     */
+    public static FlowField build(final BitSet solid, final int cols, final int rows, final int tileSize,
+            final int targetCol, final int targetRow, final int clearance) {
+        final boolean[] walkable = walkableCells(solid, cols, rows, clearance);
+        final byte[] directions = new byte[cols * rows];
+        Arrays.fill(directions, UNREACHABLE);
+        final int[] queue = new int[cols * rows];
+        int head = 0;
+        int tail = 0;
+
+        for (int row = targetRow - clearance + 1; row <= targetRow; row++) {
+            for (int col = targetCol - clearance + 1; col <= targetCol; col++) {
+                if (col >= 0 && row >= 0 && col < cols && row < rows && walkable[row * cols + col]) {
+                    directions[row * cols + col] = GOAL;
+                    queue[tail++] = row * cols + col;
+                }
+            }
+        }
+
+        while (head < tail) {
+            final int cell = queue[head++];
+            final int col = cell % cols;
+            final int row = cell / cols;
+            for (int d = 0; d < STEP_X.length; d++) {
+                final int nCol = col + STEP_X[d];
+                final int nRow = row + STEP_Y[d];
+                if (nCol < 0 || nRow < 0 || nCol >= cols || nRow >= rows) {
+                    continue;
+                }
+                final int next = nRow * cols + nCol;
+                if (directions[next] != UNREACHABLE || !walkable[next]
+                        || d >= ORTHOGONAL && !(walkable[row * cols + nCol] && walkable[nRow * cols + col])) {
+                    continue;
+                }
+                // The neighbour reaches the target through this cell: store the opposite step.
+                directions[next] = (byte) (d ^ 1);
+                queue[tail++] = next;
+            }
+        }
+        return new FlowField(cols, rows, tileSize, directions);
+    }
+
+    /**
+     * Marks the cells where an agent of the given size fits without touching
+     * a solid tile, using a summed-area table of the solid tiles.
+     */
+    private static boolean[] walkableCells(final BitSet solid, final int cols, final int rows,
+            final int clearance) {
+        final int[] sums = new int[(cols + 1) * (rows + 1)];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                sums[(row + 1) * (cols + 1) + col + 1] = (solid.get(row * cols + col) ? 1 : 0)
+                        + sums[row * (cols + 1) + col + 1]
+                        + sums[(row + 1) * (cols + 1) + col]
+                        - sums[row * (cols + 1) + col];
+            }
+        }
+        final boolean[] walkable = new boolean[cols * rows];
+        for (int row = 0; row + clearance <= rows; row++) {
+            for (int col = 0; col + clearance <= cols; col++) {
+                final int bottom = row + clearance;
+                final int right = col + clearance;
+                walkable[row * cols + col] = sums[bottom * (cols + 1) + right]
+                        - sums[row * (cols + 1) + right]
+                        - sums[bottom * (cols + 1) + col]
+                        + sums[row * (cols + 1) + col] == 0;
+            }
+        }
+        return walkable;
+    }
+
+    /**
+     * Tells whether the field can guide an agent, i.e. whether its cell reaches
+     * the target and is not already there. Agents that cannot be guided should
+     * head straight for the target.
+     *
+     * @param x x of the top-left corner of the agent in pixels
+     * @param y y of the top-left corner of the agent in pixels
+     * @return true if {@link #getWaypointX} and {@link #getWaypointY} lead to the target
+     */
+    public boolean canGuide(final int x, final int y) {
+        final byte direction = directionAt(x, y);
+        return direction != UNREACHABLE && direction != GOAL;
+    }
+
+    /**
+     * Returns where the agent should move its top-left corner next: the
+     * corner of the next cell on the way to the target.
+     * Only meaningful if {@link #canGuide} is true.
+     *
+     * @param x x of the top-left corner of the agent in pixels
+     * @param y y of the top-left corner of the agent in pixels
+     * @return x of the next waypoint in pixels
+     */
+    public int getWaypointX(final int x, final int y) {
+        return (Math.floorDiv(x, tileSize) + STEP_X[directionAt(x, y)]) * tileSize;
+    }
+
+    /**
+     * Returns where the agent should move its top-left corner next.
+     * Only meaningful if {@link #canGuide} is true.
+     *
+     * @param x x of the top-left corner of the agent in pixels
+     * @param y y of the top-left corner of the agent in pixels
+     * @return y of the next waypoint in pixels
+     * @see #getWaypointX(int, int)
+     */
+    public int getWaypointY(final int x, final int y) {
+        return (Math.floorDiv(y, tileSize) + STEP_Y[directionAt(x, y)]) * tileSize;
+    }
+
+    /**
+     * Moves a coordinate towards a destination by at most {@code speed}.
+     *
+     * @param from  the current coordinate
+     * @param to    the destination
+     * @param speed the maximum displacement
+     * @return the displacement, positive towards larger coordinates
+     */
+    public static double approach(final int from, final int to, final double speed) {
+        return Math.max(-speed, Math.min(speed, to - from));
+    }
+
+    private byte directionAt(final int x, final int y) {
+        final int col = Math.floorDiv(x, tileSize);
+        final int row = Math.floorDiv(y, tileSize);
+        if (col < 0 || row < 0 || col >= cols || row >= rows) {
+            return UNREACHABLE;
+        }
+        return directions[row * cols + col];
+    }
+}
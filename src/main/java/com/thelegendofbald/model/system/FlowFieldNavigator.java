@@ -0,0 +1,135 @@
+package com.thelegendofbald.model.system;
+
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Keeps the {@link FlowField} shared by all the enemies chasing Bald up to date.
+ * <p>
+ * The field is rebuilt only when the target moves to another tile or the map
+ * changes, on a daemon thread: the game thread only copies the solid tiles and
+ * swaps in the new field once it is ready. Until then enemies keep following
+ * the previous field, which is at most a tile behind.
+ * </p>
+ * <p>
+ * In synchronous mode the field is instead rebuilt on the game thread, so that
+ * the same ticks always see the same field, e.g. when replaying a session.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class FlowFieldNavigator {
+
+    /**
+     * Runs the background rebuilds one at a time: a rebuild takes a fraction of
+     * a tick and obsolete ones are discarded by generation, so a single thread
+     * created with the class serves the navigator of every game.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "flow-field");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final int agentSize;
+    /**
+     * Current field together with its generation, which is incremented when the
+     * map changes to discard fields built for the previous one. Both are
+     * replaced in a single step, so a stale build cannot be installed after a change.
+     */
+    private final AtomicReference<Published> published = new AtomicReference<>(new Published(0, null));
+    private volatile boolean synchronous;
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+    private int targetCol = -1;
+    private int targetRow = -1;
+
+    /**
+     * Creates a navigator without a field.
+     *
+     * @param agentSize side in pixels of the largest agent following the field
+     */
+    public FlowFieldNavigator(final int agentSize) {
+        this.agentSize = agentSize;
+    }
+
+    /**
+     * Chooses whether the field is rebuilt on the calling thread or in background.
+     * Switching discards the builds still running.
+     *
+     * @param synchronous true to rebuild the field on the calling thread
+     */
+    public void setSynchronous(final boolean synchronous) {
+        this.synchronous = synchronous;
+        published.updateAndGet(p -> new Published(p.generation() + 1, p.field()));
+    }
+
+    /**
+     * Starts rebuilding the field if the target entered another tile since the
+     * last build. Builds are never queued: while one is running, the request is
+     * retried by the next update. In synchronous mode the field is rebuilt
+     * before returning.
+     *
+     * @param map     the current map
+     * @param targetX x of the target in pixels
+     * @param targetY y of the target in pixels
+     */
+    public void update(final TileMap map, final int targetX, final int targetY) {
+        final int ts = map.getTileSize();
+        final int col = Math.floorDiv(targetX, ts);
+        final int row = Math.floorDiv(targetY, ts);
+        if (col == targetCol && row == targetRow || !synchronous && !pending.isDone()) {
+            return;
+        }
+        targetCol = col;
+        targetRow = row;
+
+        final int cols = map.getMapWidthInTiles();
+        final int rows = map.getMapHeightInTiles();
+        final BitSet solid = map.getSolidCells();
+        final int clearance = (agentSize + ts - 1) / ts;
+        if (synchronous) {
+            final FlowField built = FlowField.build(solid, cols, rows, ts, col, row, clearance);
+            published.updateAndGet(p -> new Published(p.generation(), built));
+            return;
+        }
+        final int buildGeneration = published.get().generation();
+        pending = CompletableFuture.runAsync(() -> {
+            final FlowField built = FlowField.build(solid, cols, rows, ts, col, row, clearance);
+            published.updateAndGet(p -> p.generation() == buildGeneration ? new Published(buildGeneration, built) : p);
+        }, EXECUTOR).exceptionally(e -> {
+            LoggerUtils.error("Flow field computation failed", e);
+            return null;
+        });
+    }
+
+    /**
+     * Drops the current field, e.g. after the map changed.
+     * Enemies head straight for the target until the next field is ready.
+     */
+    public void invalidate() {
+        published.updateAndGet(p -> new Published(p.generation() + 1, null));
+        targetCol = -1;
+        targetRow = -1;
+    }
+
+    /**
+     * @return the latest field, or {@code null} if none is ready for the current map
+     */
+    public FlowField getField() {
+        return published.get().field();
+    }
+
+    /**
+     * A field and the generation of the map it was built for.
+     *
+     * @param generation the generation of the map
+     * @param field      the field, or {@code null} if none is ready
+     */
+    private record Published(int generation, FlowField field) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.thelegendofbald.model.system;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Measures how long each phase of a frame takes, keeping the latest samples
+ * of every phase in a {@link TimingWindow}.
+ * <p>
+ * Phases are timed with {@link #start()} and {@link #lap(Phase, long)}, which
+ * neither allocate nor lock; while the profiler is disabled they do not even
+ * read the clock. Each phase must be timed by a single thread at a time, while
+ * the statistics may be read from any thread, e.g. by the overlay drawing them.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class FrameProfiler {
+
+    /** Number of samples kept for every phase, about two seconds at 60 ticks per second. */
+    public static final int DEFAULT_WINDOW = 120;
+
+    private static final double PERCENTILE_99 = 0.99;
+
+    /**
+     * The timed phases: the whole frame, the steps of a game update and the
+     * passes of a render.
+     */
+    public enum Phase {
+        /** A whole frame, updates and render included. */
+        FRAME("frame"),
+        /** Reading the input and applying it to Bald. */
+        INPUT("input"),
+        /** Bald's movement, animation and buffs. */
+        MOVEMENT("movement"),
+        /** Trigger zones and portals. */
+        PORTALS("portals"),
+        /** Enemy attacks on Bald. */
+        COMBAT("combat"),
+        /** Navigation, activity and AI of the enemies and of the boss. */
+        ENEMY_AI("enemy AI"),
+        /** Projectile movement and hits. */
+        PROJECTILES("projectiles"),
+        /** Item updates and pickups. */
+        ITEMS("items"),
+        /** Tiles and grid of the map. */
+        RENDER_MAP("draw map"),
+        /** Items lying on the map. */
+        RENDER_ITEMS("draw items"),
+        /** Bald, enemies, boss and projectiles. */
+        RENDER_ENTITIES("draw entities"),
+        /** Health, texts, attack area and end screens. */
+        RENDER_HUD("draw HUD");
+
+        private final String label;
+
+        Phase(final String label) {
+            this.label = label;
+        }
+
+        /**
+         * @return a short name to show for the phase
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final Map<Phase, TimingWindow> rings = new EnumMap<>(Phase.class);
+    private volatile boolean enabled;
+
+    /**
+     * Creates a disabled profiler keeping {@link #DEFAULT_WINDOW} samples per phase.
+     */
+    public FrameProfiler() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a disabled profiler.
+     *
+     * @param window number of samples kept for every phase
+     * @throws IllegalArgumentException if the window is not positive
+     */
+    public FrameProfiler(final int window) {
+        for (final Phase phase : Phase.values()) {
+            rings.put(phase, new TimingWindow(window));
+        }
+    }
+
+    /**
+     * Enables or disables the measurements. Disabling keeps the samples taken so far.
+     *
+     * @param enabled true to measure the phases
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return true if the phases are being measured
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @return the current time in nanoseconds, or 0 while the profiler is disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time elapsed since {@code start} as a sample of a phase and
+     * starts timing the next one. Samples started while the profiler was
+     * disabled are ignored.
+     *
+     * @param phase the phase that just ended
+     * @param start the value returned by {@link #start()} or by the previous lap
+     * @return the value to pass to the next lap
+     */
+    public long lap(final Phase phase, final long start) {
+        if (start == 0L || !enabled) {
+            return start();
+        }
+        final long now = System.nanoTime();
+        rings.get(phase).add(now - start);
+        return now;
+    }
+
+    /**
+     * Discards every sample.
+     */
+    public void clear() {
+        rings.values().forEach(TimingWindow::clear);
+    }
+
+    /**
+     * @param phase the phase
+     * @return the number of samples currently kept for the phase
+     */
+    public int getSampleCount(final Phase phase) {
+        return rings.get(phase).size();
+    }
+
+    /**
+     * @param phase the phase
+     * @return the shortest kept sample in nanoseconds, 0 without samples
+     */
+    public long getMin(final Phase phase) {
+        return rings.get(phase).min();
+    }
+
+    /**
+     * @param phase the phase
+     * @return the average of the kept samples in nanoseconds, 0 without samples
+     */
+    public long getAverage(final Phase phase) {
+        return rings.get(phase).average();
+    }
+
+    /**
+     * @param phase the phase
+     * @return the 99th percentile of the kept samples in nanoseconds, 0 without samples
+     */
+    public long getP99(final Phase phase) {
+        return rings.get(phase).percentile(PERCENTILE_99);
+    }
+
+    /**
+     * Copies the kept samples of a phase, from the oldest to the newest.
+     *
+     * @param phase       the phase
+     * @param destination array receiving the samples; only as many as fit are copied, the newest ones
+     * @return the number of samples copied
+     */
+    public int copySamples(final Phase phase, final long[] destination) {
+        return rings.get(phase).copyTo(destination);
+    }
+}
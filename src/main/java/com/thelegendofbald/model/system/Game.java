@@ -52,4 +52,33 @@ public interface Game {
      */
     void setShowingFPS(boolean showingFPS);
 
+    /**
+     * Toggles the overlay with the per-phase frame timings, and their measurement.
+     *
+     * @param showingProfiler true to measure and show the timings, false to hide them.
+     */
+    void setShowingProfiler(boolean showingProfiler);
+
+    /**
+     * Switches between a fixed timestep and a variable timestep simulation.
+     *
+     * @param fixedTimestep true to use a fixed timestep, false otherwise.
+     */
+    void setFixedTimestep(boolean fixedTimestep);
+
+    /**
+     * Switches between active rendering from the game thread and passive
+     * repaints on the event dispatch thread.
+     *
+     * @param activeRendering true to use active rendering, false otherwise.
+     */
+    void setActiveRendering(boolean activeRendering);
+
+    /**
+     * Sets how many worker threads update the enemies.
+     *
+     * @param workers the number of worker threads, 1 for a sequential update.
+     */
+    void setAiWorkers(int workers);
+
 }
@@ -0,0 +1,68 @@
+package com.thelegendofbald.model.system;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Source of the game time read by cooldowns, status effects and traps, and
+ * home of the {@link TimerWheel} running the delayed effects of the game.
+ * <p>
+ * The game time only moves when the game engine advances it by the length of
+ * a tick: it stops while the game is paused, and the same ticks always see
+ * the same times, no matter how fast they are run, which allows recorded
+ * sessions to be replayed.
+ * </p>
+ * This class cannot be instantiated.
+ */
+public final class GameClock {
+
+    /** Resolution of the timers: one fixed simulation tick at 60 Hz. */
+    public static final long TICK_NANOS = 1_000_000_000L / 60;
+
+    private static final TimerWheel TIMERS = new TimerWheel(TICK_NANOS);
+
+    private GameClock() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the current game time.
+     *
+     * @return the game time in milliseconds
+     */
+    public static long now() {
+        return TIMERS.now();
+    }
+
+    /**
+     * Returns the timer wheel of the game, to be used on the game thread only.
+     *
+     * @return the timer wheel advanced together with the game time
+     */
+    @SuppressFBWarnings(
+        value = "MS_EXPOSE_REP",
+        justification = "The wheel is shared on purpose: every timed effect of the game is scheduled on it."
+    )
+    public static TimerWheel timers() {
+        return TIMERS;
+    }
+
+    /**
+     * Advances the game time by the length of a tick, firing the timers that become due.
+     * Called by the game engine before every tick.
+     *
+     * @param nanos the length of the tick in nanoseconds
+     */
+    public static void advance(final long nanos) {
+        TIMERS.advance(nanos);
+    }
+
+    /**
+     * Moves the game time to a starting time and cancels every pending timer,
+     * e.g. before replaying a recorded session.
+     *
+     * @param startMillis the new game time in milliseconds
+     */
+    public static void reset(final long startMillis) {
+        TIMERS.reset(startMillis);
+    }
+}
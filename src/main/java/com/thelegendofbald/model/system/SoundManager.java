@@ -32,6 +32,15 @@ public final class SoundManager {
         SOUNDPLAYERS.add(soundPlayer);
     }
 
+    /**
+     * Returns how many sound players are managed, i.e. how many clips are kept open.
+     *
+     * @return the number of sound players
+     */
+    public static int getSoundPlayerCount() {
+        return SOUNDPLAYERS.size();
+    }
+
     /**
      * Retrieves the current master volume level.
      *
@@ -13,6 +13,8 @@ import javax.sound.sampled.LineUnavailableException;
 import javax.sound.sampled.UnsupportedAudioFileException;
 
 import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.utils.jfr.AssetLoadEvent;
+import com.thelegendofbald.utils.jfr.JfrEvents;
 
 /**
  * The {@code SoundPlayer} class is responsible for loading and playing audio
@@ -52,6 +54,14 @@ public final class SoundPlayer {
     }
 
     private void preloadSound() {
+        final AssetLoadEvent event = JfrEvents.ENABLED ? new AssetLoadEvent(AssetLoadEvent.SOUND, path) : null;
+        decodeSound();
+        if (event != null) {
+            event.end(clip.isPresent() && clip.get().isOpen());
+        }
+    }
+
+    private void decodeSound() {
         try (InputStream is = this.getClass().getResourceAsStream(path)) {
             Optional.ofNullable(is).orElseThrow(() -> new IllegalArgumentException("Sound file not found: " + path));
             final AudioInputStream audioStream = AudioSystem.getAudioInputStream(new BufferedInputStream(is));
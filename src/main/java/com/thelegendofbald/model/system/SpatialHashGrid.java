@@ -0,0 +1,316 @@
+package com.thelegendofbald.model.system;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Uniform spatial hash used as collision broad-phase.
+ * <p>
+ * Every registered element is stored, by handle, in each cell its
+ * axis-aligned bounding box overlaps; cells are hashed into a fixed number of
+ * buckets, so the grid has no bounds. Elements can be inserted, moved and
+ * removed incrementally, or the whole grid can be cleared and rebuilt every
+ * tick. Queries only visit the cells covered by the query area, and report
+ * each overlapping element once, in ascending handle order, which is the
+ * insertion order after a {@link #clear()}.
+ * </p>
+ * Bounds use the same convention as {@link java.awt.Rectangle}: the maximum
+ * coordinates ({@code x + width}, {@code y + height}) are exclusive.
+ *
+ * @param <T> the type of the registered elements
+ */
+public final class SpatialHashGrid<T> {
+
+    private static final int DEFAULT_BUCKETS = 1024;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+    private static final int HASH_X = 73_856_093;
+    private static final int HASH_Y = 19_349_663;
+
+    private final int cellSize;
+    private final int bucketMask;
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int[] minX = new int[INITIAL_CAPACITY];
+    private int[] minY = new int[INITIAL_CAPACITY];
+    private int[] maxX = new int[INITIAL_CAPACITY];
+    private int[] maxY = new int[INITIAL_CAPACITY];
+    private int[] stamps = new int[INITIAL_CAPACITY];
+    private int[] freeHandles = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int handleCount;
+    private int size;
+    private int stamp;
+
+    private int[] scratch = new int[INITIAL_CAPACITY];
+
+    /**
+     * Creates a grid with the default number of buckets.
+     *
+     * @param cellSize side of a cell in pixels, usually the tile size
+     */
+    public SpatialHashGrid(final int cellSize) {
+        this(cellSize, DEFAULT_BUCKETS);
+    }
+
+    /**
+     * Creates a grid.
+     *
+     * @param cellSize    side of a cell in pixels, usually the tile size
+     * @param bucketCount number of hash buckets, rounded up to a power of two
+     */
+    public SpatialHashGrid(final int cellSize, final int bucketCount) {
+        if (cellSize <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("Cell size and bucket count must be positive");
+        }
+        this.cellSize = cellSize;
+        final int count = Integer.highestOneBit(bucketCount - 1 > 0 ? (bucketCount - 1) << 1 : 1);
+        this.bucketMask = count - 1;
+        this.buckets = new int[count][INITIAL_BUCKET_CAPACITY];
+        this.bucketSizes = new int[count];
+    }
+
+    /**
+     * Removes every element. Handles are reassigned from zero afterwards.
+     */
+    public void clear() {
+        Arrays.fill(bucketSizes, 0);
+        Arrays.fill(elements, 0, handleCount, null);
+        handleCount = 0;
+        freeCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Registers an element.
+     *
+     * @param element the element
+     * @param x       left coordinate of its bounds
+     * @param y       top coordinate of its bounds
+     * @param width   width of its bounds
+     * @param height  height of its bounds
+     * @return the handle identifying the element in this grid
+     */
+    public int insert(final T element, final int x, final int y, final int width, final int height) {
+        Objects.requireNonNull(element, "element");
+        final int handle;
+        if (freeCount > 0) {
+            handle = freeHandles[--freeCount];
+        } else {
+            ensureCapacity(handleCount + 1);
+            handle = handleCount++;
+        }
+        elements[handle] = element;
+        setBounds(handle, x, y, width, height);
+        addToCells(handle);
+        size++;
+        return handle;
+    }
+
+    /**
+     * Moves an element. Cells are only touched if the element crossed a cell border.
+     *
+     * @param handle the handle returned by {@link #insert}
+     * @param x      new left coordinate of its bounds
+     * @param y      new top coordinate of its bounds
+     * @param width  new width of its bounds
+     * @param height new height of its bounds
+     */
+    public void update(final int handle, final int x, final int y, final int width, final int height) {
+        checkHandle(handle);
+        final int newMaxX = x + Math.max(1, width);
+        final int newMaxY = y + Math.max(1, height);
+        final boolean sameCells = cell(x) == cell(minX[handle]) && cell(y) == cell(minY[handle])
+                && cell(newMaxX - 1) == cell(maxX[handle] - 1) && cell(newMaxY - 1) == cell(maxY[handle] - 1);
+        if (sameCells) {
+            setBounds(handle, x, y, width, height);
+        } else {
+            removeFromCells(handle);
+            setBounds(handle, x, y, width, height);
+            addToCells(handle);
+        }
+    }
+
+    /**
+     * Unregisters an element. Its handle may be reused by later insertions.
+     *
+     * @param handle the handle returned by {@link #insert}
+     */
+    public void remove(final int handle) {
+        checkHandle(handle);
+        removeFromCells(handle);
+        elements[handle] = null;
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+        }
+        freeHandles[freeCount++] = handle;
+        size--;
+    }
+
+    /**
+     * Returns the element registered with a handle.
+     *
+     * @param handle the handle returned by {@link #insert}
+     * @return the element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int handle) {
+        checkHandle(handle);
+        return (T) elements[handle];
+    }
+
+    /**
+     * @return the number of registered elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Collects the elements whose bounds overlap an area.
+     *
+     * @param x      left coordinate of the area
+     * @param y      top coordinate of the area
+     * @param width  width of the area
+     * @param height height of the area
+     * @param result list the overlapping elements are appended to, in ascending handle order
+     * @return the number of elements appended
+     */
+    @SuppressWarnings("unchecked")
+    public int query(final int x, final int y, final int width, final int height, final List<? super T> result) {
+        final int found = collect(x, y, x + Math.max(1, width), y + Math.max(1, height));
+        for (int i = 0; i < found; i++) {
+            result.add((T) elements[scratch[i]]);
+        }
+        return found;
+    }
+
+    /**
+     * Collects the elements whose bounds overlap an area given in floating point
+     * coordinates, such as the bounds of an {@link java.awt.geom.Arc2D}.
+     *
+     * @param area   the area
+     * @param result list the overlapping elements are appended to, in ascending handle order
+     * @return the number of elements appended
+     */
+    public int query(final Rectangle2D area, final List<? super T> result) {
+        final int x = (int) Math.floor(area.getMinX());
+        final int y = (int) Math.floor(area.getMinY());
+        return query(x, y, (int) Math.ceil(area.getMaxX()) - x, (int) Math.ceil(area.getMaxY()) - y, result);
+    }
+
+    private int collect(final int qMinX, final int qMinY, final int qMaxX, final int qMaxY) {
+        stamp++;
+        if (stamp == 0) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+        int found = 0;
+        final int cx0 = cell(qMinX);
+        final int cy0 = cell(qMinY);
+        final int cx1 = cell(qMaxX - 1);
+        final int cy1 = cell(qMaxY - 1);
+        final long cells = ((long) cx1 - cx0 + 1) * ((long) cy1 - cy0 + 1);
+
+        if (cells > buckets.length) {
+            // The area spans more cells than there are buckets: checking every element is cheaper.
+            for (int h = 0; h < handleCount; h++) {
+                if (elements[h] != null && overlaps(h, qMinX, qMinY, qMaxX, qMaxY)) {
+                    found = addFound(found, h);
+                }
+            }
+            return found;
+        }
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                final int b = bucket(cx, cy);
+                final int[] bucket = buckets[b];
+                for (int i = 0; i < bucketSizes[b]; i++) {
+                    final int h = bucket[i];
+                    if (stamps[h] != stamp && overlaps(h, qMinX, qMinY, qMaxX, qMaxY)) {
+                        stamps[h] = stamp;
+                        found = addFound(found, h);
+                    }
+                }
+            }
+        }
+        Arrays.sort(scratch, 0, found);
+        return found;
+    }
+
+    private int addFound(final int found, final int handle) {
+        if (found == scratch.length) {
+            scratch = Arrays.copyOf(scratch, found * 2);
+        }
+        scratch[found] = handle;
+        return found + 1;
+    }
+
+    private boolean overlaps(final int h, final int qMinX, final int qMinY, final int qMaxX, final int qMaxY) {
+        return minX[h] < qMaxX && qMinX < maxX[h] && minY[h] < qMaxY && qMinY < maxY[h];
+    }
+
+    private void setBounds(final int handle, final int x, final int y, final int width, final int height) {
+        minX[handle] = x;
+        minY[handle] = y;
+        maxX[handle] = x + Math.max(1, width);
+        maxY[handle] = y + Math.max(1, height);
+    }
+
+    private void addToCells(final int handle) {
+        for (int cy = cell(minY[handle]); cy <= cell(maxY[handle] - 1); cy++) {
+            for (int cx = cell(minX[handle]); cx <= cell(maxX[handle] - 1); cx++) {
+                final int b = bucket(cx, cy);
+                if (bucketSizes[b] == buckets[b].length) {
+                    buckets[b] = Arrays.copyOf(buckets[b], bucketSizes[b] * 2);
+                }
+                buckets[b][bucketSizes[b]++] = handle;
+            }
+        }
+    }
+
+    private void removeFromCells(final int handle) {
+        for (int cy = cell(minY[handle]); cy <= cell(maxY[handle] - 1); cy++) {
+            for (int cx = cell(minX[handle]); cx <= cell(maxX[handle] - 1); cx++) {
+                final int b = bucket(cx, cy);
+                final int[] bucket = buckets[b];
+                for (int i = 0; i < bucketSizes[b]; i++) {
+                    if (bucket[i] == handle) {
+                        bucket[i] = bucket[--bucketSizes[b]];
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > elements.length) {
+            final int newCapacity = Math.max(capacity, elements.length * 2);
+            elements = Arrays.copyOf(elements, newCapacity);
+            minX = Arrays.copyOf(minX, newCapacity);
+            minY = Arrays.copyOf(minY, newCapacity);
+            maxX = Arrays.copyOf(maxX, newCapacity);
+            maxY = Arrays.copyOf(maxY, newCapacity);
+            stamps = Arrays.copyOf(stamps, newCapacity);
+        }
+    }
+
+    private void checkHandle(final int handle) {
+        if (handle < 0 || handle >= handleCount || elements[handle] == null) {
+            throw new IllegalArgumentException("Invalid handle: " + handle);
+        }
+    }
+
+    private int cell(final int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    private int bucket(final int cx, final int cy) {
+        return (cx * HASH_X ^ cy * HASH_Y) & bucketMask;
+    }
+}
@@ -0,0 +1,232 @@
+package com.thelegendofbald.model.system;
+
+import java.util.Objects;
+
+/**
+ * Hierarchical timer wheel running delayed tasks on the game thread.
+ * <p>
+ * Time is split into ticks of a fixed length and only moves when
+ * {@link #advance(long)} is called, so a paused game simply stops its timers.
+ * The wheel has four levels of 64 slots: a timer is
+ * placed in the level whose span covers its delay, and moved down one level
+ * each time the levels below complete a turn, until it fires from the lowest
+ * one. Scheduling and cancelling are O(1), firing is O(1) amortized, and ticks
+ * with no due timer only look at one empty slot. Delays beyond the span of the
+ * wheel, about three days of 60 Hz ticks, are parked in the highest level and
+ * rescheduled until due.
+ * </p>
+ * <p>
+ * The wheel is confined to the game thread; only {@link #now()} may be read
+ * from other threads.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class TimerWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long NANOS_IN_MILLI = 1_000_000L;
+
+    private final long tickNanos;
+    private final Timeout[][] slots = new Timeout[LEVELS][SLOTS];
+    private long currentTick;
+    private int size;
+    private volatile long elapsedNanos;
+    private volatile long startMillis;
+
+    /**
+     * Creates an empty wheel starting from time 0.
+     *
+     * @param tickNanos length of a tick in nanoseconds, i.e. the resolution of the timers
+     * @throws IllegalArgumentException if the length is not positive
+     */
+    public TimerWheel(final long tickNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("The tick length must be positive: " + tickNanos);
+        }
+        this.tickNanos = tickNanos;
+    }
+
+    /**
+     * @return the time of the wheel in milliseconds, i.e. the starting time plus the time advanced so far
+     */
+    public long now() {
+        return startMillis + elapsedNanos / NANOS_IN_MILLI;
+    }
+
+    /**
+     * @return the number of timers waiting to fire
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules a task. The task fires on the first tick at which the time of
+     * the wheel has moved by at least the delay, and never on the current tick.
+     *
+     * @param delayMillis the delay in milliseconds; not positive delays fire on the next tick
+     * @param task        the task to run on the game thread
+     * @return the handle to cancel the timer
+     */
+    public Timeout schedule(final long delayMillis, final Runnable task) {
+        Objects.requireNonNull(task, "task");
+        final long target = elapsedNanos + Math.max(0, delayMillis) * NANOS_IN_MILLI;
+        final long deadline = Math.max(currentTick + 1, Math.ceilDiv(target, tickNanos));
+        final Timeout timeout = new Timeout(this, deadline, task);
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Moves the time of the wheel forward, firing the timers that become due,
+     * in order of tick.
+     *
+     * @param nanos the time elapsed in nanoseconds, e.g. the length of a simulation tick
+     */
+    public void advance(final long nanos) {
+        final long elapsed = elapsedNanos + nanos;
+        elapsedNanos = elapsed;
+        final long target = elapsed / tickNanos;
+        if (size == 0) {
+            currentTick = Math.max(currentTick, target);
+            return;
+        }
+        while (currentTick < target) {
+            step();
+        }
+    }
+
+    /**
+     * Cancels every timer and moves the wheel back to a starting time.
+     *
+     * @param millis the new time of the wheel in milliseconds
+     */
+    public void reset(final long millis) {
+        for (final Timeout[] level : slots) {
+            for (int s = 0; s < SLOTS; s++) {
+                while (level[s] != null) {
+                    level[s].cancel();
+                }
+            }
+        }
+        currentTick = 0;
+        elapsedNanos = 0;
+        startMillis = millis;
+    }
+
+    private void step() {
+        currentTick++;
+        for (int level = 1; level < LEVELS; level++) {
+            final int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                break;
+            }
+            final Timeout[] bucket = slots[level];
+            final int slot = (int) (currentTick >>> shift & SLOT_MASK);
+            while (bucket[slot] != null) {
+                final Timeout timeout = bucket[slot];
+                unlink(timeout);
+                insert(timeout);
+            }
+        }
+        final Timeout[] lowest = slots[0];
+        final int slot = (int) (currentTick & SLOT_MASK);
+        while (lowest[slot] != null) {
+            final Timeout timeout = lowest[slot];
+            unlink(timeout);
+            if (timeout.deadline > currentTick) {
+                insert(timeout);
+            } else {
+                size--;
+                timeout.state = Timeout.FIRED;
+                timeout.task.run();
+            }
+        }
+    }
+
+    private void insert(final Timeout timeout) {
+        final long delay = timeout.deadline - currentTick;
+        int level = 0;
+        long span = SLOTS;
+        while (delay >= span && level < LEVELS - 1) {
+            level++;
+            span <<= SLOT_BITS;
+        }
+        final long at = delay >= span ? currentTick + span - 1 : timeout.deadline;
+        final int slot = (int) (at >>> (SLOT_BITS * level) & SLOT_MASK);
+        final Timeout head = slots[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][slot] = timeout;
+    }
+
+    private void unlink(final Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    /**
+     * Handle of a scheduled task.
+     * The class is <b>final</b> and is not intended to be extended.
+     */
+    public static final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int FIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final TimerWheel wheel;
+        private final long deadline;
+        private final Runnable task;
+        private Timeout prev;
+        private Timeout next;
+        private int level;
+        private int slot;
+        private int state = PENDING;
+
+        private Timeout(final TimerWheel wheel, final long deadline, final Runnable task) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Cancels the timer, if it has not fired yet.
+         *
+         * @return true if the timer was pending and will no longer fire
+         */
+        public boolean cancel() {
+            if (state != PENDING) {
+                return false;
+            }
+            state = CANCELLED;
+            wheel.unlink(this);
+            wheel.size--;
+            return true;
+        }
+
+        /**
+         * @return true if the timer has neither fired nor been cancelled
+         */
+        public boolean isPending() {
+            return state == PENDING;
+        }
+    }
+}
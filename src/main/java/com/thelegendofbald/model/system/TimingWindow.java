@@ -0,0 +1,123 @@
+package com.thelegendofbald.model.system;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ring buffer of the latest durations of something, in nanoseconds, with
+ * rolling minimum, average and percentiles.
+ * <p>
+ * Samples are added by a single thread without allocating or locking and
+ * published through a volatile counter, so that the statistics can be read
+ * from any thread. Readers synchronize among themselves to share the scratch
+ * array used by the percentiles.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class TimingWindow {
+
+    private final AtomicLongArray samples;
+    private final long[] scratch;
+    private volatile long written;
+
+    /**
+     * Creates an empty window.
+     *
+     * @param capacity number of samples kept
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public TimingWindow(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The window must be positive: " + capacity);
+        }
+        this.samples = new AtomicLongArray(capacity);
+        this.scratch = new long[capacity];
+    }
+
+    /**
+     * Adds a sample, replacing the oldest one when the window is full.
+     * Must be called by one thread at a time.
+     *
+     * @param sample the duration in nanoseconds
+     */
+    public void add(final long sample) {
+        final long index = written;
+        samples.lazySet((int) (index % samples.length()), sample);
+        written = index + 1;
+    }
+
+    /**
+     * Discards every sample.
+     */
+    public void clear() {
+        written = 0;
+    }
+
+    /**
+     * @return the number of samples kept
+     */
+    public int size() {
+        return (int) Math.min(written, samples.length());
+    }
+
+    /**
+     * @return the shortest kept sample, 0 without samples
+     */
+    public long min() {
+        final int size = size();
+        long min = size == 0 ? 0L : Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, samples.get(i));
+        }
+        return min;
+    }
+
+    /**
+     * @return the average of the kept samples, 0 without samples
+     */
+    public long average() {
+        final int size = size();
+        if (size == 0) {
+            return 0L;
+        }
+        long sum = 0L;
+        for (int i = 0; i < size; i++) {
+            sum += samples.get(i);
+        }
+        return sum / size;
+    }
+
+    /**
+     * Returns a percentile of the kept samples, with the nearest-rank method.
+     *
+     * @param fraction the percentile as a fraction, e.g. 0.99
+     * @return the smallest sample not lower than the given fraction of the samples, 0 without samples
+     */
+    public synchronized long percentile(final double fraction) {
+        final int size = size();
+        if (size == 0) {
+            return 0L;
+        }
+        for (int i = 0; i < size; i++) {
+            scratch[i] = samples.get(i);
+        }
+        // Primitives are sorted in place, without allocating.
+        Arrays.sort(scratch, 0, size);
+        return scratch[Math.max(0, Math.min(size - 1, (int) Math.ceil(fraction * size) - 1))];
+    }
+
+    /**
+     * Copies the kept samples, from the oldest to the newest.
+     *
+     * @param destination array receiving the samples; only as many as fit are copied, the newest ones
+     * @return the number of samples copied
+     */
+    public int copyTo(final long[] destination) {
+        final long end = written;
+        final int count = (int) Math.min(Math.min(end, samples.length()), destination.length);
+        for (int i = 0; i < count; i++) {
+            destination[i] = samples.get((int) ((end - count + i) % samples.length()));
+        }
+        return count;
+    }
+}
@@ -0,0 +1,58 @@
+package com.thelegendofbald.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The decoding of a resource, a sprite or a sound.
+ * Created only when {@link JfrEvents#ENABLED}.
+ */
+@Name("thelegendofbald.AssetLoad")
+@Label("Asset Load")
+@Category({JfrEvents.CATEGORY, "Assets"})
+@Description("Reading and decoding of an image or of a sound")
+public final class AssetLoadEvent extends Event {
+
+    /** Kind of an image asset. */
+    public static final String SPRITE = "sprite";
+    /** Kind of an audio asset. */
+    public static final String SOUND = "sound";
+
+    @Label("Kind")
+    private String kind;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Loaded")
+    @Description("False if the resource was missing or could not be decoded")
+    private boolean loaded;
+
+    /**
+     * Starts timing a load.
+     *
+     * @param kind {@link #SPRITE} or {@link #SOUND}
+     * @param path resource path of the asset
+     */
+    public AssetLoadEvent(final String kind, final String path) {
+        this.kind = kind;
+        this.path = path;
+        begin();
+    }
+
+    /**
+     * Ends the load and commits it, if the recording wants it.
+     *
+     * @param success true if the asset was decoded
+     */
+    public void end(final boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.loaded = success;
+            commit();
+        }
+    }
+}
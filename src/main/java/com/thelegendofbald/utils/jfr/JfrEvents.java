@@ -0,0 +1,39 @@
+package com.thelegendofbald.utils.jfr;
+
+/**
+ * Switch of the custom Flight Recorder events of the game.
+ * <p>
+ * The events are created only when the JVM is started with
+ * {@code -Dbald.jfr} (or {@code -Dbald.jfr=true}); the flag is a constant,
+ * so when it is off the JIT removes the instrumentation altogether. The
+ * events end up in a recording started as usual, e.g. with
+ * {@code -XX:StartFlightRecording} or {@code jcmd <pid> JFR.start}, next to
+ * the GC and safepoint events of the JVM.
+ * </p>
+ * This is a utility class and cannot be instantiated.
+ */
+public final class JfrEvents {
+
+    /** Name of the system property enabling the events. */
+    public static final String PROPERTY = "bald.jfr";
+    /** Whether the events are created, read once at startup. */
+    public static final boolean ENABLED = isEnabled(System.getProperty(PROPERTY));
+
+    /** Category shared by every event of the game in the recordings. */
+    static final String CATEGORY = "The Legend of Bald";
+
+    private JfrEvents() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Tells whether a value of the {@value #PROPERTY} property enables the events:
+     * any value but {@code false}, including an empty one.
+     *
+     * @param value the value of the property, {@code null} if it is not set
+     * @return true if the events are enabled
+     */
+    static boolean isEnabled(final String value) {
+        return value != null && !"false".equalsIgnoreCase(value.trim());
+    }
+}
@@ -0,0 +1,57 @@
+package com.thelegendofbald.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The switch from a map to another: layout, actors, items and navigation.
+ * Created only when {@link JfrEvents#ENABLED}.
+ */
+@Name("thelegendofbald.MapChange")
+@Label("Map Change")
+@Category({JfrEvents.CATEGORY, "Levels"})
+@Description("Installation of a new map and of its actors")
+public final class MapChangeEvent extends Event {
+
+    @Label("From Map")
+    private String fromMap;
+
+    @Label("To Map")
+    private String toMap;
+
+    @Label("Enemies")
+    private int enemies;
+
+    @Label("Items")
+    private int items;
+
+    /**
+     * Starts timing a map change.
+     *
+     * @param fromMap the map being left, {@code null} on the first load
+     * @param toMap   the map being loaded
+     */
+    public MapChangeEvent(final String fromMap, final String toMap) {
+        this.fromMap = fromMap;
+        this.toMap = toMap;
+        begin();
+    }
+
+    /**
+     * Ends the map change and commits it, if the recording wants it.
+     *
+     * @param enemyCount enemies placed in the new map
+     * @param itemCount  items placed in the new map
+     */
+    public void end(final int enemyCount, final int itemCount) {
+        end();
+        if (shouldCommit()) {
+            this.enemies = enemyCount;
+            this.items = itemCount;
+            commit();
+        }
+    }
+}
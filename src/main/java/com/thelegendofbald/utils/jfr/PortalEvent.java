@@ -0,0 +1,53 @@
+package com.thelegendofbald.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Bald walking through a portal, map change included.
+ * Created only when {@link JfrEvents#ENABLED}.
+ */
+@Name("thelegendofbald.Portal")
+@Label("Portal Transition")
+@Category({JfrEvents.CATEGORY, "Levels"})
+@Description("Bald entering a portal to the next or to the previous map")
+public final class PortalEvent extends Event {
+
+    @Label("From Map")
+    private String fromMap;
+
+    @Label("Forward")
+    @Description("True towards the next map, false towards the previous one")
+    private boolean forward;
+
+    @Label("To Map")
+    private String toMap;
+
+    /**
+     * Starts timing a transition.
+     *
+     * @param fromMap the map being left
+     * @param forward true towards the next map
+     */
+    public PortalEvent(final String fromMap, final boolean forward) {
+        this.fromMap = fromMap;
+        this.forward = forward;
+        begin();
+    }
+
+    /**
+     * Ends the transition and commits it, if the recording wants it.
+     *
+     * @param destination the map reached
+     */
+    public void end(final String destination) {
+        end();
+        if (shouldCommit()) {
+            this.toMap = destination;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.thelegendofbald.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Reading or writing the saved game runs.
+ * Created only when {@link JfrEvents#ENABLED}.
+ */
+@Name("thelegendofbald.SaveData")
+@Label("Save Data")
+@Category({JfrEvents.CATEGORY, "Save Data"})
+@Description("Loading or saving of the leaderboard")
+public final class SaveDataEvent extends Event {
+
+    /** Operation reading the runs. */
+    public static final String LOAD = "load";
+    /** Operation writing the runs. */
+    public static final String SAVE = "save";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Runs")
+    @Description("Runs read, or written, by the operation")
+    private int runs;
+
+    /**
+     * Starts timing an operation.
+     *
+     * @param operation {@link #LOAD} or {@link #SAVE}
+     * @param path      path of the save file
+     */
+    public SaveDataEvent(final String operation, final String path) {
+        this.operation = operation;
+        this.path = path;
+        begin();
+    }
+
+    /**
+     * Ends the operation and commits it, if the recording wants it.
+     *
+     * @param runCount runs read or written
+     */
+    public void end(final int runCount) {
+        end();
+        if (shouldCommit()) {
+            this.runs = runCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.thelegendofbald.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A simulation tick, from the input to the item pickups, with the number of
+ * entities it went through. Created only when {@link JfrEvents#ENABLED}.
+ */
+@Name("thelegendofbald.Tick")
+@Label("Simulation Tick")
+@Category({JfrEvents.CATEGORY, "Simulation"})
+@Description("One update of the game state")
+@StackTrace(false)
+public final class TickEvent extends Event {
+
+    @Label("Enemies")
+    private int enemies;
+
+    @Label("Active Enemies")
+    @Description("Enemies awake and simulated during the tick")
+    private int activeEnemies;
+
+    @Label("Projectiles")
+    private int projectiles;
+
+    @Label("Items")
+    private int items;
+
+    /**
+     * Starts timing a tick.
+     */
+    public TickEvent() {
+        begin();
+    }
+
+    /**
+     * Ends the tick and commits it, if the recording wants it.
+     *
+     * @param enemyCount      enemies in the map
+     * @param activeCount     enemies simulated during the tick
+     * @param projectileCount projectiles in flight
+     * @param itemCount       items in the map
+     */
+    public void end(final int enemyCount, final int activeCount, final int projectileCount, final int itemCount) {
+        end();
+        if (shouldCommit()) {
+            this.enemies = enemyCount;
+            this.activeEnemies = activeCount;
+            this.projectiles = projectileCount;
+            this.items = itemCount;
+            commit();
+        }
+    }
+}
@@ -8,10 +8,13 @@ import java.awt.Graphics2D;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
+import java.awt.Rectangle;
 
 import java.awt.geom.Arc2D;
+import java.awt.geom.Path2D;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -26,18 +29,25 @@ import javax.swing.SwingUtilities;
 import org.apache.commons.lang3.tuple.Pair;
 
 import com.thelegendofbald.controller.GameEngine;
+import com.thelegendofbald.controller.GameEngineMetrics;
 import com.thelegendofbald.controller.input.InputController;
+import com.thelegendofbald.controller.input.KeyboardInputSource;
 import com.thelegendofbald.controller.level.LevelManager;
 import com.thelegendofbald.controller.navigation.SwitchToOtherPanel;
+import com.thelegendofbald.controller.replay.RecordingInputSource;
+import com.thelegendofbald.controller.replay.SessionLog;
 import com.thelegendofbald.model.config.VideoSettings;
 import com.thelegendofbald.model.entity.Bald;
 import com.thelegendofbald.model.entity.DummyEnemy;
+import com.thelegendofbald.model.entity.FinalBoss;
 import com.thelegendofbald.model.inventory.Inventory;
 import com.thelegendofbald.model.item.weapons.MeleeWeapon;
 import com.thelegendofbald.model.item.weapons.Sword;
 import com.thelegendofbald.model.item.weapons.Weapon;
 import com.thelegendofbald.model.system.CombatManager;
 import com.thelegendofbald.model.system.DataManager;
+import com.thelegendofbald.model.system.FrameProfiler;
+import com.thelegendofbald.model.system.FrameProfiler.Phase;
 import com.thelegendofbald.model.system.Game;
 import com.thelegendofbald.model.system.GameRun;
 import com.thelegendofbald.model.system.Timer;
@@ -50,15 +60,19 @@ import com.thelegendofbald.view.panel.base.Panels;
 import com.thelegendofbald.view.panel.hud.LifePanel;
 import com.thelegendofbald.view.panel.inventory.InventoryPanel;
 import com.thelegendofbald.view.panel.shop.ShopPanel;
-import com.thelegendofbald.view.render.GridPanel;
-import com.thelegendofbald.view.render.Tile;
+import com.thelegendofbald.view.render.ActiveRenderCanvas;
+import com.thelegendofbald.view.render.DirtyRegionTracker;
+import com.thelegendofbald.view.render.ProfilerOverlay;
+import com.thelegendofbald.view.render.RenderSink;
+import com.thelegendofbald.view.render.RenderState;
+import com.thelegendofbald.view.render.RenderStateBuffer;
 import com.thelegendofbald.view.render.TileMap;
 import com.thelegendofbald.view.window.GameWindow;
 
 /**
  * Main game panel that manages the core game lifecycle, rendering and input.
  */
-public final class GamePanel extends MenuPanel implements Game {
+public final class GamePanel extends MenuPanel implements Game, RenderSink {
 
     private static final int FINAL_GAME_SCREEN_TITLE_TRANSPARENCY = 150;
     private static final long serialVersionUID = 1L;
@@ -96,6 +110,18 @@ public final class GamePanel extends MenuPanel implements Game {
     private static final java.awt.Font DEFAULT_FONT = new java.awt.Font(java.awt.Font.MONOSPACED, java.awt.Font.BOLD,
             20);
     private static final Pair<Integer, Integer> FPS_POSITION = Pair.of(15, 25);
+    /** Size of the area marked dirty for the FPS and timer texts. */
+    private static final int HUD_TEXT_WIDTH = 260;
+    /** Height of the area marked dirty for the FPS and timer texts. */
+    private static final int HUD_TEXT_HEIGHT = 32;
+    /** Height of the top strip holding the boss HP bar. */
+    private static final int BOSS_HP_STRIP_HEIGHT = 50;
+    /** Largest sprite drawn for an entity, which may exceed its bounds. */
+    private static final int SPRITE_EXTENT = 64;
+    /** Extra margin around entities, covering health bars drawn above them. */
+    private static final int DIRTY_PADDING = 10;
+    /** Nanoseconds in a millisecond, used to show the frame interval. */
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
     /** On-screen position of the game timer. */
     private static final Pair<Integer, Integer> TIMER_POSITION = Pair.of(1085, 25);
     /** Color of the attack area displayed for debug/feedback. */
@@ -105,6 +131,11 @@ public final class GamePanel extends MenuPanel implements Game {
     private static final int INVENTORY_COLS = 5;
     /** Inventory rows. */
     private static final int INVENTORY_ROWS = 3;
+    /**
+     * System property naming the file where every game is recorded, to be
+     * replayed with the headless simulation. Shop and inventory actions are not recorded.
+     */
+    private static final String RECORD_PROPERTY = "bald.record";
 
     private final transient GridBagConstraintsFactory gbcFactory = new GridBagConstraintsFactoryImpl();
     /** Layout constraints for the options panel. */
@@ -115,8 +146,9 @@ public final class GamePanel extends MenuPanel implements Game {
     /** Player instance. */
     private final transient Bald bald = new Bald(BALD_W, BALD_H, 100, "Bald", 50);
 
-    private final GridPanel gridPanel;
     private final LifePanel lifePanel;
+    /** Bounds of the health bar, read on the EDT so that the game thread can mark them dirty. */
+    private final Rectangle lifeBounds;
     private final JPanel optionsPanel;
     private final JPanel inventoryPanel;
     private final transient Inventory inventory;
@@ -134,10 +166,37 @@ public final class GamePanel extends MenuPanel implements Game {
 
     private final transient GameEngine gameEngine;
     private final transient LevelManager levelManager;
+    private final transient KeyboardInputSource keyboard;
+    /** Passes the keyboard through, recording it while {@link #RECORD_PROPERTY} is set. */
+    private final transient RecordingInputSource recorder;
     private final transient InputController inputController;
 
     private volatile boolean showingFPS = (boolean) VideoSettings.SHOW_FPS.getValue();
     private volatile boolean showingTimer = (boolean) VideoSettings.SHOW_TIMER.getValue();
+    private volatile boolean showingProfiler = (boolean) VideoSettings.SHOW_PROFILER.getValue();
+    private volatile boolean activeRendering = (boolean) VideoSettings.ACTIVE_RENDERING.getValue();
+
+    /** Render target used when active rendering is enabled. */
+    private final ActiveRenderCanvas renderCanvas = new ActiveRenderCanvas();
+
+    /** Snapshots of the scene handed from the game thread to the painting thread. */
+    private final transient RenderStateBuffer renderStates = new RenderStateBuffer();
+    /** Parts of the scene changed since the last passive repaint. */
+    private final transient DirtyRegionTracker dirtyRegions = new DirtyRegionTracker();
+    /** Times the render passes, together with the phases of the updates. */
+    private final transient FrameProfiler profiler;
+    /** Draws the measurements of the profiler over the game. */
+    private final transient ProfilerOverlay profilerOverlay;
+    /** Regions, in panel coordinates, waiting to be painted on the EDT. */
+    private final transient List<Rectangle> pendingRegions = new ArrayList<>();
+    /** Whether a paint of the pending regions is already queued (guarded by pendingRegions). */
+    private transient boolean repaintScheduled;
+    /** Union of the regions being painted by {@link #paintPendingRegions()}, or null (EDT only). */
+    private transient Path2D regionClip;
+    private transient String lastRenderedMap;
+    private transient int lastItemRevision;
+    private transient int lastWidth;
+    private transient int lastHeight;
 
     /**
      * Constructs a new GamePanel.
@@ -146,12 +205,9 @@ public final class GamePanel extends MenuPanel implements Game {
         super();
         final Dimension size = new Dimension(DEFAULT_W, DEFAULT_H);
 
-        this.gridPanel = new GridPanel();
-        this.gridPanel.setOpaque(false);
-        this.gridPanel.setBounds(0, 0, size.width, size.height);
-
         this.lifePanel = new LifePanel(bald.getLifeComponent());
         this.lifePanel.setBounds(100, LIFE_Y, LIFE_W, LIFE_H);
+        this.lifeBounds = lifePanel.getBounds();
 
         this.optionsPanel = new GameOptionsPanel();
         this.inventoryPanel = new InventoryPanel("INVENTORY", INVENTORY_COLS, INVENTORY_ROWS);
@@ -160,11 +216,12 @@ public final class GamePanel extends MenuPanel implements Game {
 
         final TileMap tileMap = new TileMap(size.width, size.height, TILE_SIZE);
         final List<DummyEnemy> enemies = new ArrayList<>();
-        this.combatManager = new CombatManager(bald, enemies);
+        this.combatManager = new CombatManager(bald, enemies, tileMap.getTileSize());
         this.bald.setWeapon(new Sword(0, 0, WEAPON_ICON, WEAPON_ICON, combatManager));
 
         this.levelManager = new LevelManager(tileMap, bald, combatManager, enemies);
         this.levelManager.loadInitialMap();
+        this.levelManager.getTriggerZones().addListener(this::onTriggerZoneChanged);
 
         shopButton.setText("Shop");
         shopButton.setBackground(Color.YELLOW);
@@ -177,9 +234,17 @@ public final class GamePanel extends MenuPanel implements Game {
 
         addWeaponsToInventory();
 
-        this.inputController = new InputController(this, bald, combatManager, levelManager,
-                this::toggleOptionsPanel, this::toggleOpenInventory);
+        this.keyboard = new KeyboardInputSource(this, this::toggleOptionsPanel, this::toggleOpenInventory);
+        this.recorder = new RecordingInputSource(keyboard);
+        this.inputController = new InputController(recorder, bald, combatManager, levelManager);
         this.gameEngine = new GameEngine(this, bald, levelManager, combatManager, inputController, timer);
+        this.gameEngine.setFixedTimestep((boolean) VideoSettings.FIXED_TIMESTEP.getValue());
+        this.gameEngine.setTickListener(recorder);
+        this.profiler = gameEngine.getProfiler();
+        this.profiler.setEnabled(showingProfiler);
+        this.profilerOverlay = new ProfilerOverlay(profiler);
+        GameEngineMetrics.register(gameEngine, levelManager, combatManager);
+        publishRenderState();
 
         initialize();
     }
@@ -266,7 +331,7 @@ public final class GamePanel extends MenuPanel implements Game {
      * Refreshes the key bindings.
      */
     public void refreshKeyBindings() {
-        inputController.refreshKeyBindings(this);
+        keyboard.refreshKeyBindings(this);
     }
 
     /**
@@ -302,6 +367,7 @@ public final class GamePanel extends MenuPanel implements Game {
     @Override
     public void startGame() {
         mainMenuButton.setVisible(false);
+        startRecording();
         gameEngine.start();
         this.setPlayerName();
     }
@@ -316,6 +382,39 @@ public final class GamePanel extends MenuPanel implements Game {
         }
     }
 
+    /**
+     * Starts recording the game if {@link #RECORD_PROPERTY} is set. The game
+     * then restarts from a known game time and runs with fixed ticks, so that it can be replayed.
+     */
+    private void startRecording() {
+        if (System.getProperty(RECORD_PROPERTY) == null) {
+            return;
+        }
+        final SessionLog log = SessionLog.create();
+        log.restoreInitialState(levelManager);
+        gameEngine.setFixedTimestep(true);
+        recorder.start(log);
+    }
+
+    /**
+     * Writes the recording of the game, if any, to the file named by {@link #RECORD_PROPERTY}.
+     * Called on the game thread when the game ends, or after the game engine
+     * has stopped, so that no tick is still appending to the recording.
+     */
+    private void saveRecording() {
+        final SessionLog log = recorder.stop();
+        if (log == null) {
+            return;
+        }
+        final Path path = Path.of(System.getProperty(RECORD_PROPERTY));
+        try {
+            log.write(path);
+            LoggerUtils.info("Game recorded to " + path + " (" + log.getTickCount() + " ticks)");
+        } catch (final IOException e) {
+            LoggerUtils.error("Unable to save the recording: " + e.getMessage());
+        }
+    }
+
     /**
      * Resets the game state to initial values (map 1, basic inventory, etc.).
      */
@@ -348,34 +447,251 @@ public final class GamePanel extends MenuPanel implements Game {
     protected void paintComponent(final Graphics g) {
 
         final Graphics2D g2d = (Graphics2D) g.create();
+        if (regionClip != null) {
+            g2d.clip(regionClip);
+        }
         super.paintComponent(g2d);
-        scaleGraphics(g2d);
+        if (!isActiveRenderingReady()) {
+            scaleGraphics(g2d);
+            renderScene(g2d);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * Renders the current frame. With active rendering enabled the frame is
+     * drawn and presented directly from the calling game thread; otherwise
+     * a repaint is requested on the EDT.
+     */
+    @Override
+    public void renderFrame() {
+        final RenderState state = publishRenderState();
+        if (isActiveRenderingReady() && renderCanvas.render(this::paintActiveFrame)) {
+            dirtyRegions.invalidateAll();
+            return;
+        }
+        final Optional<Dimension> internalSize = getInternalSize();
+        if (internalSize.isEmpty()) {
+            repaint();
+            return;
+        }
+        markDirtyRegions(state);
+        final Dimension area = internalSize.get();
+        scheduleRepaint(dirtyRegions.flush(area.width, area.height), area);
+    }
+
+    /**
+     * Copies everything the renderer needs out of the model and publishes it.
+     * Must be called on the game thread, between two ticks.
+     *
+     * @return the published state, which the caller may still read but not modify
+     */
+    private RenderState publishRenderState() {
+        final RenderState state = renderStates.getBackState();
+        state.setInterpolation(gameEngine.getInterpolation());
+        levelManager.getTileMap().writeRenderState(state);
+        levelManager.getItemManager().writeRenderState(state);
+        state.endItemLayer();
+        bald.writeRenderState(state);
+        for (final DummyEnemy enemy : levelManager.getEnemies()) {
+            enemy.writeRenderState(state);
+        }
+        final FinalBoss boss = levelManager.getBoss();
+        if (boss != null && boss.isAlive()) {
+            boss.writeRenderState(state);
+            state.setBossHealth(boss.getHealth(), boss.getMaxHealth());
+        }
+        combatManager.getProjectiles().writeRenderState(state);
+
+        state.setPlayerHealth(bald.getLifeComponent().getPercentage());
+        state.setFps(gameEngine.getCurrentFPS());
+        state.setTime(timer.getFormattedTime());
+        final Optional<Weapon> weapon = bald.getWeapon();
+        if (bald.isAttacking() && weapon.isPresent() && weapon.get() instanceof MeleeWeapon) {
+            state.setAttackArea(((MeleeWeapon) weapon.get()).getAttackArea());
+        }
+        state.setOutcome(gameEngine.isGameOver(), gameEngine.isGameWon());
+        renderStates.publish();
+        return state;
+    }
 
-        levelManager.getTileMap().paint(g2d);
-        gridPanel.paintComponent(g2d);
-        levelManager.getItemManager().renderAll(g2d);
+    /**
+     * Marks every part of the scene that may have changed since the previous
+     * frame, or requests a full redraw when the whole scene is affected.
+     *
+     * @param state the state of the frame being drawn
+     */
+    private void markDirtyRegions(final RenderState state) {
+        final String mapName = levelManager.getCurrentMapName();
+        final int itemRevision = levelManager.getItemManager().getRevision();
+        if (!Objects.equals(mapName, lastRenderedMap) || itemRevision != lastItemRevision
+                || getWidth() != lastWidth || getHeight() != lastHeight
+                || state.isGameOver() || state.isGameWon()) {
+            lastRenderedMap = mapName;
+            lastItemRevision = itemRevision;
+            lastWidth = getWidth();
+            lastHeight = getHeight();
+            dirtyRegions.invalidateAll();
+        }
 
-        bald.render(g2d);
-        levelManager.getEnemies().forEach(enemy -> enemy.render(g2d));
+        state.markDynamicSprites(dirtyRegions, DIRTY_PADDING, SPRITE_EXTENT);
+        Optional.ofNullable(state.getAttackArea())
+                .map(Arc2D::getBounds)
+                .ifPresent(area -> dirtyRegions.mark(area.x, area.y, area.width, area.height));
 
-        if (levelManager.getBoss() != null && levelManager.getBoss().isAlive()) {
-            levelManager.getBoss().render(g2d);
+        dirtyRegions.mark(lifeBounds.x, lifeBounds.y, lifeBounds.width, lifeBounds.height);
+        if (showingFPS) {
+            dirtyRegions.mark(FPS_POSITION.getLeft(), 0, HUD_TEXT_WIDTH, HUD_TEXT_HEIGHT);
+        }
+        if (showingTimer) {
+            dirtyRegions.mark(TIMER_POSITION.getLeft(), 0, HUD_TEXT_WIDTH, HUD_TEXT_HEIGHT);
         }
+        if (showingProfiler) {
+            final Rectangle overlay = profilerOverlay.getBounds();
+            dirtyRegions.mark(overlay.x, overlay.y, overlay.width, overlay.height);
+        }
+        if (state.hasBoss()) {
+            dirtyRegions.mark(0, 0, Integer.MAX_VALUE, BOSS_HP_STRIP_HEIGHT);
+        }
+    }
 
-        combatManager.getProjectiles().forEach(p -> p.render(g2d));
+    /**
+     * Converts the dirty regions to panel coordinates and schedules them to
+     * be painted on the EDT, together with those of frames not painted yet.
+     *
+     * @param regions the dirty regions in internal coordinates
+     * @param area    the internal size of the scene
+     */
+    private void scheduleRepaint(final List<Rectangle> regions, final Dimension area) {
+        final double scaleX = getWidth() / area.getWidth();
+        final double scaleY = getHeight() / area.getHeight();
+        synchronized (pendingRegions) {
+            regions.forEach(r -> {
+                final int x = (int) Math.floor(r.x * scaleX) - 1;
+                final int y = (int) Math.floor(r.y * scaleY) - 1;
+                pendingRegions.add(new Rectangle(x, y,
+                        (int) Math.ceil((r.x + r.width) * scaleX) + 1 - x,
+                        (int) Math.ceil((r.y + r.height) * scaleY) + 1 - y));
+            });
+            if (!repaintScheduled) {
+                repaintScheduled = true;
+                SwingUtilities.invokeLater(this::paintPendingRegions);
+            }
+        }
+    }
 
-        lifePanel.paintComponent(g2d);
-        drawFPS(g2d);
-        drawTimer(g2d);
-        drawAttackArea(g2d);
+    /**
+     * Paints the pending dirty regions in a single pass. Must run on the EDT.
+     * <p>
+     * The scene is drawn once over the bounding box of the regions, clipped
+     * to their union: Swing keeps the back buffer of the window between
+     * paints, so the pixels of the box outside the regions keep the previous
+     * frame, which is still up to date there.
+     * </p>
+     */
+    private void paintPendingRegions() {
+        final Path2D clip = new Path2D.Float();
+        final Rectangle bounds;
+        synchronized (pendingRegions) {
+            repaintScheduled = false;
+            if (pendingRegions.isEmpty()) {
+                return;
+            }
+            bounds = new Rectangle(pendingRegions.get(0));
+            for (final Rectangle region : pendingRegions) {
+                clip.append(region, false);
+                bounds.add(region);
+            }
+            pendingRegions.clear();
+        }
+        regionClip = clip;
+        try {
+            paintImmediately(bounds);
+        } finally {
+            regionClip = null;
+        }
+    }
 
-        drawBossHP(g2d);
-        if (gameEngine.isGameOver()) {
+    /**
+     * Returns the internal (unscaled) size of the scene, if the panel is
+     * shown in a {@link GameWindow}.
+     *
+     * @return the internal size, or an empty optional
+     */
+    private Optional<Dimension> getInternalSize() {
+        return Optional.ofNullable(SwingUtilities.getWindowAncestor(this))
+                .filter(window -> window instanceof GameWindow)
+                .map(window -> ((GameWindow) window).getInternalSize());
+    }
+
+    /**
+     * Paints a full frame into the back buffer of the active render canvas.
+     *
+     * @param g2d graphics context of the back buffer
+     */
+    private void paintActiveFrame(final Graphics2D g2d) {
+        g2d.setColor(getBackground());
+        g2d.fillRect(0, 0, renderCanvas.getWidth(), renderCanvas.getHeight());
+        scaleGraphics(g2d);
+        renderScene(g2d);
+    }
+
+    /**
+     * Checks if frames are currently presented through the active render canvas.
+     *
+     * @return true if active rendering is enabled and the canvas is displayable.
+     */
+    private boolean isActiveRenderingReady() {
+        return activeRendering && renderCanvas.isDisplayable();
+    }
+
+    /**
+     * Draws the map, the entities and the HUD into an already scaled graphics context.
+     * Only the latest published {@link RenderState} is read, never the live model.
+     * Each pass is timed by the profiler once per frame: repainting a state
+     * already drawn, e.g. when Swing repaints a damaged area, is not timed.
+     * The grid is part of the cached map layer, so it is timed with the map.
+     *
+     * @param g2d graphics context
+     */
+    private void renderScene(final Graphics2D g2d) {
+        final RenderState state = renderStates.acquire();
+        final boolean newFrame = renderStates.isFresh();
+        long passStart = profiler.start();
+        levelManager.getTileMap().paint(g2d, state);
+        passStart = lapRender(Phase.RENDER_MAP, passStart, newFrame);
+        state.drawItemSprites(g2d);
+        passStart = lapRender(Phase.RENDER_ITEMS, passStart, newFrame);
+        state.drawEntitySprites(g2d);
+        passStart = lapRender(Phase.RENDER_ENTITIES, passStart, newFrame);
+
+        lifePanel.paintHealth(g2d, state.getPlayerHealth());
+        drawFPS(g2d, state);
+        drawTimer(g2d, state);
+        drawAttackArea(g2d, state);
+
+        drawBossHP(g2d, state);
+        if (state.isGameOver()) {
             drawGameOverScreen(g2d);
-        } else if (gameEngine.isGameWon()) {
+        } else if (state.isGameWon()) {
             drawGameWonScreen(g2d);
         }
-        g2d.dispose();
+        lapRender(Phase.RENDER_HUD, passStart, newFrame);
+        if (showingProfiler) {
+            profilerOverlay.draw(g2d);
+        }
+    }
+
+    /**
+     * Records a render pass, only the first time a frame is drawn.
+     *
+     * @param phase    the pass that just ended
+     * @param start    the start of the pass
+     * @param newFrame whether the frame is drawn for the first time
+     * @return the start of the next pass
+     */
+    private long lapRender(final Phase phase, final long start, final boolean newFrame) {
+        return newFrame ? profiler.lap(phase, start) : profiler.start();
     }
 
     /**
@@ -429,28 +745,24 @@ public final class GamePanel extends MenuPanel implements Game {
     /**
      * Draws the attack area of the current weapon (debug/feedback).
      *
-     * @param g graphics context
+     * @param g2d   graphics context
+     * @param state the state of the frame being drawn
      */
-    private void drawAttackArea(final Graphics g) {
-        final Graphics2D g2d = (Graphics2D) g;
-        bald.getWeapon().ifPresent(weapon -> {
-            if (bald.isAttacking() && weapon instanceof MeleeWeapon) {
-                final Arc2D attackArea = ((MeleeWeapon) weapon).getAttackArea();
-                Optional.ofNullable(attackArea).ifPresent(atk -> {
-                    g2d.setColor(ATTACK_AREA_COLOR);
-                    g2d.fill(atk);
-                });
-            }
+    private static void drawAttackArea(final Graphics2D g2d, final RenderState state) {
+        Optional.ofNullable(state.getAttackArea()).ifPresent(atk -> {
+            g2d.setColor(ATTACK_AREA_COLOR);
+            g2d.fill(atk);
         });
     }
 
     /**
      * Draws the boss HP bar at the top of the screen.
      *
-     * @param g2d graphics context
+     * @param g2d   graphics context
+     * @param state the state of the frame being drawn
      */
-    private void drawBossHP(final Graphics2D g2d) {
-        if (levelManager.getBoss() == null || !levelManager.getBoss().isAlive()) {
+    private void drawBossHP(final Graphics2D g2d, final RenderState state) {
+        if (!state.hasBoss()) {
             return;
         }
 
@@ -458,8 +770,8 @@ public final class GamePanel extends MenuPanel implements Game {
         final int x = (getWidth() - w) / 2;
         final int y = 12;
 
-        final int hp = levelManager.getBoss().getHealth();
-        final int max = levelManager.getBoss().getMaxHealth();
+        final int hp = state.getBossHealth();
+        final int max = state.getBossMaxHealth();
         final double ratio = Math.max(0.0, Math.min(1.0, hp / (double) max));
         final int fill = (int) (w * ratio);
 
@@ -495,25 +807,30 @@ public final class GamePanel extends MenuPanel implements Game {
     /**
      * Draws the FPS counter.
      *
-     * @param g graphics context
+     * @param g     graphics context
+     * @param state the state of the frame being drawn
      */
-    private void drawFPS(final Graphics g) {
+    private void drawFPS(final Graphics g, final RenderState state) {
         if (showingFPS) {
             g.setColor(Color.YELLOW);
             g.setFont(DEFAULT_FONT);
-            g.drawString("FPS: " + gameEngine.getCurrentFPS(),
-                    FPS_POSITION.getLeft(), FPS_POSITION.getRight());
+            final long presentInterval = isActiveRenderingReady() ? renderCanvas.getPresentIntervalNanos() : 0;
+            final String text = presentInterval > 0
+                    ? String.format("FPS: %d (%.1f ms)", state.getFps(), presentInterval / NANOS_IN_MILLI)
+                    : "FPS: " + state.getFps();
+            g.drawString(text, FPS_POSITION.getLeft(), FPS_POSITION.getRight());
         }
     }
 
     /**
      * Draws the game timer.
      *
-     * @param g graphics context
+     * @param g     graphics context
+     * @param state the state of the frame being drawn
      */
-    private void drawTimer(final Graphics g) {
+    private void drawTimer(final Graphics g, final RenderState state) {
         if (showingTimer) {
-            final TimeData timeData = timer.getFormattedTime();
+            final TimeData timeData = state.getTime();
             g.setColor(Color.WHITE);
             g.setFont(DEFAULT_FONT);
             g.drawString(
@@ -594,6 +911,11 @@ public final class GamePanel extends MenuPanel implements Game {
         mainMenuButtonGBC.anchor = GridBagConstraints.CENTER;
         mainMenuButtonGBC.insets = mainMenuInsets;
         this.add(mainMenuButton, mainMenuButtonGBC);
+
+        if (activeRendering) {
+            // Added last so that it stays below every Swing overlay.
+            this.add(renderCanvas, fillerGBC);
+        }
     }
 
     /**
@@ -606,26 +928,16 @@ public final class GamePanel extends MenuPanel implements Game {
         JOptionPane.showMessageDialog(this, shopPanel, "SHOP", JOptionPane.PLAIN_MESSAGE);
     }
 
-    /** Shows the shop button when Bald is over a {@link #ID_SHOP} tile. */
-    public void checkIfNearShopTile() {
-        final int tileSize = levelManager.getTileMap().getTileSize();
-
-        final int baldX = bald.getX();
-        final int baldY = bald.getY();
-        final int baldW = bald.getWidth();
-        final int baldH = bald.getHeight();
-
-        final int feetY = baldY + baldH;
-        final int feetYInside = Math.max(0, feetY - 1);
-
-        final int tileFeetY = feetYInside / tileSize;
-        final int tileCenterX = (baldX + baldW / 2) / tileSize;
-
-        final Tile tileUnderFeet = levelManager.getTileMap().getTileAt(tileCenterX, tileFeetY);
-        final boolean onShopTile = tileUnderFeet != null && tileUnderFeet.getId() == ID_SHOP;
-
-        if (shopButton.isVisible() != onShopTile) {
-            shopButton.setVisible(onShopTile);
+    /**
+     * Shows the shop button while Bald stands on a {@link #ID_SHOP} tile.
+     * Called on the game thread only when Bald enters or leaves a trigger zone.
+     *
+     * @param tileId  the tile id of the zone
+     * @param entered true if the zone was entered
+     */
+    private void onTriggerZoneChanged(final int tileId, final boolean entered) {
+        if (tileId == ID_SHOP) {
+            SwingUtilities.invokeLater(() -> shopButton.setVisible(entered));
         }
     }
 
@@ -636,6 +948,20 @@ public final class GamePanel extends MenuPanel implements Game {
         mainMenuButton.setVisible(true);
     }
 
+    /**
+     * Saves a won game, then shows the main menu button.
+     *
+     * @param won true if the final boss was defeated
+     */
+    @Override
+    public void gameEnded(final boolean won) {
+        saveRecording();
+        if (won) {
+            saveGame();
+        }
+        SwingUtilities.invokeLater(this::showMainMenuButton);
+    }
+
     @Override
     public boolean isRunning() {
         return gameEngine.isRunning();
@@ -644,6 +970,7 @@ public final class GamePanel extends MenuPanel implements Game {
     @Override
     public void stopGame() {
         gameEngine.stop();
+        saveRecording();
         this.resetGame();
     }
 
@@ -655,6 +982,33 @@ public final class GamePanel extends MenuPanel implements Game {
     @Override
     public void setShowingFPS(final boolean value) {
         this.showingFPS = value;
+        dirtyRegions.invalidateAll();
+    }
+
+    @Override
+    public void setShowingProfiler(final boolean value) {
+        this.showingProfiler = value;
+        profiler.setEnabled(value);
+        dirtyRegions.invalidateAll();
+    }
+
+    @Override
+    public void setFixedTimestep(final boolean fixedTimestep) {
+        // Recordings need fixed ticks to be replayable.
+        gameEngine.setFixedTimestep(fixedTimestep || recorder.isRecording());
+    }
+
+    @Override
+    public void setActiveRendering(final boolean activeRendering) {
+        SwingUtilities.invokeLater(() -> {
+            this.activeRendering = activeRendering;
+            this.updateView();
+        });
+    }
+
+    @Override
+    public void setAiWorkers(final int workers) {
+        gameEngine.setAiWorkers(workers);
     }
 
     /**
@@ -666,6 +1020,15 @@ public final class GamePanel extends MenuPanel implements Game {
         return showingFPS;
     }
 
+    /**
+     * Checks if the profiler overlay is being shown.
+     *
+     * @return true if the overlay is shown, false otherwise.
+     */
+    public boolean isShowingProfiler() {
+        return showingProfiler;
+    }
+
     /**
      * Sets whether to show the timer.
      *
@@ -673,6 +1036,7 @@ public final class GamePanel extends MenuPanel implements Game {
      */
     public void setShowingTimer(final boolean showingTimer) {
         this.showingTimer = showingTimer;
+        dirtyRegions.invalidateAll();
     }
 
     /**
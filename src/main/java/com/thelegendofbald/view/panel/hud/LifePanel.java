@@ -84,9 +84,18 @@ public class LifePanel extends AdapterPanel implements PropertyChangeListener {
      */
     @Override
     public void paintComponent(final Graphics g) {
+        paintHealth(g, lifeComponent.getPercentage());
+    }
+
+    /**
+     * Draws the health bar for a given health percentage, e.g. one captured
+     * by the game thread, without reading the observed LifeComponent.
+     * @param g The Graphics object used for drawing.
+     * @param perc The health percentage to show, between 0 and 1.
+     */
+    public void paintHealth(final Graphics g, final double perc) {
         super.paintComponent(g);
 
-        final double perc = lifeComponent.getPercentage();
         final int width = (int) (perc * getWidth());
 
         g.setColor(Color.GRAY);
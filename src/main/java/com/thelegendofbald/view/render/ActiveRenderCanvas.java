@@ -0,0 +1,111 @@
+package com.thelegendofbald.view.render;
+
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+/**
+ * Heavyweight render target used for active rendering.
+ * <p>
+ * Instead of asking Swing to repaint on the EDT, the game thread draws a frame
+ * directly into the back buffer of a page-flipped {@link BufferStrategy} and
+ * shows it immediately. Lightweight Swing overlays placed above this canvas in
+ * the same container keep being painted by Swing.
+ * <p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class ActiveRenderCanvas extends Canvas {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Number of buffers used by the strategy (triple buffering). */
+    private static final int BUFFER_COUNT = 3;
+
+    private transient volatile BufferStrategy strategy;
+    private volatile long lastPresentNanos;
+    private volatile long presentIntervalNanos;
+
+    /**
+     * Constructs the canvas. It never takes the keyboard focus, so the key
+     * bindings of the containing panel keep working.
+     */
+    public ActiveRenderCanvas() {
+        super();
+        this.setIgnoreRepaint(true);
+        this.setFocusable(false);
+    }
+
+    /**
+     * Renders and presents a frame from the calling thread.
+     * The painter may be invoked more than once if the buffer contents are lost
+     * while drawing.
+     *
+     * @param painter draws the frame into the back buffer
+     * @return true if the frame was presented, false if the canvas is not
+     *         displayable yet and the caller should fall back to another path
+     */
+    public boolean render(final Consumer<Graphics2D> painter) {
+        if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return false;
+        }
+        try {
+            final BufferStrategy bs = getOrCreateStrategy();
+            do {
+                do {
+                    final Graphics2D g2d = (Graphics2D) bs.getDrawGraphics();
+                    try {
+                        painter.accept(g2d);
+                    } finally {
+                        g2d.dispose();
+                    }
+                } while (bs.contentsRestored());
+                bs.show();
+            } while (bs.contentsLost());
+        } catch (final IllegalStateException e) {
+            // The peer went away while drawing (the canvas was removed on the EDT).
+            this.strategy = null;
+            return false;
+        }
+        Toolkit.getDefaultToolkit().sync();
+
+        final long now = System.nanoTime();
+        if (lastPresentNanos != 0) {
+            presentIntervalNanos = now - lastPresentNanos;
+        }
+        lastPresentNanos = now;
+        return true;
+    }
+
+    /**
+     * Returns the time elapsed between the last two presented frames.
+     *
+     * @return the interval in nanoseconds, or 0 if fewer than two frames were presented
+     */
+    public long getPresentIntervalNanos() {
+        return presentIntervalNanos;
+    }
+
+    @Override
+    public void removeNotify() {
+        final BufferStrategy bs = this.strategy;
+        this.strategy = null;
+        if (bs != null) {
+            bs.dispose();
+        }
+        this.lastPresentNanos = 0;
+        this.presentIntervalNanos = 0;
+        super.removeNotify();
+    }
+
+    private BufferStrategy getOrCreateStrategy() {
+        BufferStrategy bs = this.strategy;
+        if (bs == null) {
+            createBufferStrategy(BUFFER_COUNT);
+            bs = getBufferStrategy();
+            this.strategy = bs;
+        }
+        return bs;
+    }
+}
@@ -0,0 +1,172 @@
+package com.thelegendofbald.view.render;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the screen areas that changed between two frames.
+ * <p>
+ * Every frame the renderer marks the bounds of whatever moves or animates.
+ * {@link #flush(int, int)} returns the regions marked in this frame together
+ * with those of the previous one, so that areas left behind by moving objects
+ * are repainted too. Overlapping regions are merged, and when the changes
+ * cover most of the screen (or after {@link #invalidateAll()}) a single full
+ * region is returned instead.
+ * </p>
+ * <p>
+ * The rectangles are pooled and reused from frame to frame, so marking and
+ * flushing do not allocate once the pools have grown to the size of a frame.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class DirtyRegionTracker {
+
+    /** Fraction of the area above which a full redraw is cheaper than many partial ones. */
+    private static final double FULL_REDRAW_RATIO = 0.5;
+    private static final int INITIAL_CAPACITY = 32;
+
+    private Rectangle[] current = newPool(INITIAL_CAPACITY);
+    private int currentCount;
+    private Rectangle[] previous = newPool(INITIAL_CAPACITY);
+    private int previousCount;
+    private Rectangle[] merged = newPool(2 * INITIAL_CAPACITY);
+    private final Rectangle area = new Rectangle();
+    private final List<Rectangle> regions = new ArrayList<>();
+    private volatile boolean fullRedraw = true;
+
+    /**
+     * Marks an area as changed in the current frame.
+     *
+     * @param x      x coordinate of the area
+     * @param y      y coordinate of the area
+     * @param width  width of the area
+     * @param height height of the area
+     */
+    public void mark(final int x, final int y, final int width, final int height) {
+        if (width > 0 && height > 0) {
+            if (currentCount == current.length) {
+                current = grow(current, currentCount + 1);
+            }
+            current[currentCount++].setBounds(x, y, width, height);
+        }
+    }
+
+    /**
+     * Requests a full redraw for the next flush, e.g. after a map change or a resize.
+     */
+    public void invalidateAll() {
+        this.fullRedraw = true;
+    }
+
+    /**
+     * Returns the regions to repaint for the current frame and starts a new one.
+     * The returned list and its rectangles are reused by the next flush, so
+     * they must be read, not modified or kept.
+     *
+     * @param areaWidth  width of the whole drawing area
+     * @param areaHeight height of the whole drawing area
+     * @return the merged regions, clipped to the drawing area
+     */
+    public List<Rectangle> flush(final int areaWidth, final int areaHeight) {
+        area.setBounds(0, 0, areaWidth, areaHeight);
+        int count = 0;
+        if (!fullRedraw) {
+            if (merged.length < currentCount + previousCount) {
+                merged = grow(merged, currentCount + previousCount);
+            }
+            count = addClipped(current, currentCount, count);
+            count = addClipped(previous, previousCount, count);
+            count = mergeOverlapping(count);
+        }
+
+        final Rectangle[] recycled = previous;
+        previous = current;
+        previousCount = currentCount;
+        current = recycled;
+        currentCount = 0;
+
+        regions.clear();
+        if (fullRedraw || coveredArea(count) >= FULL_REDRAW_RATIO * areaWidth * areaHeight) {
+            fullRedraw = false;
+            regions.add(area);
+        } else {
+            regions.addAll(Arrays.asList(merged).subList(0, count));
+        }
+        return regions;
+    }
+
+    /**
+     * Copies the parts of the marked rectangles inside the drawing area into the merge pool.
+     *
+     * @param source the marked rectangles
+     * @param size   the number of marked rectangles
+     * @param count  the number of rectangles already in the merge pool
+     * @return the new number of rectangles in the merge pool
+     */
+    private int addClipped(final Rectangle[] source, final int size, final int count) {
+        int added = count;
+        for (int i = 0; i < size; i++) {
+            final Rectangle r = source[i];
+            final int x1 = Math.max(r.x, 0);
+            final int y1 = Math.max(r.y, 0);
+            final long x2 = Math.min((long) r.x + r.width, area.width);
+            final long y2 = Math.min((long) r.y + r.height, area.height);
+            if (x2 > x1 && y2 > y1) {
+                merged[added++].setBounds(x1, y1, (int) (x2 - x1), (int) (y2 - y1));
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Merges overlapping rectangles of the merge pool in place, until no two
+     * of them overlap. A merged rectangle may grow into one already checked,
+     * so the scan starts over after every merge; since every merge removes a
+     * rectangle, there are at most as many scans as rectangles.
+     *
+     * @param count the number of rectangles in the merge pool
+     * @return the number of rectangles left
+     */
+    private int mergeOverlapping(final int count) {
+        int size = count;
+        boolean merging = true;
+        while (merging) {
+            merging = false;
+            for (int i = 0; i < size && !merging; i++) {
+                for (int j = i + 1; j < size && !merging; j++) {
+                    if (merged[i].intersects(merged[j])) {
+                        merged[i].add(merged[j]);
+                        size--;
+                        final Rectangle last = merged[size];
+                        merged[size] = merged[j];
+                        merged[j] = last;
+                        merging = true;
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    private long coveredArea(final int count) {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += (long) merged[i].width * merged[i].height;
+        }
+        return total;
+    }
+
+    private static Rectangle[] newPool(final int size) {
+        return grow(new Rectangle[0], size);
+    }
+
+    private static Rectangle[] grow(final Rectangle[] pool, final int minSize) {
+        final Rectangle[] grown = Arrays.copyOf(pool, Math.max(minSize, pool.length * 2));
+        for (int i = pool.length; i < grown.length; i++) {
+            grown[i] = new Rectangle();
+        }
+        return grown;
+    }
+}
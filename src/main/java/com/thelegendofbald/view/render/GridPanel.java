@@ -40,9 +40,18 @@ public final class GridPanel extends JPanel {
      * @param g the graphics context, unmodified (not reassigned)
      */
     private void drawGrid(final Graphics g) {
-        final int width = getWidth();
-        final int height = getHeight();
+        paintGrid(g, getWidth(), getHeight());
+    }
 
+    /**
+     * Draws the grid lines over an area of the given size.
+     * Used by {@link TileMap} to bake the grid into its static layer.
+     *
+     * @param g      the graphics context, unmodified (not reassigned)
+     * @param width  width of the area in pixels
+     * @param height height of the area in pixels
+     */
+    public static void paintGrid(final Graphics g, final int width, final int height) {
         g.setColor(GRID_COLOR);
 
         for (int x = 0; x <= width; x += TILE_SIZE) {
@@ -0,0 +1,68 @@
+package com.thelegendofbald.view.render;
+
+import java.awt.Image;
+import java.awt.Point;
+import java.util.List;
+
+/**
+ * Fully parsed map, ready to be installed in a {@link TileMap}.
+ * <p>
+ * Layouts are immutable and built by {@link TileMap#prepareMap(String)},
+ * which may run on any thread, so that parsing and image decoding can happen
+ * in the background and the switch itself is a reference swap.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class MapLayout {
+
+    private final String name;
+    private final TileGrid grid;
+    private final Image backgroundImage;
+    private final int tileSize;
+
+    /**
+     * Creates a layout.
+     *
+     * @param name            name of the map
+     * @param grid            tiles of the map
+     * @param backgroundImage background of the map, or {@code null} to keep the current one
+     * @param tileSize        side length of a tile in pixels
+     */
+    MapLayout(final String name, final TileGrid grid, final Image backgroundImage, final int tileSize) {
+        this.name = name;
+        this.grid = grid;
+        this.backgroundImage = backgroundImage;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * @return the name of the map
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Finds all positions (in pixels) of tiles matching the specified ID.
+     *
+     * @param wantedId the tile ID to search for
+     * @return the pixel coordinates (top-left) of the found tiles, in row-major order
+     */
+    public List<Point> findAllWithId(final int wantedId) {
+        return grid.pointsWithId(wantedId, tileSize);
+    }
+
+    /**
+     * @return the tiles of the map
+     */
+    TileGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return the background of the map, or {@code null} to keep the current one
+     */
+    Image getBackgroundImage() {
+        return backgroundImage;
+    }
+}
@@ -0,0 +1,18 @@
+package com.thelegendofbald.view.render;
+
+/**
+ * Render sink that discards every frame, for simulations without a display.
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class NullRenderSink implements RenderSink {
+
+    @Override
+    public void renderFrame() {
+        // No frame to draw when headless.
+    }
+
+    @Override
+    public void gameEnded(final boolean won) {
+        // No menu to show when headless.
+    }
+}
@@ -0,0 +1,112 @@
+package com.thelegendofbald.view.render;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+
+import com.thelegendofbald.model.system.FrameProfiler;
+import com.thelegendofbald.model.system.FrameProfiler.Phase;
+
+/**
+ * Draws the measurements of a {@link FrameProfiler} over the game: a graph
+ * of the latest frame times against the budget of a 60 FPS frame, and the
+ * minimum, average and 99th percentile of every phase.
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class ProfilerOverlay {
+
+    private static final int X = 15;
+    private static final int Y = 40;
+    private static final int WIDTH = 330;
+    private static final int PADDING = 6;
+    private static final int GRAPH_HEIGHT = 60;
+    private static final int ROW_HEIGHT = 14;
+    private static final int HEIGHT = PADDING * 3 + GRAPH_HEIGHT + ROW_HEIGHT * (Phase.values().length + 1);
+    /** Offsets of the min, avg and p99 columns from the left edge of the text. */
+    private static final int[] COLUMNS = {120, 185, 250};
+    /** Frame time drawn at full graph height, in nanoseconds: two 60 FPS frames. */
+    private static final long GRAPH_SCALE_NANOS = 33_333_333L;
+    /** Frame time budget at 60 FPS, in nanoseconds. */
+    private static final long BUDGET_NANOS = 16_666_667L;
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+    private static final int BACKGROUND_ALPHA = 170;
+
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, BACKGROUND_ALPHA);
+    private static final Color WITHIN_BUDGET = new Color(80, 200, 80);
+    private static final Color OVER_BUDGET = new Color(220, 60, 60);
+    private static final Color BUDGET_LINE = Color.YELLOW;
+
+    private final FrameProfiler profiler;
+    /** Reused buffer for the frame times drawn in the graph. */
+    private final long[] frameTimes = new long[FrameProfiler.DEFAULT_WINDOW];
+
+    /**
+     * Creates an overlay for a profiler.
+     *
+     * @param profiler the profiler whose measurements are drawn
+     */
+    public ProfilerOverlay(final FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * @return the area covered by the overlay, in internal coordinates
+     */
+    public Rectangle getBounds() {
+        return new Rectangle(X, Y, WIDTH, HEIGHT);
+    }
+
+    /**
+     * Draws the overlay. Must be called by one thread at a time, i.e. by the thread painting the game.
+     *
+     * @param g graphics context, already scaled to the internal resolution
+     */
+    public void draw(final Graphics2D g) {
+        g.setColor(BACKGROUND);
+        g.fillRect(X, Y, WIDTH, HEIGHT);
+        drawGraph(g, X + PADDING, Y + PADDING, WIDTH - 2 * PADDING);
+        drawTable(g, X + PADDING, Y + 2 * PADDING + GRAPH_HEIGHT);
+    }
+
+    private void drawGraph(final Graphics2D g, final int x, final int y, final int width) {
+        final int count = profiler.copySamples(Phase.FRAME, frameTimes);
+        final int bottom = y + GRAPH_HEIGHT;
+        final double barWidth = width / (double) frameTimes.length;
+        for (int i = 0; i < count; i++) {
+            final long time = frameTimes[i];
+            final int height = (int) Math.min(GRAPH_HEIGHT, time * GRAPH_HEIGHT / GRAPH_SCALE_NANOS);
+            final int left = x + (int) (i * barWidth);
+            g.setColor(time > BUDGET_NANOS ? OVER_BUDGET : WITHIN_BUDGET);
+            g.fillRect(left, bottom - height, Math.max(1, (int) ((i + 1) * barWidth) - (int) (i * barWidth)),
+                    height);
+        }
+        final int budget = bottom - (int) (BUDGET_NANOS * GRAPH_HEIGHT / GRAPH_SCALE_NANOS);
+        g.setColor(BUDGET_LINE);
+        g.drawLine(x, budget, x + width, budget);
+    }
+
+    private void drawTable(final Graphics2D g, final int x, final int y) {
+        g.setFont(FONT);
+        g.setColor(Color.WHITE);
+        int baseline = y + ROW_HEIGHT;
+        g.drawString("fase (ms)", x, baseline);
+        g.drawString("min", x + COLUMNS[0], baseline);
+        g.drawString("avg", x + COLUMNS[1], baseline);
+        g.drawString("p99", x + COLUMNS[2], baseline);
+        for (final Phase phase : Phase.values()) {
+            baseline += ROW_HEIGHT;
+            final long p99 = profiler.getP99(phase);
+            g.setColor(p99 > BUDGET_NANOS ? OVER_BUDGET : Color.WHITE);
+            g.drawString(phase.getLabel(), x, baseline);
+            g.drawString(millis(profiler.getMin(phase)), x + COLUMNS[0], baseline);
+            g.drawString(millis(profiler.getAverage(phase)), x + COLUMNS[1], baseline);
+            g.drawString(millis(p99), x + COLUMNS[2], baseline);
+        }
+    }
+
+    private static String millis(final long nanos) {
+        return String.format("%6.2f", nanos / NANOS_IN_MILLI);
+    }
+}
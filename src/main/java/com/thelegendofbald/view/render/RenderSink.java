@@ -0,0 +1,22 @@
+package com.thelegendofbald.view.render;
+
+/**
+ * Receives the output of the game loop: a frame after every update, and the
+ * end of the game. The game panel draws and shows them; headless runs
+ * discard them with a {@link NullRenderSink}.
+ * Every method is called on the game thread.
+ */
+public interface RenderSink {
+
+    /**
+     * Builds, and possibly draws, the frame for the state just simulated.
+     */
+    void renderFrame();
+
+    /**
+     * Called once when the game ends.
+     *
+     * @param won true if the final boss was defeated, false if Bald died
+     */
+    void gameEnded(boolean won);
+}
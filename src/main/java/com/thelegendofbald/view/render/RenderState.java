@@ -0,0 +1,444 @@
+package com.thelegendofbald.view.render;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.geom.Arc2D;
+import java.util.Arrays;
+
+import com.thelegendofbald.model.system.Timer.TimeData;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Everything the renderer needs to draw one frame, copied out of the model
+ * at the end of a simulation step.
+ * <p>
+ * Sprites are stored as parallel arrays that grow when needed and are reused
+ * from frame to frame, so filling a state allocates nothing once the arrays
+ * are large enough. States are exchanged between the game thread and the
+ * painting thread through a {@link RenderStateBuffer}: the writer fills a
+ * state nobody is reading, and the reader draws a state nobody is writing.
+ * </p>
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class RenderState {
+
+    private static final int INITIAL_CAPACITY = 64;
+    /** Height of the health bar drawn above a sprite. */
+    private static final int HEALTH_BAR_HEIGHT = 5;
+    /** Gap between the health bar and the top of its sprite. */
+    private static final int HEALTH_BAR_GAP = 2;
+    private static final byte SHAPE_IMAGE = 0;
+    private static final byte SHAPE_OVAL = 1;
+    /** Health value of sprites without a health bar. */
+    private static final float NO_HEALTH_BAR = -1f;
+
+    private int spriteCount;
+    /** Number of sprites belonging to the item layer, which is drawn below the entities. */
+    private int itemSpriteCount;
+    private byte[] shapes = new byte[INITIAL_CAPACITY];
+    private Image[] images = new Image[INITIAL_CAPACITY];
+    private Color[] colors = new Color[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int[] previousXs = new int[INITIAL_CAPACITY];
+    private int[] previousYs = new int[INITIAL_CAPACITY];
+    private int[] widths = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private boolean[] flipped = new boolean[INITIAL_CAPACITY];
+    /** Whether the sprite may change without a full redraw (moving entities, animated items). */
+    private boolean[] dynamic = new boolean[INITIAL_CAPACITY];
+    private float[] healthRatios = new float[INITIAL_CAPACITY];
+
+    /** Tiles of the map the sprites are drawn on. */
+    private TileGrid mapGrid = TileGrid.EMPTY;
+    /** Background of the map the sprites are drawn on, or {@code null}. */
+    private Image mapBackground;
+    private double interpolation = 1.0;
+    private double playerHealth;
+    private int fps;
+    private TimeData time = new TimeData(0, 0, 0);
+    private int bossHealth;
+    private int bossMaxHealth;
+    private boolean attacking;
+    private final Arc2D attackArea = new Arc2D.Double();
+    private boolean gameOver;
+    private boolean gameWon;
+
+    /**
+     * Empties the state before it is filled for a new frame.
+     */
+    public void clear() {
+        Arrays.fill(images, 0, spriteCount, null);
+        spriteCount = 0;
+        itemSpriteCount = 0;
+        bossMaxHealth = 0;
+        attacking = false;
+    }
+
+    /**
+     * Adds a moving sprite, drawn between its previous and current position.
+     *
+     * @param image     frame to draw, or {@code null} to draw a rectangle of the fallback color
+     * @param x         current x coordinate
+     * @param y         current y coordinate
+     * @param previousX x coordinate at the previous tick
+     * @param previousY y coordinate at the previous tick
+     * @param width     drawn width
+     * @param height    drawn height
+     * @param mirrored  {@code true} to mirror the frame horizontally
+     * @param fallback  color drawn when there is no frame, or {@code null} to draw nothing
+     * @return the index of the sprite, e.g. for {@link #setHealthBar(int, double)}
+     */
+    public int addSprite(final Image image, final int x, final int y, final int previousX, final int previousY,
+            final int width, final int height, final boolean mirrored, final Color fallback) {
+        final int i = add(SHAPE_IMAGE, x, y, previousX, previousY, width, height);
+        images[i] = image;
+        colors[i] = fallback;
+        flipped[i] = mirrored;
+        dynamic[i] = true;
+        return i;
+    }
+
+    /**
+     * Adds a sprite that does not move, such as an item lying on the map.
+     *
+     * @param image    image to draw, or {@code null} to draw a rectangle of the fallback color
+     * @param x        x coordinate
+     * @param y        y coordinate
+     * @param width    drawn width
+     * @param height   drawn height
+     * @param fallback color drawn when there is no image, or {@code null} to draw nothing
+     * @param animated {@code true} if the image changes from frame to frame
+     */
+    public void addStaticSprite(final Image image, final int x, final int y, final int width, final int height,
+            final Color fallback, final boolean animated) {
+        final int i = add(SHAPE_IMAGE, x, y, x, y, width, height);
+        images[i] = image;
+        colors[i] = fallback;
+        flipped[i] = false;
+        dynamic[i] = animated;
+    }
+
+    /**
+     * Adds a moving filled oval, e.g. a projectile.
+     *
+     * @param color     fill color
+     * @param x         current x coordinate
+     * @param y         current y coordinate
+     * @param previousX x coordinate at the previous tick
+     * @param previousY y coordinate at the previous tick
+     * @param width     width of the oval
+     * @param height    height of the oval
+     */
+    public void addOval(final Color color, final int x, final int y, final int previousX, final int previousY,
+            final int width, final int height) {
+        final int i = add(SHAPE_OVAL, x, y, previousX, previousY, width, height);
+        images[i] = null;
+        colors[i] = color;
+        flipped[i] = false;
+        dynamic[i] = true;
+    }
+
+    /**
+     * Draws a health bar above a sprite.
+     *
+     * @param sprite index returned by {@link #addSprite}
+     * @param ratio  remaining health, between 0 and 1
+     */
+    public void setHealthBar(final int sprite, final double ratio) {
+        healthRatios[sprite] = (float) Math.max(0.0, Math.min(1.0, ratio));
+    }
+
+    private int add(final byte shape, final int x, final int y, final int previousX, final int previousY,
+            final int width, final int height) {
+        if (spriteCount == shapes.length) {
+            grow();
+        }
+        final int i = spriteCount++;
+        shapes[i] = shape;
+        xs[i] = x;
+        ys[i] = y;
+        previousXs[i] = previousX;
+        previousYs[i] = previousY;
+        widths[i] = width;
+        heights[i] = height;
+        healthRatios[i] = NO_HEALTH_BAR;
+        return i;
+    }
+
+    private void grow() {
+        final int capacity = shapes.length * 2;
+        shapes = Arrays.copyOf(shapes, capacity);
+        images = Arrays.copyOf(images, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        previousXs = Arrays.copyOf(previousXs, capacity);
+        previousYs = Arrays.copyOf(previousYs, capacity);
+        widths = Arrays.copyOf(widths, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        flipped = Arrays.copyOf(flipped, capacity);
+        dynamic = Arrays.copyOf(dynamic, capacity);
+        healthRatios = Arrays.copyOf(healthRatios, capacity);
+    }
+
+    /**
+     * @return the number of sprites in this state
+     */
+    public int getSpriteCount() {
+        return spriteCount;
+    }
+
+    /**
+     * Ends the item layer: the sprites added so far are the items, the following ones the entities.
+     */
+    public void endItemLayer() {
+        itemSpriteCount = spriteCount;
+    }
+
+    /**
+     * Draws every sprite in insertion order, interpolating moving ones.
+     *
+     * @param g graphics context, already scaled to the internal resolution
+     */
+    public void drawSprites(final Graphics2D g) {
+        drawSprites(g, 0, spriteCount);
+    }
+
+    /**
+     * Draws the sprites of the item layer, see {@link #endItemLayer()}.
+     *
+     * @param g graphics context, already scaled to the internal resolution
+     */
+    public void drawItemSprites(final Graphics2D g) {
+        drawSprites(g, 0, itemSpriteCount);
+    }
+
+    /**
+     * Draws the sprites added after the item layer, interpolating moving ones.
+     *
+     * @param g graphics context, already scaled to the internal resolution
+     */
+    public void drawEntitySprites(final Graphics2D g) {
+        drawSprites(g, itemSpriteCount, spriteCount);
+    }
+
+    private void drawSprites(final Graphics2D g, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final int x = interpolate(previousXs[i], xs[i]);
+            final int y = interpolate(previousYs[i], ys[i]);
+            final int w = widths[i];
+            final int h = heights[i];
+            if (shapes[i] == SHAPE_OVAL) {
+                g.setColor(colors[i]);
+                g.fillOval(x, y, w, h);
+            } else if (images[i] != null) {
+                if (flipped[i]) {
+                    g.drawImage(images[i], x + w, y, -w, h, null);
+                } else {
+                    g.drawImage(images[i], x, y, w, h, null);
+                }
+            } else if (colors[i] != null) {
+                g.setColor(colors[i]);
+                g.fillRect(x, y, w, h);
+            }
+            if (healthRatios[i] >= 0) {
+                drawHealthBar(g, x, y - HEALTH_BAR_HEIGHT - HEALTH_BAR_GAP, w, healthRatios[i]);
+            }
+        }
+    }
+
+    private static void drawHealthBar(final Graphics2D g, final int x, final int y, final int width,
+            final float ratio) {
+        g.setColor(Color.GRAY);
+        g.fillRect(x, y, width, HEALTH_BAR_HEIGHT);
+        g.setColor(Color.GREEN.darker());
+        g.fillRect(x, y, (int) (width * ratio), HEALTH_BAR_HEIGHT);
+        g.setColor(Color.BLACK);
+        g.drawRect(x, y, width, HEALTH_BAR_HEIGHT);
+    }
+
+    private int interpolate(final int previous, final int current) {
+        return (int) Math.round(previous + (current - previous) * interpolation);
+    }
+
+    /**
+     * Marks the area swept by every moving or animated sprite since the previous tick.
+     *
+     * @param tracker   tracker to mark
+     * @param padding   margin added around each sprite, covering health bars
+     * @param minExtent minimum side length of the marked area
+     */
+    public void markDynamicSprites(final DirtyRegionTracker tracker, final int padding, final int minExtent) {
+        for (int i = 0; i < spriteCount; i++) {
+            if (dynamic[i]) {
+                tracker.mark(Math.min(previousXs[i], xs[i]) - padding,
+                        Math.min(previousYs[i], ys[i]) - padding,
+                        Math.abs(xs[i] - previousXs[i]) + Math.max(widths[i], minExtent) + 2 * padding,
+                        Math.abs(ys[i] - previousYs[i]) + Math.max(heights[i], minExtent) + 2 * padding);
+            }
+        }
+    }
+
+    /**
+     * Records the map drawn under the sprites, see {@link TileMap#writeRenderState(RenderState)}.
+     *
+     * @param grid       tiles of the map
+     * @param background background of the map, or {@code null}
+     */
+    void setMap(final TileGrid grid, final Image background) {
+        this.mapGrid = grid;
+        this.mapBackground = background;
+    }
+
+    /**
+     * @return tiles of the map drawn under the sprites
+     */
+    TileGrid getMapGrid() {
+        return mapGrid;
+    }
+
+    /**
+     * @return background of the map drawn under the sprites, or {@code null}
+     */
+    Image getMapBackground() {
+        return mapBackground;
+    }
+
+    /**
+     * @return interpolation factor between the previous and the current tick
+     */
+    public double getInterpolation() {
+        return interpolation;
+    }
+
+    /**
+     * @param interpolation interpolation factor in [0, 1], where 1 is the current tick
+     */
+    public void setInterpolation(final double interpolation) {
+        this.interpolation = interpolation;
+    }
+
+    /**
+     * @return remaining health of the player, between 0 and 1
+     */
+    public double getPlayerHealth() {
+        return playerHealth;
+    }
+
+    /**
+     * @param playerHealth remaining health of the player, between 0 and 1
+     */
+    public void setPlayerHealth(final double playerHealth) {
+        this.playerHealth = playerHealth;
+    }
+
+    /**
+     * @return the frames per second measured by the game loop
+     */
+    public int getFps() {
+        return fps;
+    }
+
+    /**
+     * @param fps the frames per second measured by the game loop
+     */
+    public void setFps(final int fps) {
+        this.fps = fps;
+    }
+
+    /**
+     * @return the elapsed play time
+     */
+    public TimeData getTime() {
+        return time;
+    }
+
+    /**
+     * @param time the elapsed play time
+     */
+    public void setTime(final TimeData time) {
+        this.time = time;
+    }
+
+    /**
+     * @return {@code true} if a living boss is on the map
+     */
+    public boolean hasBoss() {
+        return bossMaxHealth > 0;
+    }
+
+    /**
+     * @return current health of the boss
+     */
+    public int getBossHealth() {
+        return bossHealth;
+    }
+
+    /**
+     * @return maximum health of the boss
+     */
+    public int getBossMaxHealth() {
+        return bossMaxHealth;
+    }
+
+    /**
+     * Records the health of the boss shown in the HUD.
+     *
+     * @param health    current health
+     * @param maxHealth maximum health, 0 if there is no living boss
+     */
+    public void setBossHealth(final int health, final int maxHealth) {
+        this.bossHealth = health;
+        this.bossMaxHealth = maxHealth;
+    }
+
+    /**
+     * Returns the attack area of the player's melee weapon.
+     * The arc belongs to this state and is only valid while the state is drawn.
+     *
+     * @return the attack area, or {@code null} if the player is not attacking
+     */
+    @SuppressFBWarnings(
+        value = "EI",
+        justification = "The arc is preallocated and only read by the renderer that owns this state."
+    )
+    public Arc2D getAttackArea() {
+        return attacking ? attackArea : null;
+    }
+
+    /**
+     * @param area attack area of the player's melee weapon, or {@code null} if not attacking
+     */
+    public void setAttackArea(final Arc2D area) {
+        this.attacking = area != null;
+        if (area != null) {
+            attackArea.setArc(area);
+        }
+    }
+
+    /**
+     * @return {@code true} if the player has lost
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * @return {@code true} if the player has won
+     */
+    public boolean isGameWon() {
+        return gameWon;
+    }
+
+    /**
+     * @param gameOver {@code true} if the player has lost
+     * @param gameWon  {@code true} if the player has won
+     */
+    public void setOutcome(final boolean gameOver, final boolean gameWon) {
+        this.gameOver = gameOver;
+        this.gameWon = gameWon;
+    }
+}
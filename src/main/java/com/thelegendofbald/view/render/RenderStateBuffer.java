@@ -0,0 +1,73 @@
+package com.thelegendofbald.view.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free triple buffer of {@link RenderState}s.
+ * <p>
+ * The game thread fills the back state and publishes it, swapping it with the
+ * middle one; the painting thread swaps the middle state with its front one
+ * when a newer state has been published. Neither side ever waits for the
+ * other: the simulation can fill the next state while the previous one is
+ * still being drawn, and the renderer always gets the latest complete state.
+ * </p>
+ * There must be a single writer, and states must be drawn by one thread at a time.
+ * The class is <b>final</b> and is not intended to be extended.
+ */
+public final class RenderStateBuffer {
+
+    private static final int INDEX_MASK = 0b011;
+    /** Set in {@link #middle} when it holds a state the reader has not seen yet. */
+    private static final int FRESH = 0b100;
+
+    private final RenderState[] states = {new RenderState(), new RenderState(), new RenderState()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    /** Index of the state owned by the writer. */
+    private int back;
+    /** Index of the state owned by the reader. */
+    private int front = 2;
+    /** Whether the last {@link #acquire()} returned a newly published state. */
+    private boolean fresh;
+
+    /**
+     * Returns the state to fill for the next frame, already cleared.
+     * Must only be called by the writer.
+     *
+     * @return the back state
+     */
+    public RenderState getBackState() {
+        final RenderState state = states[back];
+        state.clear();
+        return state;
+    }
+
+    /**
+     * Makes the back state available to the reader. Must only be called by the writer.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the latest published state, which stays valid until the next call.
+     *
+     * @return the front state
+     */
+    public synchronized RenderState acquire() {
+        fresh = (middle.get() & FRESH) != 0;
+        if (fresh) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return states[front];
+    }
+
+    /**
+     * Tells whether the last {@link #acquire()} returned a state published
+     * since the previous one, rather than a state that was already drawn.
+     *
+     * @return true if the front state is drawn for the first time
+     */
+    public synchronized boolean isFresh() {
+        return fresh;
+    }
+}
@@ -0,0 +1,132 @@
+package com.thelegendofbald.view.render;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import javax.imageio.ImageIO;
+
+import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.utils.jfr.AssetLoadEvent;
+import com.thelegendofbald.utils.jfr.JfrEvents;
+
+/**
+ * Process-wide cache of sprites and animation frames.
+ * <p>
+ * Every image is decoded from the classpath only once and shared by all the
+ * entities and items that use it, so constructing an enemy or an item costs no
+ * I/O after the first one of its kind. When a screen is available, images are
+ * converted to the screen's compatible format so they can be blitted without
+ * per-frame conversions.
+ * </p>
+ * Cached images are shared: callers must only draw them, never draw into them.
+ * The class is <b>final</b> and cannot be instantiated.
+ */
+public final class SpriteCache {
+
+    /** Single images, by resource path. Missing resources are cached as empty. */
+    private static final Map<String, Optional<BufferedImage>> IMAGES = new ConcurrentHashMap<>();
+    /** Animation frames, by animation name. */
+    private static final Map<String, BufferedImage[]> ANIMATIONS = new ConcurrentHashMap<>();
+
+    private SpriteCache() {
+    }
+
+    /**
+     * Returns the image stored at a classpath resource, loading it on first use.
+     *
+     * @param path resource path of the image
+     * @return the shared image, or {@code null} if it cannot be loaded
+     */
+    public static BufferedImage getImage(final String path) {
+        return IMAGES.computeIfAbsent(path, SpriteCache::load).orElse(null);
+    }
+
+    /**
+     * @return the number of images decoded so far, missing ones included
+     */
+    public static int getImageCount() {
+        return IMAGES.size();
+    }
+
+    /**
+     * @return the number of requested images whose resource is missing or could not be decoded
+     */
+    public static int getMissingImageCount() {
+        return (int) IMAGES.values().stream().filter(Optional::isEmpty).count();
+    }
+
+    /**
+     * @return the number of cached animations
+     */
+    public static int getAnimationCount() {
+        return ANIMATIONS.size();
+    }
+
+    /**
+     * Returns the frames of an animation, loading them on first use.
+     * The returned array is a fresh copy, while the frames in it are shared.
+     *
+     * @param animation  unique name of the animation, e.g. {@code "dummyenemy/run"}
+     * @param frameCount number of frames
+     * @param pathOf     resource path of the frame with the given index
+     * @return the frames; entries whose resource is missing are {@code null}
+     */
+    public static BufferedImage[] getFrames(final String animation, final int frameCount,
+            final IntFunction<String> pathOf) {
+        return ANIMATIONS.computeIfAbsent(animation, key -> {
+            final BufferedImage[] frames = new BufferedImage[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+                frames[i] = getImage(pathOf.apply(i));
+            }
+            return frames;
+        }).clone();
+    }
+
+    private static Optional<BufferedImage> load(final String path) {
+        final AssetLoadEvent event = JfrEvents.ENABLED ? new AssetLoadEvent(AssetLoadEvent.SPRITE, path) : null;
+        final Optional<BufferedImage> image = decode(path);
+        if (event != null) {
+            event.end(image.isPresent());
+        }
+        return image;
+    }
+
+    private static Optional<BufferedImage> decode(final String path) {
+        try (InputStream is = SpriteCache.class.getResourceAsStream(path)) {
+            if (is == null) {
+                LoggerUtils.error("Sprite not found: " + path);
+                return Optional.empty();
+            }
+            return Optional.ofNullable(ImageIO.read(is)).map(SpriteCache::toCompatible);
+        } catch (final IOException e) {
+            LoggerUtils.error("Error loading sprite " + path + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static BufferedImage toCompatible(final BufferedImage src) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return src;
+        }
+        final GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        if (src.getColorModel().equals(gc.getColorModel(Transparency.TRANSLUCENT))) {
+            return src;
+        }
+        final BufferedImage compatible = gc.createCompatibleImage(src.getWidth(), src.getHeight(),
+                Transparency.TRANSLUCENT);
+        final Graphics2D g = compatible.createGraphics();
+        g.drawImage(src, 0, 0, null);
+        g.dispose();
+        return compatible;
+    }
+}
@@ -1,8 +1,6 @@
 package com.thelegendofbald.view.render;
 
 import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.util.Objects;
 
@@ -10,16 +8,16 @@ import java.util.Objects;
  * Represents a map tile, composed of a base image and an optional overlay
  * image.
  * <p>
- * The class is immutable and <b>final</b>. It automatically handles defensive
- * copying of images
- * to prevent accidental external modifications and supports resizing during
- * initialization.
+ * The class is immutable and <b>final</b>. Images are held through read-only
+ * {@link TileImage} handles: the constructors taking a {@link BufferedImage}
+ * copy (or resize) it once, while those taking handles share them, so that
+ * tile types built from the same picture do not duplicate its pixels.
  * </p>
  */
 public final class Tile {
 
-    private final BufferedImage image;
-    private final BufferedImage overlayImage;
+    private final TileImage image;
+    private final TileImage overlayImage;
     private final int width;
     private final int height;
     private final int id;
@@ -54,30 +52,41 @@ public final class Tile {
             final boolean isSpawn,
             final boolean walkable,
             final BufferedImage overlayImage) {
+        this(TileImage.of(image, width, height, resize), width, height, id, solid, isSpawn, walkable,
+                TileImage.of(overlayImage, width, height, false));
+    }
+
+    /**
+     * Creates a Tile sharing already prepared image handles, without copying them.
+     *
+     * @param image        base image handle of the tile (can be {@code null})
+     * @param width        width of the tile in pixels
+     * @param height       height of the tile in pixels
+     * @param id           unique identifier of the tile type (use -1 if not
+     *                     applicable)
+     * @param solid        {@code true} if the tile should block movement
+     *                     (collision)
+     * @param isSpawn      {@code true} if this tile represents a spawn point
+     * @param walkable     {@code true} if the tile is walkable by entities
+     * @param overlayImage optional overlay image handle (can be {@code null})
+     */
+    public Tile(
+            final TileImage image,
+            final int width,
+            final int height,
+            final int id,
+            final boolean solid,
+            final boolean isSpawn,
+            final boolean walkable,
+            final TileImage overlayImage) {
+        this.image = image;
         this.width = width;
         this.height = height;
         this.id = id;
         this.solid = solid;
         this.isSpawn = isSpawn;
         this.walkable = walkable;
-
-        if (image != null) {
-            if (resize) {
-                final BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-                final Graphics2D g2 = resized.createGraphics();
-                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-                g2.drawImage(image, 0, 0, width, height, null);
-                g2.dispose();
-                this.image = resized;
-            } else {
-                this.image = deepCopy(image);
-            }
-        } else {
-            this.image = null;
-        }
-
-        this.overlayImage = overlayImage != null ? deepCopy(overlayImage) : null;
+        this.overlayImage = overlayImage;
     }
 
     /**
@@ -98,7 +107,17 @@ public final class Tile {
      * @return a new {@link BufferedImage} instance or {@code null} if not present
      */
     public BufferedImage getImage() {
-        return image == null ? null : deepCopy(image);
+        return image == null ? null : image.toBufferedImage();
+    }
+
+    /**
+     * Returns the shared, read-only handle of the base image.
+     * Prefer it to {@link #getImage()} when the pixels only need to be drawn.
+     *
+     * @return the image handle or {@code null} if not present
+     */
+    public TileImage getImageHandle() {
+        return image;
     }
 
     /**
@@ -170,7 +189,16 @@ public final class Tile {
      * @return a new {@link BufferedImage} instance or {@code null} if not present
      */
     public BufferedImage getOverlayImage() {
-        return overlayImage == null ? null : deepCopy(overlayImage);
+        return overlayImage == null ? null : overlayImage.toBufferedImage();
+    }
+
+    /**
+     * Returns the shared, read-only handle of the overlay image.
+     *
+     * @return the overlay handle or {@code null} if not present
+     */
+    public TileImage getOverlayHandle() {
+        return overlayImage;
     }
 
     /**
@@ -182,10 +210,10 @@ public final class Tile {
      */
     public void render(final Graphics g, final int x, final int y) {
         if (image != null) {
-            g.drawImage(image, x, y, null);
+            image.draw(g, x, y);
         }
         if (overlayImage != null) {
-            g.drawImage(overlayImage, x, y, null);
+            overlayImage.draw(g, x, y);
         }
     }
 
@@ -242,19 +270,4 @@ public final class Tile {
                 .append('}')
                 .toString();
     }
-
-    /**
-     * Creates a deep copy of a BufferedImage to ensure immutability.
-     *
-     * @param src source image
-     * @return a new BufferedImage containing the same data as the source
-     */
-    private static BufferedImage deepCopy(final BufferedImage src) {
-        final int type = src.getType() == 0 ? BufferedImage.TYPE_INT_ARGB : src.getType();
-        final BufferedImage copy = new BufferedImage(src.getWidth(), src.getHeight(), type);
-        final Graphics2D g = copy.createGraphics();
-        g.drawImage(src, 0, 0, null);
-        g.dispose();
-        return copy;
-    }
 }
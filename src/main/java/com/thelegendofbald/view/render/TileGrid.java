@@ -0,0 +1,195 @@
+package com.thelegendofbald.view.render;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Compact, immutable storage of the tiles of a map.
+ * <p>
+ * Tile ids are kept in a single row-major {@code short[]} and the solid cells
+ * in a {@code long[]} bitset, so that collision probes are plain array
+ * lookups instead of walks through {@link Tile} objects. Tiles themselves are
+ * shared flyweights owned by {@link TileMap}.
+ * </p>
+ * <p>
+ * The cells are also indexed by tile id when the grid is built, so looking up
+ * spawn points, portals or enemy markers does not scan the whole map.
+ * </p>
+ * The class is <b>final</b> and package-private: it is an implementation
+ * detail of {@link TileMap}.
+ */
+final class TileGrid {
+
+    /** Id stored for cells whose tile type is unknown. */
+    static final short NO_TILE = -1;
+
+    /** Empty grid used before the first map is loaded. */
+    static final TileGrid EMPTY = new TileGrid(0, 0, new short[0], new long[0], new int[1], new int[0]);
+
+    private final int cols;
+    private final int rows;
+    private final short[] ids;
+    private final long[] solid;
+    /** Offset in {@link #cellsById} of the first cell of each id; one extra entry closes the last id. */
+    private final int[] idStart;
+    /** Row-major cell indexes, grouped by tile id. */
+    private final int[] cellsById;
+
+    private TileGrid(final int cols, final int rows, final short[] ids, final long[] solid,
+            final int[] idStart, final int[] cellsById) {
+        this.cols = cols;
+        this.rows = rows;
+        this.ids = ids;
+        this.solid = solid;
+        this.idStart = idStart;
+        this.cellsById = cellsById;
+    }
+
+    /**
+     * Builds a grid from a matrix of tile ids.
+     * Ids without a tile type are stored as {@link #NO_TILE}; rows shorter than
+     * the first one are padded with {@link #NO_TILE}.
+     *
+     * @param mapData matrix of tile ids, indexed by row then column
+     * @param types   flyweight tile types indexed by id (entries may be {@code null})
+     * @return the new grid
+     */
+    static TileGrid of(final int[][] mapData, final Tile[] types) {
+        final int rows = mapData.length;
+        final int cols = rows > 0 ? mapData[0].length : 0;
+        final short[] ids = new short[rows * cols];
+        final long[] solid = new long[(ids.length + Long.SIZE - 1) / Long.SIZE];
+        Arrays.fill(ids, NO_TILE);
+
+        for (int y = 0; y < rows; y++) {
+            final int[] row = mapData[y];
+            for (int x = 0; x < Math.min(cols, row.length); x++) {
+                final int id = row[x];
+                if (id >= 0 && id < types.length && types[id] != null) {
+                    final int index = y * cols + x;
+                    ids[index] = (short) id;
+                    if (types[id].isSolid()) {
+                        solid[index >>> 6] |= 1L << index;
+                    }
+                }
+            }
+        }
+
+        // Counting sort of the cells by id: cells of the same id stay in row-major order.
+        final int[] idStart = new int[types.length + 1];
+        for (final short id : ids) {
+            if (id != NO_TILE) {
+                idStart[id + 1]++;
+            }
+        }
+        for (int id = 0; id < types.length; id++) {
+            idStart[id + 1] += idStart[id];
+        }
+        final int[] cellsById = new int[idStart[types.length]];
+        final int[] next = Arrays.copyOf(idStart, types.length);
+        for (int index = 0; index < ids.length; index++) {
+            if (ids[index] != NO_TILE) {
+                cellsById[next[ids[index]]++] = index;
+            }
+        }
+        return new TileGrid(cols, rows, ids, solid, idStart, cellsById);
+    }
+
+    /**
+     * @return number of columns
+     */
+    int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return number of rows
+     */
+    int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the id of the tile in a cell.
+     *
+     * @param tileX column index
+     * @param tileY row index
+     * @return the tile id, or {@link #NO_TILE} if the cell is empty or out of the grid
+     */
+    int idAt(final int tileX, final int tileY) {
+        if (tileX < 0 || tileY < 0 || tileX >= cols || tileY >= rows) {
+            return NO_TILE;
+        }
+        return ids[tileY * cols + tileX];
+    }
+
+    /**
+     * Returns how many cells hold a tile id.
+     *
+     * @param id tile id
+     * @return the number of cells with that id
+     */
+    int countWithId(final int id) {
+        if (id < 0 || id >= idStart.length - 1) {
+            return 0;
+        }
+        return idStart[id + 1] - idStart[id];
+    }
+
+    /**
+     * Returns a cell holding a tile id. Cells are numbered in row-major order,
+     * so the column is {@code cell % getCols()} and the row {@code cell / getCols()}.
+     *
+     * @param id tile id
+     * @param n  position of the cell among those with the id, in row-major order,
+     *           between 0 and {@link #countWithId(int)} excluded
+     * @return the row-major index of the cell
+     */
+    int cellWithId(final int id, final int n) {
+        return cellsById[idStart[id] + n];
+    }
+
+    /**
+     * Returns the positions of all the cells holding a tile id.
+     *
+     * @param id       tile id
+     * @param tileSize side length of a tile in pixels
+     * @return the pixel coordinates (top-left) of the cells, in row-major order
+     */
+    List<Point> pointsWithId(final int id, final int tileSize) {
+        final int count = countWithId(id);
+        final List<Point> points = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            final int cell = cellWithId(id, n);
+            points.add(new Point(cell % cols * tileSize, cell / cols * tileSize));
+        }
+        return points;
+    }
+
+    /**
+     * Tells whether a cell blocks movement.
+     *
+     * @param tileX column index
+     * @param tileY row index
+     * @return true if the cell is inside the grid and solid
+     */
+    boolean isSolid(final int tileX, final int tileY) {
+        if (tileX < 0 || tileY < 0 || tileX >= cols || tileY >= rows) {
+            return false;
+        }
+        final int index = tileY * cols + tileX;
+        return (solid[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Copies the solid cells, indexed in row-major order like {@link #cellWithId}.
+     *
+     * @return a new bit set with one bit per solid cell
+     */
+    BitSet solidCells() {
+        return BitSet.valueOf(solid);
+    }
+}
@@ -0,0 +1,92 @@
+package com.thelegendofbald.view.render;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Read-only handle to the pixels of a tile type.
+ * <p>
+ * The image is copied (or scaled) once when the handle is created and never
+ * exposed afterwards, so the same handle can be shared by every {@link Tile}
+ * and every cell that uses it without defensive copies.
+ * </p>
+ * The class is immutable and <b>final</b>.
+ */
+public final class TileImage {
+
+    private final BufferedImage image;
+
+    private TileImage(final BufferedImage image) {
+        this.image = image;
+    }
+
+    /**
+     * Creates a handle holding a private copy of an image.
+     *
+     * @param src    source image
+     * @param width  target width in pixels, used when {@code resize} is true
+     * @param height target height in pixels, used when {@code resize} is true
+     * @param resize {@code true} to scale the image to {@code width x height}
+     * @return the new handle, or {@code null} if {@code src} is {@code null}
+     */
+    public static TileImage of(final BufferedImage src, final int width, final int height, final boolean resize) {
+        if (src == null) {
+            return null;
+        }
+        if (resize) {
+            final BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D g2 = resized.createGraphics();
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2.drawImage(src, 0, 0, width, height, null);
+            g2.dispose();
+            return new TileImage(resized);
+        }
+        return new TileImage(copyOf(src));
+    }
+
+    /**
+     * Draws the image with its top-left corner at the given position.
+     *
+     * @param g graphics context to draw on
+     * @param x destination x coordinate
+     * @param y destination y coordinate
+     */
+    public void draw(final Graphics g, final int x, final int y) {
+        g.drawImage(image, x, y, null);
+    }
+
+    /**
+     * @return width of the image in pixels
+     */
+    public int getWidth() {
+        return image.getWidth();
+    }
+
+    /**
+     * @return height of the image in pixels
+     */
+    public int getHeight() {
+        return image.getHeight();
+    }
+
+    /**
+     * Returns a modifiable copy of the pixels.
+     *
+     * @return a new {@link BufferedImage} with the same content
+     */
+    public BufferedImage toBufferedImage() {
+        return copyOf(image);
+    }
+
+    private static BufferedImage copyOf(final BufferedImage src) {
+        final int type = src.getType() == 0 ? BufferedImage.TYPE_INT_ARGB : src.getType();
+        final BufferedImage copy = new BufferedImage(src.getWidth(), src.getHeight(), type);
+        final Graphics2D g = copy.createGraphics();
+        g.drawImage(src, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+}
@@ -1,22 +1,30 @@
 package com.thelegendofbald.view.render;
 
+import java.awt.Color;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Image;
 import java.awt.Point;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.ImageIO;
 
 import com.thelegendofbald.utils.LoggerUtils;
+import com.thelegendofbald.utils.jfr.AssetLoadEvent;
+import com.thelegendofbald.utils.jfr.JfrEvents;
 
 /**
  * Manages loading, logic, and rendering of the tile map.
@@ -49,6 +57,11 @@ public class TileMap {
     private static final int ID_BOSS = 9;
     /** Identifier for the trigger leading to the next map. */
     private static final int ID_NEXT_MAP_TRIGGER = 10;
+    /** Number of tile type slots (highest known id + 1). */
+    private static final int TILE_TYPE_COUNT = ID_NEXT_MAP_TRIGGER + 1;
+
+    /** Color under empty tiles, matching the game panel background. */
+    private static final Color BACKGROUND_COLOR = Color.BLACK;
 
     /** Default number of rows for a generated map. */
     private static final int DEFAULT_ROWS = 22;
@@ -62,12 +75,26 @@ public class TileMap {
     /** Side length of a single tile in pixels. */
     private final int tileSize;
 
-    /** 2D grid containing references to active tiles in the map. */
-    private Tile[][] tiles;
+    /** Compact grid of tile ids and solid cells of the current map. */
+    private volatile TileGrid grid = TileGrid.EMPTY;
     /** Background image drawn before tiles. */
-    private Image backgroundImage;
-    /** Map associating numeric IDs to configured Tile prototypes. */
-    private final Map<Integer, Tile> tileTypes = new HashMap<>();
+    private volatile Image backgroundImage;
+    /** Background images already loaded, by resource path, reused across map changes. */
+    private final Map<String, Image> backgroundCache = new ConcurrentHashMap<>();
+    /** Shared Tile flyweights indexed by numeric ID ({@code null} for unknown IDs). */
+    private final Tile[] tileTypes = new Tile[TILE_TYPE_COUNT];
+    /**
+     * Cached image of the static layer (background, tiles, overlays and grid).
+     * It is painted from the EDT in passive rendering and from the game thread
+     * in active rendering, so it is only touched while holding {@link #staticLayerLock}.
+     */
+    private VolatileImage staticLayer;
+    /** Guards {@link #staticLayer} and the map it holds against the two rendering threads. */
+    private final Object staticLayerLock = new Object();
+    /** Grid drawn in the static layer, or {@code null} if the layer has to be redrawn. */
+    private TileGrid layerGrid;
+    /** Background drawn in the static layer. */
+    private Image layerBackground;
 
     /**
      * Creates a new instance of TileMap.
@@ -90,22 +117,26 @@ public class TileMap {
      */
     private void loadTileTypes() {
         try {
-            final BufferedImage floor = loadBufferedImage("/images/map_png/floor-tiles.png");
-            final BufferedImage wall = loadBufferedImage("/images/map_png/BrickGrey.png");
-            final BufferedImage shop = loadBufferedImage("/images/map_png/shop.png");
-
-            tileTypes.put(ID_EMPTY, new Tile(null, tileSize, tileSize, ID_EMPTY, false, false, false, false, null));
-            tileTypes.put(ID_FLOOR_A, new Tile(floor, tileSize, tileSize, ID_FLOOR_A, false, true, false, true, null));
-            tileTypes.put(ID_WALL, new Tile(wall, tileSize, tileSize, ID_WALL, true, true, false, false, null));
-            tileTypes.put(ID_FLOOR_B, new Tile(floor, tileSize, tileSize, ID_FLOOR_B, false, true, false, true, null));
-            tileTypes.put(ID_SPAWN, new Tile(floor, tileSize, tileSize, ID_SPAWN, false, true, true, true, null));
-            tileTypes.put(ID_SHOP, new Tile(floor, tileSize, tileSize, ID_SHOP, false, true, true, true, shop));
-            tileTypes.put(ID_SPECIAL, new Tile(floor, tileSize, tileSize, ID_SPECIAL, false, true, true, true, null));
-            tileTypes.put(ID_PREV_PORTAL,
-                    new Tile(null, tileSize, tileSize, ID_EMPTY, false, false, false, false, null));
-            tileTypes.put(ID_BOSS, new Tile(floor, tileSize, tileSize, ID_BOSS, false, true, true, true, null));
-            tileTypes.put(ID_NEXT_MAP_TRIGGER,
-                    new Tile(floor, tileSize, tileSize, ID_NEXT_MAP_TRIGGER, false, true, false, true, null));
+            // Every image is scaled once and shared by all the tile types using it.
+            final TileImage floor = TileImage.of(
+                    loadBufferedImage("/images/map_png/floor-tiles.png"), tileSize, tileSize, true);
+            final TileImage wall = TileImage.of(
+                    loadBufferedImage("/images/map_png/BrickGrey.png"), tileSize, tileSize, true);
+            final TileImage shop = TileImage.of(
+                    loadBufferedImage("/images/map_png/shop.png"), tileSize, tileSize, false);
+
+            tileTypes[ID_EMPTY] = new Tile(null, tileSize, tileSize, ID_EMPTY, false, false, false, null);
+            tileTypes[ID_FLOOR_A] = new Tile(floor, tileSize, tileSize, ID_FLOOR_A, false, false, true, null);
+            tileTypes[ID_WALL] = new Tile(wall, tileSize, tileSize, ID_WALL, true, false, false, null);
+            tileTypes[ID_FLOOR_B] = new Tile(floor, tileSize, tileSize, ID_FLOOR_B, false, false, true, null);
+            tileTypes[ID_SPAWN] = new Tile(floor, tileSize, tileSize, ID_SPAWN, false, true, true, null);
+            tileTypes[ID_SHOP] = new Tile(floor, tileSize, tileSize, ID_SHOP, false, true, true, shop);
+            tileTypes[ID_SPECIAL] = new Tile(floor, tileSize, tileSize, ID_SPECIAL, false, true, true, null);
+            tileTypes[ID_PREV_PORTAL] =
+                    new Tile(null, tileSize, tileSize, ID_PREV_PORTAL, false, false, false, null);
+            tileTypes[ID_BOSS] = new Tile(floor, tileSize, tileSize, ID_BOSS, false, true, true, null);
+            tileTypes[ID_NEXT_MAP_TRIGGER] =
+                    new Tile(floor, tileSize, tileSize, ID_NEXT_MAP_TRIGGER, false, false, true, null);
         } catch (final IOException e) {
             LoggerUtils.error("Errore nel caricamento delle immagini dei tile.", e);
             throw new IllegalStateException("Errore nel caricamento delle immagini dei tile.", e);
@@ -122,25 +153,33 @@ public class TileMap {
     private BufferedImage loadBufferedImage(final String path) throws IOException {
         final InputStream stream = TileMap.class.getResourceAsStream(path);
         if (stream == null) {
-            throw new IllegalArgumentException("Risorsa non trovata: " + path);
+            throw new IllegalArgumentException("Resource not found: " + path);
         }
-        return ImageIO.read(stream);
+        final AssetLoadEvent event = JfrEvents.ENABLED ? new AssetLoadEvent(AssetLoadEvent.SPRITE, path) : null;
+        final BufferedImage image = ImageIO.read(stream);
+        if (event != null) {
+            event.end(image != null);
+        }
+        return image;
     }
 
     /**
-     * Loads data and specific resources for a map based on the provided name.
-     * Sets the {@code tiles} matrix and background image.
+     * Loads data and specific resources for a map based on the provided name,
+     * without changing the current map.
+     * Safe to call from any thread, e.g. to preload the next level in the background.
      *
      * @param mapName identifier name of the map (e.g. "map_1")
+     * @return the parsed map, to be installed with {@link #applyLayout(MapLayout)}
      */
-    private void loadMap(final String mapName) {
+    public MapLayout prepareMap(final String mapName) {
         int[][] mapData = generateFlatMap(DEFAULT_ROWS, DEFAULT_COLS, ID_EMPTY);
+        Image background = null;
 
         if (mapName != null) {
             switch (mapName) {
                 case "map_1" -> {
                     mapData = loadMapFromFile("map_1.txt");
-                    backgroundImage = loadImage("/images/map_png/castle.png");
+                    background = backgroundCache.computeIfAbsent("/images/map_png/castle.png", this::loadImage);
                 }
                 case "map_2" -> mapData = loadMapFromFile("map_2.txt");
                 case "map_3" -> mapData = loadMapFromFile("map_3.txt");
@@ -151,28 +190,30 @@ public class TileMap {
             }
         }
 
-        tiles = new Tile[mapData.length][mapData[0].length];
-        for (int y = 0; y < mapData.length; y++) {
-            for (int x = 0; x < mapData[y].length; x++) {
-                final int tileId = mapData[y][x];
-                final Tile baseTile = tileTypes.get(tileId);
-
-                if (baseTile != null) {
-                    tiles[y][x] = new Tile(
-                            baseTile.getImage(),
-                            baseTile.getWidth(),
-                            baseTile.getHeight(),
-                            tileId,
-                            baseTile.isSolid(),
-                            false,
-                            baseTile.isWalkable(),
-                            baseTile.isSpawn(),
-                            baseTile.getOverlayImage());
-                } else {
-                    tiles[y][x] = null;
-                }
-            }
+        return new MapLayout(mapName, TileGrid.of(mapData, tileTypes), background, tileSize);
+    }
+
+    /**
+     * Installs a map prepared by {@link #prepareMap(String)}.
+     * Maps without their own background keep the current one.
+     *
+     * @param layout the map to install
+     */
+    public void applyLayout(final MapLayout layout) {
+        if (layout.getBackgroundImage() != null) {
+            backgroundImage = layout.getBackgroundImage();
         }
+        grid = layout.getGrid();
+    }
+
+    /**
+     * Replaces the tiles of the current map with the given IDs.
+     * Cells holding an unknown ID are left empty.
+     *
+     * @param mapData matrix of tile IDs, indexed by row then column
+     */
+    public void loadMapData(final int[][] mapData) {
+        grid = TileGrid.of(mapData, tileTypes);
     }
 
     /**
@@ -223,7 +264,14 @@ public class TileMap {
                 LoggerUtils.error("Immagine non trovata: " + path);
                 return null;
             }
-            return ImageIO.read(is);
+            final AssetLoadEvent event = JfrEvents.ENABLED
+                    ? new AssetLoadEvent(AssetLoadEvent.SPRITE, path)
+                    : null;
+            final BufferedImage image = ImageIO.read(is);
+            if (event != null) {
+                event.end(image != null);
+            }
+            return image;
         } catch (final IOException e) {
             LoggerUtils.error("Errore nel caricamento dell'immagine: " + path, e);
             return null;
@@ -256,28 +304,45 @@ public class TileMap {
      * @return the tile ID, or -1 if coordinates are out of map bounds
      */
     public int getTileIdAt(final int x, final int y) {
-        final int tileX = x / tileSize;
-        final int tileY = y / tileSize;
+        return grid.idAt(x / tileSize, y / tileSize);
+    }
 
-        if (tileY >= 0 && tileY < tiles.length && tileX >= 0 && tileX < tiles[0].length) {
-            final Tile tile = tiles[tileY][tileX];
-            return tile != null ? tile.getId() : -1;
-        }
-        return -1;
+    /**
+     * Returns the ID of the tile at the specified grid coordinates.
+     *
+     * @param tileX column index (grid coordinate)
+     * @param tileY row index (grid coordinate)
+     * @return the tile ID, or -1 if the cell is empty or out of map
+     */
+    public int getTileId(final int tileX, final int tileY) {
+        return grid.idAt(tileX, tileY);
     }
 
     /**
-     * Returns the {@link Tile} object at the specified grid coordinates.
+     * Tells whether the tile at the specified grid coordinates blocks movement.
+     * This is a single bit lookup and should be preferred to
+     * {@link #getTileAt(int, int)} for collision probes.
+     *
+     * @param tileX column index (grid coordinate)
+     * @param tileY row index (grid coordinate)
+     * @return {@code true} if the tile is solid, {@code false} if it is not or
+     *         the coordinates are out of map
+     */
+    public boolean isSolidAt(final int tileX, final int tileY) {
+        return grid.isSolid(tileX, tileY);
+    }
+
+    /**
+     * Returns the {@link Tile} at the specified grid coordinates.
+     * Tiles are shared flyweights: every cell with the same ID returns the same instance.
      *
      * @param tileX column index (grid coordinate)
      * @param tileY row index (grid coordinate)
      * @return the Tile object or {@code null} if coordinates are out of map
      */
     public Tile getTileAt(final int tileX, final int tileY) {
-        if (tileY >= 0 && tileY < tiles.length && tileX >= 0 && tileX < tiles[0].length) {
-            return tiles[tileY][tileX];
-        }
-        return null;
+        final int id = grid.idAt(tileX, tileY);
+        return id == TileGrid.NO_TILE ? null : tileTypes[id];
     }
 
     /**
@@ -286,10 +351,19 @@ public class TileMap {
      * @return the number of columns in the map
      */
     public int getMapWidthInTiles() {
-        if (tiles != null && tiles.length > 0) {
-            return tiles[0].length;
-        }
-        return 0;
+        return grid.getCols();
+    }
+
+    /**
+     * Returns a copy of the solid cells of the current map, which can be read
+     * from other threads while the map changes.
+     * The cell in column {@code x} and row {@code y} has index
+     * {@code y * getMapWidthInTiles() + x}.
+     *
+     * @return a new bit set with one bit per solid cell
+     */
+    public BitSet getSolidCells() {
+        return grid.solidCells();
     }
 
     /**
@@ -298,10 +372,7 @@ public class TileMap {
      * @return the number of rows in the map
      */
     public int getMapHeightInTiles() {
-        if (tiles != null) {
-            return tiles.length;
-        }
-        return 0;
+        return grid.getRows();
     }
 
     /**
@@ -311,7 +382,7 @@ public class TileMap {
      * @param mapName name of the map to load (e.g. {@code map_1})
      */
     public void changeMap(final String mapName) {
-        loadMap(mapName);
+        applyLayout(prepareMap(mapName));
     }
 
     /**
@@ -323,38 +394,132 @@ public class TileMap {
      *         if not found
      */
     public Point findSpawnPoint(final int spawnTileId) {
-        for (int y = 0; y < tiles.length; y++) {
-            for (int x = 0; x < tiles[y].length; x++) {
-                final Tile tile = tiles[y][x];
-                if (tile != null && tile.getId() == spawnTileId) {
-                    return new Point(x * tileSize, y * tileSize);
-                }
-            }
+        final TileGrid current = grid;
+        if (current.countWithId(spawnTileId) == 0) {
+            return null;
         }
-        return null;
+        final int cell = current.cellWithId(spawnTileId, 0);
+        return new Point(cell % current.getCols() * tileSize, cell / current.getCols() * tileSize);
+    }
+
+    /**
+     * Copies the current map into a render state, so that the state is drawn
+     * over the map it was taken from even if the map changes in the meantime.
+     * Must be called on the thread changing the map.
+     *
+     * @param state the state being filled
+     */
+    public void writeRenderState(final RenderState state) {
+        state.setMap(grid, backgroundImage);
     }
 
     /**
-     * Renders the map (background and tiles) on the provided graphics context.
+     * Renders the current map on the provided graphics context.
      *
      * @param g the {@link Graphics} context to draw on
      */
     public void paint(final Graphics g) {
-        if (backgroundImage != null) {
-            g.drawImage(backgroundImage, 0, 0, width, height, null);
-        }
+        paint(g, grid, backgroundImage);
+    }
 
-        if (tiles == null) {
+    /**
+     * Renders the map copied into a render state by {@link #writeRenderState(RenderState)}.
+     * The live map is not read, so the state may be drawn from any thread.
+     *
+     * @param g     the {@link Graphics} context to draw on
+     * @param state the state being drawn
+     */
+    public void paint(final Graphics g, final RenderState state) {
+        paint(g, state.getMapGrid(), state.getMapBackground());
+    }
+
+    /**
+     * Renders a map on the provided graphics context.
+     * <p>
+     * Background, tiles, overlays and grid never change until the map does,
+     * so they are baked once into an accelerated {@link VolatileImage} and
+     * blitted with a single draw call per frame. The cached layer is rebuilt
+     * when another map is drawn or its contents are lost. The layer is
+     * shared by the EDT and the game thread, since either may render depending
+     * on the rendering mode, and is validated and drawn under a lock.
+     * </p>
+     *
+     * @param g          the {@link Graphics} context to draw on
+     * @param map        the tiles of the map
+     * @param background the background of the map, or {@code null}
+     */
+    private void paint(final Graphics g, final TileGrid map, final Image background) {
+        final GraphicsConfiguration gc = ((Graphics2D) g).getDeviceConfiguration();
+        if (gc == null) {
+            paintStaticLayer(g, map, background);
             return;
         }
-        for (int row = 0; row < tiles.length; row++) {
-            for (int col = 0; col < tiles[row].length; col++) {
-                final Tile tile = tiles[row][col];
-                if (tile != null) {
-                    tile.render(g, col * tileSize, row * tileSize);
+        synchronized (staticLayerLock) {
+            blitStaticLayer(g, gc, map, background);
+        }
+    }
+
+    /**
+     * Validates the cached layer, redraws it if needed and blits it.
+     * Must be called while holding {@link #staticLayerLock}.
+     *
+     * @param g          the {@link Graphics} context to draw on
+     * @param gc         the configuration of the device drawn on
+     * @param map        the tiles of the map
+     * @param background the background of the map, or {@code null}
+     */
+    private void blitStaticLayer(final Graphics g, final GraphicsConfiguration gc, final TileGrid map,
+            final Image background) {
+        do {
+            final int status = staticLayer == null
+                    ? VolatileImage.IMAGE_INCOMPATIBLE
+                    : staticLayer.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (staticLayer != null) {
+                    staticLayer.flush();
+                }
+                staticLayer = gc.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+                layerGrid = null;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                layerGrid = null;
+            }
+            if (layerGrid != map || layerBackground != background) {
+                layerGrid = map;
+                layerBackground = background;
+                final Graphics2D layer = staticLayer.createGraphics();
+                try {
+                    layer.setColor(BACKGROUND_COLOR);
+                    layer.fillRect(0, 0, width, height);
+                    paintStaticLayer(layer, map, background);
+                } finally {
+                    layer.dispose();
+                }
+            }
+            g.drawImage(staticLayer, 0, 0, null);
+        } while (staticLayer.contentsLost());
+    }
+
+    /**
+     * Draws background, tiles, overlays and grid lines.
+     *
+     * @param g          the {@link Graphics} context to draw on
+     * @param map        the tiles of the map
+     * @param background the background of the map, or {@code null}
+     */
+    private void paintStaticLayer(final Graphics g, final TileGrid map, final Image background) {
+        if (background != null) {
+            g.drawImage(background, 0, 0, width, height, null);
+        }
+
+        for (int row = 0; row < map.getRows(); row++) {
+            for (int col = 0; col < map.getCols(); col++) {
+                final int id = map.idAt(col, row);
+                if (id != TileGrid.NO_TILE) {
+                    tileTypes[id].render(g, col * tileSize, row * tileSize);
                 }
             }
         }
+        GridPanel.paintGrid(g, width, height);
     }
 
     /**
@@ -374,18 +539,6 @@ public class TileMap {
      *         found tiles
      */
     public List<Point> findAllWithId(final int wantedId) {
-        final List<Point> points = new ArrayList<>();
-        if (tiles == null) {
-            return points;
-        }
-        for (int y = 0; y < tiles.length; y++) {
-            for (int x = 0; x < tiles[y].length; x++) {
-                final Tile t = tiles[y][x];
-                if (t != null && t.getId() == wantedId) {
-                    points.add(new Point(x * tileSize, y * tileSize));
-                }
-            }
-        }
-        return points;
+        return grid.pointsWithId(wantedId, tileSize);
     }
 }
@@ -205,6 +205,17 @@ public final class GameWindow extends JFrame implements View, MainView {
         game.setShowingFPS(showFPS);
     }
 
+    /**
+     * Enables or disables the on-screen profiler overlay.
+     *
+     * @param showProfiler {@code true} to show the overlay, {@code false} to hide it
+     */
+    @Override
+    public void toggleViewProfiler(final boolean showProfiler) {
+        final Game game = (Game) Panels.GAME_MENU.getPanel();
+        game.setShowingProfiler(showProfiler);
+    }
+
     /**
      * Enables or disables the on-screen game timer.
      *
@@ -215,4 +226,37 @@ public final class GameWindow extends JFrame implements View, MainView {
         final GamePanel game = (GamePanel) Panels.GAME_MENU.getPanel();
         game.setShowingTimer(showTimer);
     }
+
+    /**
+     * Enables or disables the fixed timestep game loop.
+     *
+     * @param fixedTimestep {@code true} to use a fixed timestep, {@code false} otherwise
+     */
+    @Override
+    public void toggleFixedTimestep(final boolean fixedTimestep) {
+        final Game game = (Game) Panels.GAME_MENU.getPanel();
+        game.setFixedTimestep(fixedTimestep);
+    }
+
+    /**
+     * Enables or disables active rendering of the game view.
+     *
+     * @param activeRendering {@code true} to draw frames from the game thread, {@code false} otherwise
+     */
+    @Override
+    public void toggleActiveRendering(final boolean activeRendering) {
+        final Game game = (Game) Panels.GAME_MENU.getPanel();
+        game.setActiveRendering(activeRendering);
+    }
+
+    /**
+     * Sets the number of worker threads of the enemy update.
+     *
+     * @param workers the number of worker threads; 1 keeps the update on the game thread
+     */
+    @Override
+    public void setAiWorkers(final int workers) {
+        final Game game = (Game) Panels.GAME_MENU.getPanel();
+        game.setAiWorkers(workers);
+    }
 }
@@ -79,6 +79,14 @@ public interface MainView {
      */
     void toggleViewFps(boolean showFPS);
 
+    /**
+     * Changes the visibility of the profiler overlay in the view.
+     * The overlay shows a graph of the frame times and how long each phase of a frame takes.
+     * 
+     * @param showProfiler a boolean indicating whether to show the overlay; true to show, false to hide
+     */
+    void toggleViewProfiler(boolean showProfiler);
+
     /**
      * Changes the visibility of the timer display in the view.
      * This can be used to toggle whether a timer is shown on the screen.
@@ -87,4 +95,27 @@ public interface MainView {
      */
     void toggleViewTimer(boolean showTimer);
 
+    /**
+     * Switches the game loop between a fixed timestep simulation and
+     * a variable timestep one.
+     * 
+     * @param fixedTimestep a boolean indicating whether to use a fixed timestep; true to enable, false to disable
+     */
+    void toggleFixedTimestep(boolean fixedTimestep);
+
+    /**
+     * Switches the game view between active rendering, where frames are drawn
+     * and presented by the game thread, and passive Swing repaints.
+     * 
+     * @param activeRendering a boolean indicating whether to use active rendering; true to enable, false to disable
+     */
+    void toggleActiveRendering(boolean activeRendering);
+
+    /**
+     * Sets how many worker threads update the enemies when a map holds many of them.
+     * 
+     * @param workers the number of worker threads; 1 keeps the update on the game thread
+     */
+    void setAiWorkers(int workers);
+
 }
@@ -0,0 +1,108 @@
+package com.thelegendofbald;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.thelegendofbald.controller.GameEngine;
+import com.thelegendofbald.controller.input.ScriptedInputSource;
+import com.thelegendofbald.controller.replay.RecordingInputSource;
+import com.thelegendofbald.controller.replay.ReplayInputSource;
+import com.thelegendofbald.controller.replay.SessionLog;
+import com.thelegendofbald.model.system.GameClock;
+import com.thelegendofbald.model.system.TimerWheel;
+
+/**
+ * Tests running the game headless, driven by scripts and recorded sessions.
+ */
+class HeadlessSimulationTest {
+
+    private static final int TICKS = 180;
+    private static final long LOOT_SEED = 42L;
+    private static final long CLOCK_START = 1_000L;
+    private static final long SLOW_TICK_NANOS = 50_000_000L;
+    private static final List<String> SCRIPT = List.of("60 RIGHT", "30 DOWN ATTACK", "20 LEFT UP", "30 INTERACT");
+
+    @AfterEach
+    void tearDown() {
+        GameClock.reset(0);
+    }
+
+    private static GameEngine run(final List<String> script) {
+        final GameEngine engine = HeadlessSimulation.createEngine(new ScriptedInputSource(script),
+                new SessionLog(LOOT_SEED, CLOCK_START));
+        assertEquals(TICKS, engine.runTicks(TICKS));
+        return engine;
+    }
+
+    @Test
+    void runsTheRequestedTicksWithoutEndingTheGame() {
+        final GameEngine engine = run(SCRIPT);
+        assertFalse(engine.isGameOver());
+        assertFalse(engine.isGameWon());
+        assertEquals(CLOCK_START + TICKS * 1000 / 60, GameClock.now(), 1);
+    }
+
+    @Test
+    void sameScriptReachesSameStateAndInputChangesIt() {
+        final int scripted = run(SCRIPT).getStateChecksum();
+        assertEquals(scripted, run(SCRIPT).getStateChecksum());
+        assertNotEquals(scripted, run(List.of()).getStateChecksum(), "Moving Bald changes the state");
+    }
+
+    @Test
+    void newGameCancelsTheTimersOfThePreviousOne() {
+        final TimerWheel.Timeout leftover = GameClock.timers().schedule(CLOCK_START, () -> { });
+        final GameEngine engine = HeadlessSimulation.createEngine(new ScriptedInputSource(List.of()), null);
+        assertFalse(leftover.isPending());
+
+        final TimerWheel.Timeout running = GameClock.timers().schedule(CLOCK_START, () -> { });
+        engine.reset();
+        assertFalse(running.isPending());
+        assertEquals(0, GameClock.timers().size());
+    }
+
+    @Test
+    void stopWaitsForTheGameThread() {
+        final GameEngine engine = HeadlessSimulation.createEngine(new ScriptedInputSource(SCRIPT), null);
+        final AtomicInteger ticks = new AtomicInteger();
+        engine.setTickListener(e -> {
+            LockSupport.parkNanos(SLOW_TICK_NANOS);
+            ticks.incrementAndGet();
+        });
+        engine.start();
+        LockSupport.parkNanos(SLOW_TICK_NANOS / 2);
+        engine.stop();
+
+        final int stoppedAt = ticks.get();
+        LockSupport.parkNanos(2 * SLOW_TICK_NANOS);
+        assertEquals(stoppedAt, ticks.get(), "No tick runs once stop() returns");
+    }
+
+    @Test
+    void recordedSessionReplaysIdentically() {
+        final SessionLog log = new SessionLog(LOOT_SEED, CLOCK_START);
+        final RecordingInputSource recorder = new RecordingInputSource(new ScriptedInputSource(SCRIPT));
+        final GameEngine recording = HeadlessSimulation.createEngine(recorder, log);
+        recorder.start(log);
+        recording.setTickListener(recorder);
+        recording.runTicks(TICKS);
+        recorder.stop();
+
+        final ReplayInputSource replay = new ReplayInputSource(log);
+        final GameEngine replaying = HeadlessSimulation.createEngine(replay, log);
+        replaying.setTickListener(replay);
+        replaying.runTicks(log.getTickCount());
+
+        assertTrue(replay.isFinished());
+        assertEquals(ReplayInputSource.NO_DIVERGENCE, replay.getDivergentTick());
+        assertEquals(recording.getStateChecksum(), replaying.getStateChecksum());
+    }
+}
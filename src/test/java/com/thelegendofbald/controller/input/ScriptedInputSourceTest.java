@@ -0,0 +1,83 @@
+package com.thelegendofbald.controller.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ScriptedInputSource class.
+ *
+ * These tests cover the syntax of the scripts, the ticks covered by each step
+ * and the rejection of malformed lines.
+ */
+class ScriptedInputSourceTest {
+
+    private static final int WAIT_TICKS = 3;
+    private static final int MOVE_TICKS = 2;
+
+    private static int poll(final InputSource source, final int ticks) {
+        int mask = -1;
+        for (int i = 0; i < ticks; i++) {
+            mask = source.poll();
+        }
+        return mask;
+    }
+
+    @Test
+    void stepsCoverTheirTicksInOrder() {
+        final ScriptedInputSource script = new ScriptedInputSource(List.of(
+                MOVE_TICKS + " RIGHT UP",
+                WAIT_TICKS + "",
+                "1 attack"));
+
+        final int move = InputAction.RIGHT.bit() | InputAction.UP.bit();
+        assertEquals(move, poll(script, 1));
+        assertEquals(move, poll(script, 1));
+        assertEquals(0, poll(script, WAIT_TICKS));
+        assertFalse(script.isFinished());
+        assertEquals(InputAction.ATTACK.bit(), poll(script, 1));
+        assertTrue(script.isFinished());
+        assertEquals(0, script.poll(), "Nothing is held once the script is over");
+    }
+
+    @Test
+    void blankLinesCommentsAndEmptyStepsAreSkipped() {
+        final ScriptedInputSource script = new ScriptedInputSource(List.of(
+                "# warm up",
+                "",
+                "0 LEFT",
+                "   " + MOVE_TICKS + "\tDOWN  "));
+
+        assertEquals(InputAction.DOWN.bit(), poll(script, MOVE_TICKS));
+        assertTrue(script.isFinished());
+    }
+
+    @Test
+    void clearKeepsThePosition() {
+        final ScriptedInputSource script = new ScriptedInputSource(List.of(MOVE_TICKS + " INTERACT"));
+        script.poll();
+        script.clear();
+
+        assertEquals(InputAction.INTERACT.bit(), script.poll());
+        assertTrue(script.isFinished());
+    }
+
+    @Test
+    void emptyScriptIsFinished() {
+        final ScriptedInputSource script = new ScriptedInputSource(List.of());
+        assertTrue(script.isFinished());
+        assertEquals(0, script.poll());
+    }
+
+    @Test
+    void malformedLinesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptedInputSource(List.of("RIGHT 10")));
+        assertThrows(IllegalArgumentException.class, () -> new ScriptedInputSource(List.of("10 JUMP")));
+        assertThrows(IllegalArgumentException.class, () -> new ScriptedInputSource(List.of("-1 LEFT")));
+        assertThrows(IllegalArgumentException.class, () -> new ScriptedInputSource(List.of("1.5 LEFT")));
+    }
+}
@@ -0,0 +1,145 @@
+package com.thelegendofbald.controller.level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.thelegendofbald.model.entity.Entity;
+import com.thelegendofbald.model.entity.LifeComponent;
+import com.thelegendofbald.view.render.TileMap;
+
+/**
+ * Unit tests for TriggerZones class.
+ *
+ * These tests walk an entity over a small map loaded through {@code loadMapData}
+ * and check the zones entered and left, the cells probed and the reset after
+ * a map change.
+ */
+class TriggerZonesTest {
+
+    private static final int TILE_SIZE = 32;
+    private static final int MAP_SIZE = TILE_SIZE * 5;
+    private static final int ENTITY_SIZE = 20;
+    private static final int FLOOR = 1;
+    private static final int SHOP = 6;
+    private static final int PORTAL = 8;
+
+    /** Portal in column 3 of row 1, shop in column 1 of row 3. */
+    private static final int[][] MAP = {
+        {FLOOR, FLOOR, FLOOR, FLOOR, FLOOR},
+        {FLOOR, FLOOR, FLOOR, PORTAL, FLOOR},
+        {FLOOR, FLOOR, FLOOR, FLOOR, FLOOR},
+        {FLOOR, SHOP, FLOOR, FLOOR, FLOOR},
+        {FLOOR, FLOOR, FLOOR, FLOOR, FLOOR},
+    };
+
+    /** Inside the first cell, away from its sides. */
+    private static final int AWAY = 6;
+    /** Right side of the entity on the last pixel of column 2, next to the portal. */
+    private static final int NEXT_TO_PORTAL_X = 3 * TILE_SIZE - ENTITY_SIZE;
+    private static final int PORTAL_ROW_Y = TILE_SIZE + AWAY;
+    private static final int SHOP_COLUMN_X = TILE_SIZE + AWAY;
+    /** Bottom side of the entity on the last pixel of row 2, above the shop. */
+    private static final int ABOVE_SHOP_Y = 3 * TILE_SIZE - ENTITY_SIZE;
+
+    private final List<String> transitions = new ArrayList<>();
+    private CountingTileMap map;
+    private Entity entity;
+    private TriggerZones zones;
+
+    /**
+     * Tile map counting the tiles probed.
+     */
+    private static final class CountingTileMap extends TileMap {
+
+        private int probes;
+
+        CountingTileMap() {
+            super(MAP_SIZE, MAP_SIZE, TILE_SIZE);
+        }
+
+        @Override
+        public int getTileId(final int tileX, final int tileY) {
+            probes++;
+            return super.getTileId(tileX, tileY);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        map = new CountingTileMap();
+        map.loadMapData(MAP);
+        entity = new Entity(AWAY, AWAY, ENTITY_SIZE, ENTITY_SIZE, "test-entity", new LifeComponent(1));
+        zones = new TriggerZones(new int[] {PORTAL}, new int[] {SHOP});
+        zones.addListener((tileId, entered) -> transitions.add((entered ? "enter " : "exit ") + tileId));
+    }
+
+    private int moveTo(final int x, final int y) {
+        entity.setX(x);
+        entity.setY(y);
+        return zones.update(map, entity);
+    }
+
+    @Test
+    void bodyZoneIsEnteredWhenTouchedAndLeftWhenNoLongerTouched() {
+        assertEquals(0, zones.update(map, entity));
+        assertTrue(transitions.isEmpty());
+
+        final int entered = moveTo(NEXT_TO_PORTAL_X, PORTAL_ROW_Y);
+        assertTrue(TriggerZones.contains(entered, PORTAL), "Bordering a portal triggers it");
+        assertTrue(zones.isInside(PORTAL));
+        assertEquals(List.of("enter " + PORTAL), transitions);
+
+        assertEquals(0, moveTo(NEXT_TO_PORTAL_X - 1, PORTAL_ROW_Y));
+        assertFalse(zones.isInside(PORTAL));
+        assertEquals(List.of("enter " + PORTAL, "exit " + PORTAL), transitions);
+    }
+
+    @Test
+    void feetZoneIsTriggeredOnlyUnderTheFeet() {
+        assertEquals(0, moveTo(SHOP_COLUMN_X, ABOVE_SHOP_Y));
+        assertFalse(zones.isInside(SHOP), "Bordering a shop does not trigger it");
+
+        final int entered = moveTo(SHOP_COLUMN_X, ABOVE_SHOP_Y + 1);
+        assertTrue(TriggerZones.contains(entered, SHOP));
+        assertTrue(zones.isInside(SHOP));
+        assertEquals(List.of("enter " + SHOP), transitions);
+    }
+
+    @Test
+    void mapIsProbedOnlyWhenTheCellsChange() {
+        zones.update(map, entity);
+        final int probes = map.probes;
+        assertTrue(probes > 0);
+
+        moveTo(AWAY + 1, AWAY + 1);
+        assertEquals(probes, map.probes, "Moving within the same cells probes nothing");
+
+        moveTo(TILE_SIZE + AWAY, AWAY);
+        assertTrue(map.probes > probes);
+    }
+
+    @Test
+    void resetReportsTheZonesOfANewMap() {
+        moveTo(NEXT_TO_PORTAL_X, PORTAL_ROW_Y);
+        transitions.clear();
+
+        map.loadMapData(new int[][] {
+            {FLOOR, FLOOR, FLOOR, FLOOR},
+            {FLOOR, FLOOR, FLOOR, FLOOR},
+        });
+        assertEquals(0, zones.update(map, entity));
+        assertTrue(zones.isInside(PORTAL), "The map is not probed again until the entity moves");
+
+        zones.reset();
+        assertEquals(0, zones.update(map, entity));
+        assertFalse(zones.isInside(PORTAL));
+        assertEquals(List.of("exit " + PORTAL), transitions);
+    }
+}
@@ -2,7 +2,6 @@ package com.thelegendofbald.model.characters;
 
 import com.thelegendofbald.model.entity.Bald;
 import com.thelegendofbald.model.entity.DummyEnemy;
-import com.thelegendofbald.view.render.Tile;
 import com.thelegendofbald.view.render.TileMap;
 import org.junit.jupiter.api.Test;
 
@@ -77,8 +76,8 @@ class DummyEnemyTest {
             super(0, 0, 32);
         }
         @Override
-        public Tile getTileAt(final int x, final int y) {
-            return null;
+        public boolean isSolidAt(final int x, final int y) {
+            return false;
         }
     }
 
@@ -88,8 +87,8 @@ class DummyEnemyTest {
             super(0, 0, 32);
         }
         @Override
-        public Tile getTileAt(final int x, final int y) {
-            return new Tile(null, 32, 32, 1, true, false, false, true, null);
+        public boolean isSolidAt(final int x, final int y) {
+            return true;
         }
     }
 }
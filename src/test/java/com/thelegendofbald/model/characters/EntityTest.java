@@ -2,7 +2,6 @@ package com.thelegendofbald.model.characters;
 
 import com.thelegendofbald.model.entity.Bald;
 import com.thelegendofbald.model.entity.DummyEnemy;
-import com.thelegendofbald.view.render.Tile;
 import com.thelegendofbald.view.render.TileMap;
 import org.junit.jupiter.api.Test;
 
@@ -35,9 +34,6 @@ class EntityTest {
     private static final int START_Y_10 = 10;
 
     private static final int TILE_SIZE_32 = 32;
-    private static final int TILE_ID_1 = 1;
-    private static final int TILE_WIDTH_32 = 32;
-    private static final int TILE_HEIGHT_32 = 32;
 
     private static final String ENEMY_NAME = "Goblin";
     private static final String HERO_NAME = "Hero";
@@ -90,8 +86,8 @@ class EntityTest {
             super(X0, Y0, TILE_SIZE_32);
         }
         @Override
-        public Tile getTileAt(final int x, final int y) { 
-            return null;
+        public boolean isSolidAt(final int x, final int y) {
+            return false;
         }
     }
 
@@ -102,18 +98,8 @@ class EntityTest {
         }
 
         @Override
-        public Tile getTileAt(final int x, final int y) { 
-            return new Tile(
-                null,
-                TILE_WIDTH_32,
-                TILE_HEIGHT_32,
-                TILE_ID_1,
-                true,
-                false,
-                false,
-                true,
-                null
-            );
+        public boolean isSolidAt(final int x, final int y) {
+            return true;
         }
     }
 }
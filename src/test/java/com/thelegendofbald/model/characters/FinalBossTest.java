@@ -8,7 +8,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.thelegendofbald.model.entity.Bald;
 import com.thelegendofbald.model.entity.FinalBoss;
 import com.thelegendofbald.model.entity.LifeComponent;
-import com.thelegendofbald.view.render.Tile;
 import com.thelegendofbald.view.render.TileMap;
 import org.junit.jupiter.api.Test;
 
@@ -31,9 +30,6 @@ class FinalBossTest {
     private static final double PHASE3_ATK_MULT = 1.50;
 
     private static final int TILE_SIZE_32 = 32;
-    private static final int TILE_ID_1 = 1;
-    private static final int TILE_WIDTH_32 = 32;
-    private static final int TILE_HEIGHT_32 = 32;
 
     private static final int DAMAGE_10 = 10;
 
@@ -197,8 +193,8 @@ class FinalBossTest {
         }
 
         @Override
-        public Tile getTileAt(final int x, final int y) {
-            return null;
+        public boolean isSolidAt(final int x, final int y) {
+            return false;
         }
     }
 
@@ -209,18 +205,8 @@ class FinalBossTest {
         }
 
         @Override
-        public Tile getTileAt(final int x, final int y) {
-            return new Tile(
-                    null,
-                    TILE_WIDTH_32,
-                    TILE_HEIGHT_32,
-                    TILE_ID_1,
-                    true,
-                    false,
-                    false,
-                    true,
-                    null
-            );
+        public boolean isSolidAt(final int x, final int y) {
+            return true;
         }
     }
 }
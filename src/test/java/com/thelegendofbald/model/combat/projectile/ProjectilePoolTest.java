@@ -0,0 +1,101 @@
+package com.thelegendofbald.model.combat.projectile;
+
+import com.thelegendofbald.combat.ProjectilePool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectilePoolTest {
+
+    private static final int CAPACITY_2 = 2;
+    private static final int SPEED_4 = 4;
+    private static final int DMG_5 = 5;
+    private static final int DMG_7 = 7;
+    private static final int X_10 = 10;
+    private static final int X_63 = 63;
+    private static final int X_14 = 14;
+    private static final int SOLID_COL_2 = 2;
+    private static final int SOLID_ROW_0 = 0;
+    private static final int FAST_SPEED_100 = 100;
+    private static final int ENEMY_MIN_X_40 = 40;
+    private static final int ENEMY_MAX_X_50 = 50;
+    private static final int ENEMY_SIZE_10 = 10;
+    private static final double EXPECTED_HIT_TIME = 0.34;
+    private static final double EPSILON = 1e-9;
+
+    private ProjectilePool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ProjectilePool(CAPACITY_2);
+    }
+
+    @Test
+    void dropsProjectilesBeyondCapacity() {
+        assertTrue(pool.spawn(0, 0, SPEED_4, 0, DMG_5));
+        assertTrue(pool.spawn(0, 0, SPEED_4, 0, DMG_5));
+        assertFalse(pool.spawn(0, 0, SPEED_4, 0, DMG_5));
+        assertEquals(CAPACITY_2, pool.size());
+    }
+
+    @Test
+    void movesFreelyAndStopsAtSolidTiles() {
+        pool.spawn(X_10, 0, SPEED_4, 0, DMG_5);
+        pool.spawn(X_63, 0, SPEED_4, 0, DMG_7);
+
+        pool.move(new ProjectileTest.SolidAtMap(SOLID_COL_2, SOLID_ROW_0));
+
+        assertEquals(X_14, pool.getX(0));
+        assertTrue(pool.isAlive(0));
+        assertEquals(X_63, pool.getX(1), "A projectile hitting a wall does not move");
+        assertFalse(pool.isAlive(1));
+    }
+
+    @Test
+    void projectileLeavingTheMapIsDeactivated() {
+        pool.spawn(X_10, 0, 0, -2 * SPEED_4, DMG_5);
+        pool.spawn(X_10, 0, SPEED_4, 0, DMG_7);
+
+        pool.move(new ProjectileTest.SolidAtMap(-1, -1));
+
+        assertFalse(pool.isAlive(0), "Nothing outside the map would ever stop the projectile");
+        assertTrue(pool.isAlive(1));
+    }
+
+    @Test
+    void removeMovesLastProjectileIntoTheFreedSlot() {
+        pool.spawn(X_10, 0, SPEED_4, 0, DMG_5);
+        pool.spawn(X_63, 0, SPEED_4, 0, DMG_7);
+
+        pool.remove(0);
+
+        assertEquals(1, pool.size());
+        assertEquals(X_63, pool.getX(0));
+        assertEquals(DMG_7, pool.getDamage(0));
+    }
+
+    @Test
+    void fastProjectileDoesNotTunnelThroughWalls() {
+        pool.spawn(X_10, 0, FAST_SPEED_100, 0, DMG_5);
+
+        pool.move(new ProjectileTest.SolidAtMap(SOLID_COL_2, SOLID_ROW_0));
+
+        assertFalse(pool.isAlive(0), "The path crosses the solid tile even if the destination is free");
+        assertEquals(X_10, pool.getX(0));
+    }
+
+    @Test
+    void sweptHitFindsTargetsBetweenTicks() {
+        pool.spawn(0, 0, FAST_SPEED_100, 0, DMG_5);
+        pool.move(new ProjectileTest.EmptyMap());
+
+        assertEquals(EXPECTED_HIT_TIME,
+                pool.hitTime(0, ENEMY_MIN_X_40, 0, ENEMY_MAX_X_50, ENEMY_SIZE_10), EPSILON);
+        assertEquals(Double.POSITIVE_INFINITY,
+                pool.hitTime(0, ENEMY_MIN_X_40, ENEMY_SIZE_10, ENEMY_MAX_X_50, 2 * ENEMY_SIZE_10),
+                "A box below the path is never hit");
+    }
+}
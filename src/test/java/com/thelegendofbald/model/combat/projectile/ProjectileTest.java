@@ -1,7 +1,6 @@
 package com.thelegendofbald.model.combat.projectile;
 
 import com.thelegendofbald.combat.Projectile;
-import com.thelegendofbald.view.render.Tile;
 import com.thelegendofbald.view.render.TileMap;
 import org.junit.jupiter.api.Test;
 
@@ -12,10 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 class ProjectileTest {
 
     private static final int TILE_SIZE_32 = 32;
-    private static final int TILE_WIDTH_32 = 32;
-    private static final int TILE_HEIGHT_32 = 32;
-    private static final int TILE_ID_1 = 1;
-    private static final int TILE_ID_0 = 0;
+    private static final int MAP_TILES_10 = 10;
 
     private static final int X_10 = 10;
     private static final int Y_20 = 20;
@@ -77,8 +73,8 @@ class ProjectileTest {
         }
 
         @Override
-        public Tile getTileAt(final int x, final int y) {
-            return null; 
+        public boolean isSolidAt(final int x, final int y) {
+            return false;
         }
     }
 
@@ -91,6 +87,7 @@ class ProjectileTest {
             super(0, 0, TILE_SIZE_32);
             this.solidX = solidX;
             this.solidY = solidY;
+            loadMapData(new int[MAP_TILES_10][MAP_TILES_10]);
         }
 
         public int getSolidX() {
@@ -102,31 +99,8 @@ class ProjectileTest {
         }
 
         @Override
-        public Tile getTileAt(final int x, final int y) {
-            if (x == this.solidX && y == this.solidY) {
-                return new Tile(
-                    null,
-                    TILE_WIDTH_32,
-                    TILE_HEIGHT_32,
-                    TILE_ID_1,
-                    true,
-                    false,
-                    false,
-                    true,
-                    null
-                );
-            }
-            return new Tile(
-                null,
-                TILE_WIDTH_32,
-                TILE_HEIGHT_32,
-                TILE_ID_0,
-                false,
-                false,
-                false,
-                true,
-                null
-            );
+        public boolean isSolidAt(final int x, final int y) {
+            return x == this.solidX && y == this.solidY;
         }
     }
 }
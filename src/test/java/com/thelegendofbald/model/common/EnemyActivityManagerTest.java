@@ -0,0 +1,83 @@
+package com.thelegendofbald.model.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.entity.DummyEnemy;
+import com.thelegendofbald.model.system.EnemyActivityManager;
+import com.thelegendofbald.model.system.EnemyActivityManager.Activity;
+import com.thelegendofbald.view.render.TileMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EnemyActivityManagerTest {
+
+    private static final int TILE_SIZE = 32;
+    private static final int HEALTH = 30;
+    private static final int ATTACK = 5;
+    private static final int NEAR_X = 150;
+    private static final int MID_X = 350;
+    private static final int FAR_X = 2000;
+    private static final int LETHAL_DAMAGE = 100;
+
+    private List<DummyEnemy> enemies;
+    private EnemyActivityManager manager;
+    private Bald bald;
+    private DummyEnemy near;
+    private DummyEnemy mid;
+    private DummyEnemy far;
+
+    @BeforeEach
+    void setUp() {
+        final TileMap map = new TileMap(0, 0, TILE_SIZE);
+        near = new DummyEnemy(NEAR_X, 0, HEALTH, "near", ATTACK, map);
+        mid = new DummyEnemy(MID_X, 0, HEALTH, "mid", ATTACK, map);
+        far = new DummyEnemy(FAR_X, 0, HEALTH, "far", ATTACK, map);
+        enemies = new ArrayList<>(List.of(near, mid, far));
+        manager = new EnemyActivityManager(enemies, TILE_SIZE);
+        manager.reset();
+        bald = new Bald(0, 0, HEALTH, "Hero", ATTACK);
+    }
+
+    @Test
+    void testActivityDependsOnDistanceFromBald() {
+        manager.update(bald);
+
+        assertEquals(List.of(near), manager.getActiveEnemies());
+        assertEquals(Activity.ACTIVE, manager.getActivity(near));
+        assertEquals(Activity.IDLE, manager.getActivity(mid));
+        assertEquals(Activity.ASLEEP, manager.getActivity(far));
+    }
+
+    @Test
+    void testSleepingEnemiesWakeUpWhenHit() {
+        manager.update(bald);
+        far.takeDamage(1);
+        manager.wake(far);
+        manager.update(bald);
+
+        assertTrue(manager.getActiveEnemies().contains(far), "A hurt enemy plays its animation even if far");
+    }
+
+    @Test
+    void testDeadEnemiesAreRemovedFromTheLevel() {
+        manager.update(bald);
+        near.takeDamage(LETHAL_DAMAGE);
+        manager.updateIndex();
+        final List<DummyEnemy> found = new ArrayList<>();
+        manager.query(NEAR_X, 0, 1, 1, found);
+        assertTrue(found.isEmpty(), "Dying enemies leave the combat index");
+
+        while (!near.isRemovable()) {
+            near.updateAnimation();
+        }
+        manager.update(bald);
+
+        assertFalse(enemies.contains(near));
+        assertEquals(2, enemies.size());
+    }
+}
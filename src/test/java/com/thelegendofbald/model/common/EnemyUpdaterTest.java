@@ -0,0 +1,66 @@
+package com.thelegendofbald.model.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.thelegendofbald.model.entity.Bald;
+import com.thelegendofbald.model.entity.DummyEnemy;
+import com.thelegendofbald.model.system.EnemyUpdater;
+import com.thelegendofbald.view.render.TileMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+class EnemyUpdaterTest {
+
+    private static final int TILE_SIZE = 32;
+    private static final int ENEMY_COUNT = 300;
+    private static final int TICKS = 100;
+    private static final int WORKERS = 4;
+    private static final int HEALTH = 30;
+    private static final int ATTACK = 5;
+    private static final int SPREAD = 37;
+    private static final int WALL_COLUMN = 6;
+
+    @Test
+    void testParallelUpdateMatchesSequentialUpdate() {
+        final Bald bald = new Bald(TILE_SIZE * WALL_COLUMN * 2, TILE_SIZE, HEALTH, "Hero", ATTACK);
+        final List<DummyEnemy> sequential = spawnEnemies();
+        final List<DummyEnemy> parallel = spawnEnemies();
+
+        final EnemyUpdater sequentialUpdater = new EnemyUpdater(1);
+        final EnemyUpdater parallelUpdater = new EnemyUpdater(WORKERS);
+        for (int tick = 0; tick < TICKS; tick++) {
+            sequentialUpdater.update(sequential, bald, null);
+            parallelUpdater.update(parallel, bald, null);
+        }
+
+        for (int i = 0; i < ENEMY_COUNT; i++) {
+            assertEquals(sequential.get(i).getX(), parallel.get(i).getX());
+            assertEquals(sequential.get(i).getY(), parallel.get(i).getY());
+            assertEquals(sequential.get(i).isFacingRight(), parallel.get(i).isFacingRight());
+        }
+    }
+
+    private static List<DummyEnemy> spawnEnemies() {
+        final TileMap map = new WallMap();
+        final List<DummyEnemy> enemies = new ArrayList<>();
+        for (int i = 0; i < ENEMY_COUNT; i++) {
+            enemies.add(new DummyEnemy(i * SPREAD % (WALL_COLUMN * TILE_SIZE), i * SPREAD % (TILE_SIZE * TILE_SIZE),
+                    HEALTH, "enemy" + i, ATTACK, map));
+        }
+        return enemies;
+    }
+
+    /** Fake TileMap with a solid column between the enemies and Bald. */
+    private static final class WallMap extends TileMap {
+
+        WallMap() {
+            super(0, 0, TILE_SIZE);
+        }
+
+        @Override
+        public boolean isSolidAt(final int x, final int y) {
+            return x == WALL_COLUMN;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.thelegendofbald.model.common;
+
+import java.util.BitSet;
+
+import com.thelegendofbald.model.system.FlowField;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class FlowFieldTest {
+
+    private static final int TILE_SIZE = 32;
+    private static final int MAX_STEPS = 20;
+    private static final int TARGET_COL_5 = 5;
+    private static final int TARGET_ROW_2 = 2;
+    private static final int TARGET_ROW_4 = 4;
+
+    private static final String[] WALL = {
+        ".......",
+        "...#...",
+        "...#...",
+        "...#...",
+        ".......",
+    };
+
+    private static final String[] NARROW_GAP = {
+        "......",
+        "......",
+        "##.###",
+        "......",
+        "......",
+    };
+
+    @Test
+    void testAgentsWalkAroundWalls() {
+        final FlowField field = build(WALL, TARGET_COL_5, TARGET_ROW_2, 1);
+        int x = TILE_SIZE;
+        int y = 2 * TILE_SIZE;
+
+        int steps = 0;
+        while (field.canGuide(x, y) && steps++ < MAX_STEPS) {
+            final int nextX = field.getWaypointX(x, y);
+            final int nextY = field.getWaypointY(x, y);
+            assertEquals(1, Math.max(Math.abs(nextX - x), Math.abs(nextY - y)) / TILE_SIZE,
+                    "Every step leads to a neighbouring cell");
+            x = nextX;
+            y = nextY;
+            assertEquals('.', WALL[y / TILE_SIZE].charAt(x / TILE_SIZE), "The path never enters a wall");
+        }
+
+        assertEquals(TARGET_COL_5 * TILE_SIZE, x);
+        assertEquals(TARGET_ROW_2 * TILE_SIZE, y);
+    }
+
+    @Test
+    void testLargeAgentsDoNotFitThroughNarrowGaps() {
+        assertTrue(build(NARROW_GAP, 0, TARGET_ROW_4, 1).canGuide(0, 0));
+        assertFalse(build(NARROW_GAP, 0, TARGET_ROW_4, 2).canGuide(0, 0));
+    }
+
+    @Test
+    void testMovesAreClampedToTheSpeed() {
+        assertEquals(1.0, FlowField.approach(0, TILE_SIZE, 1.0));
+        assertEquals(-2.0, FlowField.approach(TILE_SIZE, 0, 2.0));
+        assertEquals(0.0, FlowField.approach(TILE_SIZE, TILE_SIZE, 1.0));
+    }
+
+    private static FlowField build(final String[] rows, final int targetCol, final int targetRow,
+            final int clearance) {
+        final int cols = rows[0].length();
+        final BitSet solid = new BitSet();
+        for (int row = 0; row < rows.length; row++) {
+            for (int col = 0; col < cols; col++) {
+                solid.set(row * cols + col, rows[row].charAt(col) == '#');
+            }
+        }
+        return FlowField.build(solid, cols, rows.length, TILE_SIZE, targetCol, targetRow, clearance);
+    }
+}
@@ -0,0 +1,66 @@
+package com.thelegendofbald.model.common;
+
+import com.thelegendofbald.model.system.FrameProfiler;
+import com.thelegendofbald.model.system.FrameProfiler.Phase;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FrameProfilerTest {
+
+    private static final int WINDOW = 8;
+    private static final int LAPS = 20;
+
+    private FrameProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new FrameProfiler(WINDOW);
+    }
+
+    @Test
+    void testDisabledProfilerRecordsNothing() {
+        final long start = profiler.start();
+        profiler.lap(Phase.INPUT, start);
+
+        assertEquals(0L, start);
+        assertEquals(0, profiler.getSampleCount(Phase.INPUT));
+        assertEquals(0L, profiler.getP99(Phase.INPUT));
+    }
+
+    @Test
+    void testLapsRecordTheEndedPhaseOnly() {
+        profiler.setEnabled(true);
+        long start = profiler.start();
+        start = profiler.lap(Phase.INPUT, start);
+        profiler.lap(Phase.MOVEMENT, start);
+
+        assertEquals(1, profiler.getSampleCount(Phase.INPUT));
+        assertEquals(1, profiler.getSampleCount(Phase.MOVEMENT));
+        assertEquals(0, profiler.getSampleCount(Phase.ITEMS));
+    }
+
+    @Test
+    void testWindowKeepsLatestSamples() {
+        profiler.setEnabled(true);
+        for (int i = 0; i < LAPS; i++) {
+            profiler.lap(Phase.FRAME, profiler.start());
+        }
+
+        assertEquals(WINDOW, profiler.getSampleCount(Phase.FRAME));
+        final long[] samples = new long[WINDOW];
+        assertEquals(WINDOW, profiler.copySamples(Phase.FRAME, samples));
+        assertTrue(profiler.getMin(Phase.FRAME) <= profiler.getAverage(Phase.FRAME));
+        assertTrue(profiler.getAverage(Phase.FRAME) <= profiler.getP99(Phase.FRAME));
+    }
+
+    @Test
+    void testClearDiscardsSamples() {
+        profiler.setEnabled(true);
+        profiler.lap(Phase.COMBAT, profiler.start());
+        profiler.clear();
+
+        assertEquals(0, profiler.getSampleCount(Phase.COMBAT));
+    }
+}
@@ -0,0 +1,56 @@
+package com.thelegendofbald.model.common;
+
+import com.thelegendofbald.model.system.Cooldown;
+import com.thelegendofbald.model.system.GameClock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GameClockTest {
+
+    private static final long START = 1_000_000L;
+    private static final int TICKS = 60;
+    private static final long COOLDOWN_MS = 500;
+
+    @AfterEach
+    void tearDown() {
+        GameClock.reset(0);
+    }
+
+    @Test
+    void testTimeOnlyMovesWithTicks() {
+        GameClock.reset(START);
+        assertEquals(START, GameClock.now());
+
+        for (int i = 0; i < TICKS; i++) {
+            GameClock.advance(GameClock.TICK_NANOS);
+        }
+        assertEquals(START + 999, GameClock.now());
+    }
+
+    @Test
+    void testResetCancelsPendingTimers() {
+        final boolean[] fired = new boolean[1];
+        GameClock.timers().schedule(COOLDOWN_MS, () -> fired[0] = true);
+
+        GameClock.reset(START);
+        GameClock.advance(COOLDOWN_MS * 2_000_000L);
+
+        assertFalse(fired[0]);
+        assertEquals(0, GameClock.timers().size());
+    }
+
+    @Test
+    void testCooldownFollowsGameTime() {
+        GameClock.reset(START);
+        final Cooldown cooldown = new Cooldown(COOLDOWN_MS);
+        assertTrue(cooldown.tryStart());
+        assertFalse(cooldown.tryStart());
+        assertEquals(COOLDOWN_MS, cooldown.getRemainingMillis());
+
+        GameClock.advance(COOLDOWN_MS * 1_000_000L);
+        assertTrue(cooldown.isReady());
+    }
+}
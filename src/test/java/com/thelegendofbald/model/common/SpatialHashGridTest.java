@@ -0,0 +1,78 @@
+package com.thelegendofbald.model.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.thelegendofbald.model.system.SpatialHashGrid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpatialHashGridTest {
+
+    private static final int CELL_SIZE = 32;
+
+    private SpatialHashGrid<String> grid;
+    private List<String> result;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHashGrid<>(CELL_SIZE);
+        result = new ArrayList<>();
+    }
+
+    @Test
+    void testQueryReturnsOnlyOverlappingElementsOnce() {
+        grid.insert("near", 10, 10, 50, 50);
+        grid.insert("far", 500, 500, 10, 10);
+
+        grid.query(0, 0, 100, 100, result);
+
+        assertEquals(List.of("near"), result);
+    }
+
+    @Test
+    void testTouchingEdgesDoNotOverlap() {
+        grid.insert("a", 0, 0, 32, 32);
+
+        grid.query(32, 0, 10, 10, result);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testUpdateMovesElement() {
+        final int handle = grid.insert("moving", 0, 0, 10, 10);
+        grid.update(handle, 200, 200, 10, 10);
+
+        grid.query(0, 0, 20, 20, result);
+        assertTrue(result.isEmpty());
+
+        grid.query(195, 195, 20, 20, result);
+        assertEquals(List.of("moving"), result);
+    }
+
+    @Test
+    void testRemoveAndNegativeCoordinates() {
+        final int handle = grid.insert("a", -40, -40, 20, 20);
+        grid.insert("b", -35, -35, 5, 5);
+        grid.remove(handle);
+
+        grid.query(-50, -50, 30, 30, result);
+
+        assertEquals(List.of("b"), result);
+        assertEquals(1, grid.size());
+    }
+
+    @Test
+    void testResultsFollowInsertionOrder() {
+        grid.insert("first", 100, 100, 10, 10);
+        grid.insert("second", 0, 0, 10, 10);
+        grid.insert("third", 50, 50, 10, 10);
+
+        grid.query(0, 0, 5000, 5000, result);
+
+        assertEquals(List.of("first", "second", "third"), result);
+    }
+}
@@ -0,0 +1,109 @@
+package com.thelegendofbald.model.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.thelegendofbald.model.system.TimerWheel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+
+    private static final long TICK_NANOS = 1_000_000L;
+
+    private TimerWheel wheel;
+    private List<Long> fired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimerWheel(TICK_NANOS);
+        fired = new ArrayList<>();
+    }
+
+    private void schedule(final long delay) {
+        wheel.schedule(delay, () -> fired.add(wheel.now()));
+    }
+
+    private void tick(final int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.advance(TICK_NANOS);
+        }
+    }
+
+    @Test
+    void testTimerFiresOnItsTick() {
+        schedule(5);
+        tick(4);
+        assertTrue(fired.isEmpty());
+        tick(1);
+        assertEquals(List.of(5L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testLongDelaysCascadeThroughLevels() {
+        final long[] delays = {63, 64, 65, 4095, 4096, 300_000};
+        for (final long delay : delays) {
+            schedule(delay);
+        }
+        tick(300_000);
+        assertEquals(List.of(63L, 64L, 65L, 4095L, 4096L, 300_000L), fired);
+    }
+
+    @Test
+    void testCancelledTimerDoesNotFire() {
+        final TimerWheel.Timeout timeout = wheel.schedule(10, () -> fired.add(wheel.now()));
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.isPending());
+        assertFalse(timeout.cancel());
+        tick(20);
+        assertTrue(fired.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testTimerScheduledWhileFiringRunsLater() {
+        wheel.schedule(2, () -> schedule(3));
+        tick(4);
+        assertTrue(fired.isEmpty());
+        tick(1);
+        assertEquals(List.of(5L), fired);
+    }
+
+    @Test
+    void testNothingFiresWithoutAdvancing() {
+        schedule(0);
+        assertTrue(fired.isEmpty());
+        assertEquals(1, wheel.size());
+        tick(1);
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void testLargeAdvanceFiresInOrder() {
+        schedule(200);
+        schedule(7);
+        wheel.advance(TICK_NANOS * 1000);
+        assertEquals(List.of(1000L, 1000L), fired);
+        assertEquals(1000, wheel.now());
+    }
+
+    @Test
+    void testAdvanceAfterIdleKeepsDelaysRelative() {
+        tick(1000);
+        schedule(10);
+        tick(9);
+        assertTrue(fired.isEmpty());
+        tick(1);
+        assertEquals(List.of(1010L), fired);
+    }
+
+    @Test
+    void testInvalidTickLength() {
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel(0));
+    }
+}
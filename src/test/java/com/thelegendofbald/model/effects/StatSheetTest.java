@@ -0,0 +1,82 @@
+package com.thelegendofbald.model.effects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.thelegendofbald.combat.effect.StatKey;
+import com.thelegendofbald.combat.effect.StatModifier;
+import com.thelegendofbald.combat.effect.StatSheet;
+import com.thelegendofbald.combat.effect.StatusEffectManager;
+import com.thelegendofbald.combat.effect.StrengthBuff;
+import com.thelegendofbald.model.entity.Bald;
+
+/**
+ * Unit tests for StatSheet class.
+ *
+ * These tests cover the combination of base values and modifiers,
+ * and the stats of a Bald character while effects come and go.
+ */
+class StatSheetTest {
+
+    private static final double DELTA = 1e-9;
+    private static final int BASE_ATTACK = 10;
+    private static final int BONUS = 4;
+    private static final double FACTOR = 1.5;
+
+    @Test
+    void newSheetHasDefaultValues() {
+        final StatSheet sheet = new StatSheet();
+        for (final StatKey key : StatKey.values()) {
+            assertEquals(key.getDefaultValue(), sheet.get(key), DELTA);
+        }
+    }
+
+    @Test
+    void amountsAreAddedBeforeMultipliers() {
+        final StatSheet sheet = new StatSheet();
+        sheet.setBase(StatKey.ATTACK_POWER, BASE_ATTACK);
+        sheet.addModifiers(List.of(StatModifier.multiply(StatKey.ATTACK_POWER, FACTOR)));
+        sheet.addModifiers(List.of(StatModifier.add(StatKey.ATTACK_POWER, BONUS)));
+
+        assertEquals((BASE_ATTACK + BONUS) * FACTOR, sheet.get(StatKey.ATTACK_POWER), DELTA);
+        assertEquals(StatKey.SPEED.getDefaultValue(), sheet.get(StatKey.SPEED), DELTA);
+    }
+
+    @Test
+    void removingModifiersRestoresBaseValue() {
+        final StatSheet sheet = new StatSheet();
+        final List<StatModifier> modifiers = List.of(StatModifier.add(StatKey.DEFENSE, BONUS),
+                StatModifier.multiply(StatKey.SPEED, FACTOR));
+        sheet.addModifiers(modifiers);
+        sheet.removeModifiers(modifiers);
+
+        assertEquals(0, sheet.getModifierCount());
+        assertEquals(StatKey.DEFENSE.getDefaultValue(), sheet.get(StatKey.DEFENSE), DELTA);
+        assertEquals(StatKey.SPEED.getDefaultValue(), sheet.get(StatKey.SPEED), DELTA);
+    }
+
+    @Test
+    void baldAttackPowerFollowsEffects() {
+        final Bald bald = new Bald(0, 0, 100, "test-bald", BASE_ATTACK);
+        bald.applyBuff(new StrengthBuff(0L, BONUS));
+        assertEquals(BASE_ATTACK + BONUS, bald.getAttackPower());
+
+        bald.setAttackPower(BASE_ATTACK * 2);
+        assertEquals(BASE_ATTACK * 2 + BONUS, bald.getAttackPower());
+
+        bald.updateBuffs();
+        assertEquals(BASE_ATTACK * 2, bald.getAttackPower());
+    }
+
+    @Test
+    void replacedEffectLeavesItsModifiers() {
+        final Bald bald = new Bald(0, 0, 100, "test-bald", BASE_ATTACK);
+        final StatusEffectManager mgr = new StatusEffectManager(bald);
+        mgr.applyEffect(new StrengthBuff(60_000L, BONUS));
+        mgr.applyEffect(new StrengthBuff(60_000L, 1));
+
+        assertEquals(1, mgr.getStats().getModifierCount());
+        assertEquals(BASE_ATTACK + 1, mgr.modifyAttackPower(BASE_ATTACK));
+    }
+}
@@ -81,6 +81,23 @@ class StatusEffectManagerTest {
         assertTrue(active.isEmpty());
     }
 
+    @Test
+    void clearEffectsRemovesEveryEffectAndItsModifiers() {
+        final Bald owner = makeBald();
+        final StatusEffectManager mgr = new StatusEffectManager(owner);
+        final StrengthBuff strength = new StrengthBuff(EFFECT_DURATION, 3);
+        final PoisonDebuff poison = new PoisonDebuff(EFFECT_DURATION, POISON_DAMAGE, EFFECT_INTERVAL);
+        mgr.applyEffect(strength);
+        mgr.applyEffect(poison);
+
+        mgr.clearEffects();
+
+        assertTrue(mgr.getactiveEffects().isEmpty());
+        assertFalse(strength.isActive());
+        assertFalse(poison.isActive());
+        assertEquals(10, mgr.modifyAttackPower(10));
+    }
+
     @Test
     void modifyAttackPowerAppliesAllEffectModifiersInOrder() {
         final Bald owner = makeBald();
@@ -0,0 +1,72 @@
+package com.thelegendofbald.view.main;
+
+import java.awt.Rectangle;
+import java.util.List;
+
+import com.thelegendofbald.view.render.DirtyRegionTracker;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DirtyRegionTrackerTest {
+
+    private static final int WIDTH = 1000;
+    private static final int HEIGHT = 800;
+    private static final int SIZE = 20;
+
+    private DirtyRegionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new DirtyRegionTracker();
+        tracker.flush(WIDTH, HEIGHT);
+        tracker.flush(WIDTH, HEIGHT);
+    }
+
+    @Test
+    void testFirstFlushIsFullRedraw() {
+        final List<Rectangle> regions = new DirtyRegionTracker().flush(WIDTH, HEIGHT);
+        assertEquals(List.of(new Rectangle(0, 0, WIDTH, HEIGHT)), regions);
+    }
+
+    @Test
+    void testOverlappingRegionsAreMerged() {
+        tracker.mark(0, 0, SIZE, SIZE);
+        tracker.mark(SIZE / 2, SIZE / 2, SIZE, SIZE);
+        tracker.mark(SIZE * 10, SIZE * 10, SIZE, SIZE);
+        tracker.mark(SIZE + SIZE / 4, SIZE + SIZE / 4, SIZE, SIZE);
+
+        final List<Rectangle> regions = tracker.flush(WIDTH, HEIGHT);
+        assertEquals(2, regions.size());
+        assertTrue(regions.contains(new Rectangle(0, 0, SIZE * 9 / 4, SIZE * 9 / 4)));
+        assertTrue(regions.contains(new Rectangle(SIZE * 10, SIZE * 10, SIZE, SIZE)));
+    }
+
+    @Test
+    void testMergedRegionIsMergedWithEarlierOnes() {
+        tracker.mark(0, 15, 10, 10);
+        tracker.mark(5, 0, 10, 5);
+        tracker.mark(14, 0, 5, 30);
+
+        assertEquals(List.of(new Rectangle(0, 0, 19, 30)), tracker.flush(WIDTH, HEIGHT));
+    }
+
+    @Test
+    void testPreviousFrameIsRepaintedAndRegionsAreClipped() {
+        tracker.mark(-SIZE, -SIZE, SIZE * 2, SIZE * 2);
+        tracker.flush(WIDTH, HEIGHT);
+        tracker.mark(WIDTH - SIZE, 0, Integer.MAX_VALUE, SIZE);
+
+        final List<Rectangle> regions = tracker.flush(WIDTH, HEIGHT);
+        assertEquals(2, regions.size());
+        assertTrue(regions.contains(new Rectangle(0, 0, SIZE, SIZE)));
+        assertTrue(regions.contains(new Rectangle(WIDTH - SIZE, 0, SIZE, SIZE)));
+    }
+
+    @Test
+    void testLargeChangesBecomeFullRedraw() {
+        tracker.mark(0, 0, WIDTH, HEIGHT * 3 / 4);
+        assertEquals(List.of(new Rectangle(0, 0, WIDTH, HEIGHT)), tracker.flush(WIDTH, HEIGHT));
+    }
+}
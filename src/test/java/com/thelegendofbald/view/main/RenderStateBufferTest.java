@@ -0,0 +1,57 @@
+package com.thelegendofbald.view.main;
+
+import com.thelegendofbald.view.render.RenderState;
+import com.thelegendofbald.view.render.RenderStateBuffer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RenderStateBufferTest {
+
+    private static final int FIRST_FPS = 30;
+    private static final int SECOND_FPS = 60;
+
+    private RenderStateBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new RenderStateBuffer();
+    }
+
+    @Test
+    void testReaderSeesLatestPublishedState() {
+        buffer.getBackState().setFps(FIRST_FPS);
+        buffer.publish();
+        buffer.getBackState().setFps(SECOND_FPS);
+        buffer.publish();
+
+        assertEquals(SECOND_FPS, buffer.acquire().getFps());
+    }
+
+    @Test
+    void testReaderKeepsStateUntilNewOneIsPublished() {
+        buffer.getBackState().setFps(FIRST_FPS);
+        buffer.publish();
+        final RenderState front = buffer.acquire();
+
+        assertSame(front, buffer.acquire());
+        final RenderState back = buffer.getBackState();
+        assertNotSame(front, back);
+        back.setFps(SECOND_FPS);
+
+        assertEquals(FIRST_FPS, buffer.acquire().getFps());
+    }
+
+    @Test
+    void testBackStateIsClearedBeforeReuse() {
+        buffer.getBackState().addOval(null, 0, 0, 0, 0, 1, 1);
+        buffer.publish();
+        buffer.acquire();
+        buffer.getBackState();
+        buffer.publish();
+
+        assertEquals(0, buffer.getBackState().getSpriteCount());
+    }
+}
@@ -2,23 +2,25 @@ package com.thelegendofbald.view.main;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.Point;
 import java.awt.image.BufferedImage;
-import java.lang.reflect.Field;
 import java.util.List;
-import java.util.Map;
 
-import com.thelegendofbald.view.render.Tile;
+import com.thelegendofbald.view.render.RenderState;
 import com.thelegendofbald.view.render.TileMap;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 /**
  * Test class for {@link TileMap}.
- * Uses reflection to inject custom tile configurations for unit testing logic.
+ * Loads small custom maps through {@code loadMapData} to unit test the lookup logic.
  */
 class TileMapTest {
 
@@ -29,6 +31,7 @@ class TileMapTest {
     private static final int ID_EMPTY = 0;
     private static final int ID_WALL = 2;
     private static final int ID_SPAWN = 5;
+    private static final int ID_UNKNOWN = 42;
     private static final int ID_OUT_OF_BOUNDS = -1;
 
     private static final int OUT_OF_BOUNDS_X = 99_999;
@@ -37,40 +40,6 @@ class TileMapTest {
     private static final int PAINT_WIDTH = 160;
     private static final int PAINT_HEIGHT = 96;
 
-    /**
-     * Helper method to access the private 'tileTypes' map via reflection.
-     *
-     * @param map the TileMap instance
-     * @return the internal map of ID to Tile objects
-     */
-    @SuppressWarnings("PMD.AvoidAccessibilityAlteration")
-    private static Map<Integer, Tile> getTileTypes(final TileMap map) {
-        try {
-            final Field f = TileMap.class.getDeclaredField("tileTypes");
-            f.setAccessible(true);
-            return (Map<Integer, Tile>) f.get(map);
-        } catch (final ReflectiveOperationException e) {
-            throw new AssertionError("Failed to access tileTypes via reflection", e);
-        }
-    }
-
-    /**
-     * Helper method to inject a custom 2D Tile array into the map via reflection.
-     *
-     * @param map the TileMap instance
-     * @param tiles the 2D array of tiles to set
-     */
-    @SuppressWarnings("PMD.AvoidAccessibilityAlteration")
-    private static void setTiles(final TileMap map, final Tile[][] tiles) {
-        try {
-            final Field f = TileMap.class.getDeclaredField("tiles");
-            f.setAccessible(true);
-            f.set(map, tiles);
-        } catch (final ReflectiveOperationException e) {
-            throw new AssertionError("Failed to set tiles via reflection", e);
-        }
-    }
-
     /**
      * Verifies that {@code getTileIdAt} correctly resolves pixel coordinates to tile IDs,
      * handles out-of-bounds coordinates, and that {@code findSpawnPoint} locates the specific ID.
@@ -81,16 +50,10 @@ class TileMapTest {
         final TileMap map = new TileMap(MAP_WIDTH, MAP_HEIGHT, TILE_SIZE);
         map.changeMap(null);
 
-        final Map<Integer, Tile> types = getTileTypes(map);
-        final Tile empty = types.get(ID_EMPTY);
-        final Tile wall = types.get(ID_WALL);
-        final Tile spawn = types.get(ID_SPAWN);
-
-        final Tile[][] custom = {
-                {wall, empty, wall},
-                {empty, spawn, empty},
-        };
-        setTiles(map, custom);
+        map.loadMapData(new int[][] {
+                {ID_WALL, ID_EMPTY, ID_WALL},
+                {ID_EMPTY, ID_SPAWN, ID_EMPTY},
+        });
 
         assertEquals(ID_WALL, map.getTileIdAt(0, 0), "Should be Wall at (0,0)");
 
@@ -115,15 +78,10 @@ class TileMapTest {
         final TileMap map = new TileMap(MAP_WIDTH, MAP_HEIGHT, TILE_SIZE);
         map.changeMap(null);
 
-        final Map<Integer, Tile> types = getTileTypes(map);
-        final Tile wall = types.get(ID_WALL);
-        final Tile empty = types.get(ID_EMPTY);
-
-        final Tile[][] custom = {
-                {wall, empty, wall},
-                {empty, wall, empty},
-        };
-        setTiles(map, custom);
+        map.loadMapData(new int[][] {
+                {ID_WALL, ID_EMPTY, ID_WALL},
+                {ID_EMPTY, ID_WALL, ID_EMPTY},
+        });
 
         final List<Point> result = map.findAllWithId(ID_WALL);
 
@@ -134,6 +92,47 @@ class TileMapTest {
         assertTrue(result.contains(new Point(TILE_SIZE, TILE_SIZE)));
     }
 
+    /**
+     * Verifies that solid cells are reported by {@code isSolidAt} and shared
+     * tile flyweights are returned by {@code getTileAt}.
+     */
+    @Test
+    @DisplayName("isSolidAt reports walls and getTileAt returns shared tiles")
+    void isSolidAtMatchesWallTiles() {
+        final TileMap map = new TileMap(MAP_WIDTH, MAP_HEIGHT, TILE_SIZE);
+        map.loadMapData(new int[][] {
+                {ID_WALL, ID_EMPTY, ID_UNKNOWN},
+                {ID_EMPTY, ID_WALL, ID_EMPTY},
+        });
+
+        assertTrue(map.isSolidAt(0, 0));
+        assertTrue(map.isSolidAt(1, 1));
+        assertFalse(map.isSolidAt(1, 0));
+        assertFalse(map.isSolidAt(-1, 0), "Out of map cells are never solid");
+        assertFalse(map.isSolidAt(3, 0), "Out of map cells are never solid");
+        assertSame(map.getTileAt(0, 0), map.getTileAt(1, 1));
+        assertNull(map.getTileAt(2, 0), "Unknown IDs leave the cell empty");
+        assertEquals(ID_OUT_OF_BOUNDS, map.getTileId(2, 0));
+    }
+
+    /**
+     * Verifies that lookups by id answer in row-major order and ignore unknown IDs.
+     */
+    @Test
+    @DisplayName("id lookups return cells in row-major order")
+    void idLookupsFollowRowMajorOrder() {
+        final TileMap map = new TileMap(MAP_WIDTH, MAP_HEIGHT, TILE_SIZE);
+        map.loadMapData(new int[][] {
+                {ID_EMPTY, ID_UNKNOWN, ID_SPAWN},
+                {ID_SPAWN, ID_EMPTY, ID_EMPTY},
+        });
+
+        assertEquals(new Point(2 * TILE_SIZE, 0), map.findSpawnPoint(ID_SPAWN));
+        assertEquals(List.of(new Point(2 * TILE_SIZE, 0), new Point(0, TILE_SIZE)), map.findAllWithId(ID_SPAWN));
+        assertTrue(map.findAllWithId(ID_UNKNOWN).isEmpty(), "Unknown IDs are not indexed");
+        assertNull(map.findSpawnPoint(ID_WALL));
+    }
+
     /**
      * Smoke test to ensure the paint method runs without throwing exceptions on a dummy graphics context.
      */
@@ -148,4 +147,28 @@ class TileMapTest {
 
         assertDoesNotThrow(() -> map.paint(surface.createGraphics()));
     }
+
+    @Test
+    @DisplayName("A render state is painted over the map it was taken from")
+    void paintingAStateIgnoresLaterMapChanges() {
+        final TileMap map = new TileMap(MAP_WIDTH, MAP_HEIGHT, TILE_SIZE);
+        map.loadMapData(new int[][] {{ID_WALL}});
+        final int wall = paintedPixel(map, null);
+        final RenderState state = new RenderState();
+        map.writeRenderState(state);
+
+        map.loadMapData(new int[][] {{ID_EMPTY}});
+        assertNotEquals(wall, paintedPixel(map, null), "The live map has no wall anymore");
+        assertEquals(wall, paintedPixel(map, state));
+    }
+
+    private static int paintedPixel(final TileMap map, final RenderState state) {
+        final BufferedImage surface = new BufferedImage(PAINT_WIDTH, PAINT_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        if (state == null) {
+            map.paint(surface.createGraphics());
+        } else {
+            map.paint(surface.createGraphics(), state);
+        }
+        return surface.getRGB(TILE_SIZE / 2, TILE_SIZE / 2);
+    }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.Color;
@@ -13,6 +14,7 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import com.thelegendofbald.view.render.Tile;
+import com.thelegendofbald.view.render.TileImage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -209,4 +211,23 @@ class TileTest {
         assertNotEquals(a, null);
         assertNotEquals(a, "not a tile");
     }
+
+    /**
+     * Verifies that tiles built from a {@link TileImage} handle share it without
+     * copying, while the getters keep returning defensive copies.
+     */
+    @Test
+    @DisplayName("Handle constructor shares images without copying")
+    void handleConstructorSharesImage() {
+        final TileImage shared = TileImage.of(makeImg(SMALL_SIZE, SMALL_SIZE, Color.GREEN),
+                TARGET_WIDTH_32, TARGET_HEIGHT_24, true);
+        final Tile a = new Tile(shared, TARGET_WIDTH_32, TARGET_HEIGHT_24, ID_TEST, false, false, true, null);
+        final Tile b = new Tile(shared, TARGET_WIDTH_32, TARGET_HEIGHT_24, ID_EQUALITY, true, false, false, shared);
+
+        assertSame(shared, a.getImageHandle());
+        assertSame(a.getImageHandle(), b.getImageHandle());
+        assertSame(shared, b.getOverlayHandle());
+        assertEquals(TARGET_WIDTH_32, a.getImage().getWidth());
+        assertNotSame(a.getImage(), b.getImage());
+    }
 }